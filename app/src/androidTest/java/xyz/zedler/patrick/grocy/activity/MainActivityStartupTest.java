@@ -0,0 +1,75 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.activity;
+
+import static org.junit.Assert.assertTrue;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.test.core.app.ActivityScenario;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import xyz.zedler.patrick.grocy.util.StartupUtil;
+
+/**
+ * Launches MainActivity and checks the startup timeline of StartupUtil: every step is reached,
+ * in order, and the work deferred with runAfterFirstDraw only starts after the first frame.
+ * The timeline is logged with the tag of this class.
+ * Its times are relative to the process start, which includes the setup of the test runner, so
+ * only the steps after onCreate are measured against a budget.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MainActivityStartupTest {
+
+  private static final String TAG = MainActivityStartupTest.class.getSimpleName();
+  private static final long TIMEOUT_MILLIS = 10000;
+  // from onCreate to the first frame, far above a cold start on a slow device
+  private static final long FIRST_DRAW_BUDGET_MILLIS = 5000;
+
+  @Test
+  public void startupTimeline() {
+    try (ActivityScenario<MainActivity> ignored = ActivityScenario.launch(MainActivity.class)) {
+      long timeout = SystemClock.elapsedRealtime() + TIMEOUT_MILLIS;
+      while (StartupUtil.getTime(StartupUtil.DEFERRED_INIT) < 0
+          && SystemClock.elapsedRealtime() < timeout) {
+        SystemClock.sleep(50);
+      }
+      Log.i(TAG, "startup: " + StartupUtil.getTimeline());
+
+      long onCreate = StartupUtil.getTime(StartupUtil.ON_CREATE);
+      long onCreateEnd = StartupUtil.getTime(StartupUtil.ON_CREATE_END);
+      long firstDraw = StartupUtil.getTime(StartupUtil.FIRST_DRAW);
+      long deferredInit = StartupUtil.getTime(StartupUtil.DEFERRED_INIT);
+      assertTrue("onCreate not reached", onCreate >= 0);
+      assertTrue("onCreate end not reached", onCreateEnd >= 0);
+      assertTrue("first draw not reached", firstDraw >= 0);
+      assertTrue("deferred init not reached", deferredInit >= 0);
+      assertTrue("onCreate end before onCreate", onCreateEnd >= onCreate);
+      assertTrue("first draw before the end of onCreate", firstDraw >= onCreateEnd);
+      assertTrue("deferred init before the first draw", deferredInit >= firstDraw);
+      assertTrue(
+          "first draw " + (firstDraw - onCreate) + " ms after onCreate",
+          firstDraw - onCreate <= FIRST_DRAW_BUDGET_MILLIS
+      );
+    }
+  }
+}
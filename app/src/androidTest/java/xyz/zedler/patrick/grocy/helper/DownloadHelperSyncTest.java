@@ -0,0 +1,232 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.app.Application;
+import android.app.Instrumentation;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.os.Build;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.preference.PreferenceManager;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.model.Location;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+import xyz.zedler.patrick.grocy.model.QuantityUnit;
+import xyz.zedler.patrick.grocy.model.StockItem;
+import xyz.zedler.patrick.grocy.model.VolatileItem;
+
+/**
+ * Runs DownloadHelper.updateData against the MockGrocyServer and checks the synced database.
+ * Wall time, requests, received bytes, allocated bytes and written rows of each sync are logged
+ * with the tag of this class.
+ * The tests run in a server profile of their own with a separate database, and the preferences
+ * are restored afterwards, so the offline data of the installed app is not touched.
+ */
+@RunWith(AndroidJUnit4.class)
+public class DownloadHelperSyncTest {
+
+  private static final String TAG = DownloadHelperSyncTest.class.getSimpleName();
+  private static final int PRODUCT_COUNT = 2000;
+  private static final long TIMEOUT_SECONDS = 60;
+  // far above the ids the app assigns, which start at 0 and fill gaps
+  private static final int TEST_SERVER_ID = 9999;
+
+  private Instrumentation instrumentation;
+  private SharedPreferences sharedPrefs;
+  private Map<String, ?> backupPrefs;
+  private MockGrocyServer server;
+  private DownloadHelper dlHelper;
+
+  @Before
+  public void setUp() throws IOException {
+    instrumentation = InstrumentationRegistry.getInstrumentation();
+    Application application = (Application) instrumentation.getTargetContext()
+        .getApplicationContext();
+    sharedPrefs = PreferenceManager.getDefaultSharedPreferences(application);
+    backupPrefs = new HashMap<>(sharedPrefs.getAll());
+    sharedPrefs.edit().putInt(PREF.ACTIVE_SERVER_ID, TEST_SERVER_ID).commit();
+    AppDatabase.destroyInstance();
+
+    server = new MockGrocyServer(PRODUCT_COUNT);
+    server.start();
+    dlHelper = new DownloadHelper(application, server.getUrl(), "api-key", TAG, null);
+    dlHelper.appDatabase.clearAllTables();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    instrumentation.runOnMainSync(() -> dlHelper.destroy());
+    server.shutdown();
+    dlHelper.appDatabase.clearAllTables();
+
+    SharedPreferences.Editor editor = sharedPrefs.edit().clear();
+    for (Map.Entry<String, ?> entry : backupPrefs.entrySet()) {
+      putValue(editor, entry.getKey(), entry.getValue());
+    }
+    editor.commit();
+    AppDatabase.destroyInstance();
+  }
+
+  @Test
+  public void syncStoresAllObjects() throws InterruptedException {
+    assertNull(sync("sync"));
+
+    AppDatabase appDatabase = dlHelper.appDatabase;
+    assertEquals(
+        server.getProductCount(),
+        appDatabase.productDao().getProducts().blockingGet().size()
+    );
+    assertEquals(
+        server.getProductCount(),
+        appDatabase.productBarcodeDao().getProductBarcodes().blockingGet().size()
+    );
+    assertEquals(
+        server.getQuantityUnitCount(),
+        appDatabase.quantityUnitDao().getQuantityUnits().blockingGet().size()
+    );
+    assertEquals(
+        server.getLocationCount(),
+        appDatabase.locationDao().getLocations().blockingGet().size()
+    );
+    assertEquals(
+        server.getProductCount() - server.getProductCount() / 3,
+        appDatabase.stockItemDao().getStockItems().blockingGet().size()
+    );
+  }
+
+  @Test
+  public void syncWithSlowServer() throws InterruptedException {
+    server.setDelay(300);
+    assertNull(sync("sync with 300 ms delay"));
+    assertEquals(
+        server.getProductCount(),
+        dlHelper.appDatabase.productDao().getProducts().blockingGet().size()
+    );
+  }
+
+  @Test
+  public void syncReportsFailingEndpoint() throws InterruptedException {
+    server.failPath("/api/objects/products");
+    assertNotNull(sync("sync with failing products"));
+  }
+
+  /**
+   * Runs a forced sync of the stock overview types and returns the error, or null on success.
+   */
+  private Object sync(String name) throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<Object> error = new AtomicReference<>();
+    long changesStart = getTotalChanges();
+    long allocatedStart = getAllocatedBytes();
+    long start = SystemClock.elapsedRealtime();
+    instrumentation.runOnMainSync(() -> dlHelper.updateData(
+        updated -> latch.countDown(),
+        e -> {
+          error.set(e);
+          latch.countDown();
+        },
+        true,
+        false,
+        QuantityUnit.class,
+        Location.class,
+        Product.class,
+        ProductBarcode.class,
+        StockItem.class,
+        VolatileItem.class
+    ));
+    assertTrue("sync timed out", latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    long time = SystemClock.elapsedRealtime() - start;
+    long allocated = getAllocatedBytes() - allocatedStart;
+    Log.i(TAG, name + ": " + time + " ms, "
+        + server.getRequestCount() + " requests, " + server.getBytesServed() + " bytes, "
+        + (allocatedStart >= 0 ? allocated + " bytes allocated, " : "")
+        + (getTotalChanges() - changesStart) + " rows written");
+    return error.get();
+  }
+
+  /**
+   * Rows inserted, updated or deleted on the connection which performs all writes.
+   */
+  private long getTotalChanges() {
+    SupportSQLiteDatabase db = dlHelper.appDatabase.getOpenHelper().getWritableDatabase();
+    // only transactions are guaranteed to use the primary connection
+    db.beginTransaction();
+    try (Cursor cursor = db.query("SELECT total_changes()")) {
+      cursor.moveToFirst();
+      return cursor.getLong(0);
+    } finally {
+      db.endTransaction();
+    }
+  }
+
+  /**
+   * Bytes allocated by all threads of the process since it was started, or -1 if the runtime
+   * doesn't provide this statistic.
+   */
+  private static long getAllocatedBytes() {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      return -1;
+    }
+    String bytes = Debug.getRuntimeStat("art.gc.bytes-allocated");
+    return bytes != null ? Long.parseLong(bytes) : -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void putValue(SharedPreferences.Editor editor, String key, Object value) {
+    if (value instanceof Boolean) {
+      editor.putBoolean(key, (Boolean) value);
+    } else if (value instanceof Float) {
+      editor.putFloat(key, (Float) value);
+    } else if (value instanceof Integer) {
+      editor.putInt(key, (Integer) value);
+    } else if (value instanceof Long) {
+      editor.putLong(key, (Long) value);
+    } else if (value instanceof String) {
+      editor.putString(key, (String) value);
+    } else if (value instanceof Set) {
+      editor.putStringSet(key, (Set<String>) value);
+    }
+  }
+}
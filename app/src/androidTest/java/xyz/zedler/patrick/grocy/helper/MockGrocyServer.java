@@ -0,0 +1,235 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.helper;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Local stand-in for a Grocy server with generated data. It serves the endpoints of a stock
+ * sync, all other object lists are empty. The response delay and failing paths can be set to
+ * test slow and broken servers.
+ */
+public class MockGrocyServer extends Dispatcher {
+
+  public static final String DB_CHANGED_TIME = "2024-01-01 12:00:00";
+  private static final long SEED = 42;
+
+  private final MockWebServer server = new MockWebServer();
+  private final HashMap<String, String> bodies = new HashMap<>();
+  private final Set<String> failingPaths = new HashSet<>();
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicLong bytesServed = new AtomicLong();
+  private final int productCount;
+  private final int quantityUnitCount;
+  private final int locationCount;
+  private volatile long delayMillis;
+
+  public MockGrocyServer(int productCount) {
+    this.productCount = productCount;
+    quantityUnitCount = Math.max(10, productCount / 50);
+    locationCount = 10;
+    generate();
+  }
+
+  public void start() throws IOException {
+    server.setDispatcher(this);
+    server.start();
+  }
+
+  public void shutdown() throws IOException {
+    server.shutdown();
+  }
+
+  /**
+   * Returns the server URL without trailing slash, like it is stored in the app.
+   */
+  public String getUrl() {
+    String url = server.url("/").toString();
+    return url.substring(0, url.length() - 1);
+  }
+
+  public void setDelay(long delayMillis) {
+    this.delayMillis = delayMillis;
+  }
+
+  /**
+   * Answers all requests to the path (without query) with HTTP 500.
+   */
+  public void failPath(String path) {
+    synchronized (failingPaths) {
+      failingPaths.add(path);
+    }
+  }
+
+  public int getProductCount() {
+    return productCount;
+  }
+
+  public int getQuantityUnitCount() {
+    return quantityUnitCount;
+  }
+
+  public int getLocationCount() {
+    return locationCount;
+  }
+
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  public long getBytesServed() {
+    return bytesServed.get();
+  }
+
+  @NonNull
+  @Override
+  public MockResponse dispatch(@NonNull RecordedRequest request) {
+    requestCount.incrementAndGet();
+    String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "";
+    boolean failing;
+    synchronized (failingPaths) {
+      failing = failingPaths.contains(path);
+    }
+    MockResponse response = new MockResponse()
+        .setHeader("Content-Type", "application/json")
+        .setBodyDelay(delayMillis, TimeUnit.MILLISECONDS);
+    if (failing) {
+      return response.setResponseCode(500)
+          .setBody("{\"error_message\":\"Injected failure\"}");
+    }
+    String body = bodies.get(path);
+    if (body == null && path.startsWith("/api/objects/")) {
+      body = "[]";
+    } else if (body == null) {
+      return response.setResponseCode(404)
+          .setBody("{\"error_message\":\"Unknown path\"}");
+    }
+    bytesServed.addAndGet(body.getBytes(StandardCharsets.UTF_8).length);
+    return response.setBody(body);
+  }
+
+  private void generate() {
+    Random random = new Random(SEED);
+    bodies.put(
+        "/api/system/db-changed-time",
+        "{\"changed_time\":\"" + DB_CHANGED_TIME + "\"}"
+    );
+
+    StringBuilder units = new StringBuilder("[");
+    for (int id = 1; id <= quantityUnitCount; id++) {
+      if (id > 1) units.append(',');
+      units.append("{\"id\":").append(id)
+          .append(",\"name\":\"Unit ").append(id)
+          .append("\",\"name_plural\":\"Units ").append(id)
+          .append("\",\"description\":null,\"row_created_timestamp\":\"")
+          .append(DB_CHANGED_TIME).append("\"}");
+    }
+    bodies.put("/api/objects/quantity_units", units.append(']').toString());
+
+    StringBuilder locations = new StringBuilder("[");
+    for (int id = 1; id <= locationCount; id++) {
+      if (id > 1) locations.append(',');
+      locations.append("{\"id\":").append(id)
+          .append(",\"name\":\"Location ").append(id)
+          .append("\",\"description\":null,\"is_freezer\":\"").append(id == 1 ? 1 : 0)
+          .append("\",\"row_created_timestamp\":\"").append(DB_CHANGED_TIME).append("\"}");
+    }
+    bodies.put("/api/objects/locations", locations.append(']').toString());
+
+    StringBuilder products = new StringBuilder("[");
+    StringBuilder barcodes = new StringBuilder("[");
+    StringBuilder stock = new StringBuilder("[");
+    StringBuilder due = new StringBuilder("[");
+    StringBuilder missing = new StringBuilder("[");
+    for (int id = 1; id <= productCount; id++) {
+      int quId = 1 + random.nextInt(quantityUnitCount);
+      String product = "{\"id\":" + id
+          + ",\"name\":\"Product " + id
+          + "\",\"description\":null,\"active\":1"
+          + ",\"location_id\":\"" + (1 + random.nextInt(locationCount))
+          + "\",\"qu_id_purchase\":\"" + quId
+          + "\",\"qu_id_stock\":\"" + quId
+          + "\",\"qu_factor_purchase_to_stock\":\"1\""
+          + ",\"min_stock_amount\":\"" + random.nextInt(3)
+          + "\",\"default_best_before_days\":\"" + random.nextInt(30)
+          + "\",\"due_type\":\"1\",\"picture_file_name\":null,\"userfields\":null"
+          + ",\"row_created_timestamp\":\"" + DB_CHANGED_TIME + "\"}";
+      if (id > 1) products.append(',');
+      products.append(product);
+
+      if (id > 1) barcodes.append(',');
+      barcodes.append("{\"id\":").append(id)
+          .append(",\"product_id\":\"").append(id)
+          .append("\",\"barcode\":\"")
+          .append(String.format(Locale.ENGLISH, "40%011d", id))
+          .append("\",\"qu_id\":\"").append(quId)
+          .append("\",\"amount\":null,\"shopping_location_id\":null,\"last_price\":null")
+          .append(",\"note\":null,\"row_created_timestamp\":\"").append(DB_CHANGED_TIME)
+          .append("\"}");
+
+      // two thirds of the products are in stock, some of them due soon
+      if (id % 3 == 0) {
+        if (missing.length() > 1) missing.append(',');
+        missing.append("{\"id\":").append(id)
+            .append(",\"name\":\"Product ").append(id)
+            .append("\",\"amount_missing\":\"1\",\"is_partly_in_stock\":\"0\"}");
+        continue;
+      }
+      String stockItem = "{\"product_id\":\"" + id
+          + "\",\"amount\":\"" + (1 + random.nextInt(10))
+          + "\",\"amount_aggregated\":\"0\",\"value\":\"" + random.nextInt(2000) / 100.0
+          + "\",\"best_before_date\":\"2024-0" + (1 + random.nextInt(9)) + "-15"
+          + "\",\"amount_opened\":\"0\",\"amount_opened_aggregated\":\"0\""
+          + ",\"is_aggregated_amount\":\"0\",\"due_type\":\"1\""
+          + ",\"product\":" + product + "}";
+      if (stock.length() > 1) stock.append(',');
+      stock.append(stockItem);
+      if (id % 10 == 1) {
+        if (due.length() > 1) due.append(',');
+        due.append(stockItem);
+      }
+    }
+    bodies.put("/api/objects/products", products.append(']').toString());
+    bodies.put("/api/objects/product_barcodes", barcodes.append(']').toString());
+    bodies.put("/api/stock", stock.append(']').toString());
+    bodies.put(
+        "/api/stock/volatile",
+        "{\"due_products\":" + due.append(']')
+            + ",\"overdue_products\":[],\"expired_products\":[]"
+            + ",\"missing_products\":" + missing.append(']') + "}"
+    );
+    bodies.put("/api/stock/log", "[]");
+  }
+}
@@ -42,6 +42,8 @@ public final class Constants {
     public final static String GROCY_VERSION = "grocy_version";
     public final static String CREDENTIALS = "credentials";
     public final static String CURRENT_USER_ID = "current_user_id";
+    public final static String SERVERS = "servers";
+    public final static String ACTIVE_SERVER_ID = "active_server_id";
 
     public final static String FEATURE_STOCK = "feature_stock";
     public final static String FEATURE_SHOPPING_LIST = "feature_shopping_list";
@@ -116,8 +118,7 @@ public final class Constants {
     public final static String DB_LAST_TIME_USERFIELDS = "db_last_time_userfields";
     public final static String DB_LAST_TIME_MEAL_PLAN_ENTRIES = "db_last_time_meal_plan_entries";
     public final static String DB_LAST_TIME_MEAL_PLAN_SECTIONS = "db_last_time_meal_plan_sections";
-    // when adding new constant for DB, also add it to clearCachingRelatedSharedPreferences()
-    // in PrefsUtil
+    // when adding new constant for DB, also add it to CACHING_RELATED_KEYS in PrefsUtil
 
     public final static String QUICK_MODE_ACTIVE_CONSUME = "quick_mode_active_consume";
     public final static String QUICK_MODE_ACTIVE_PURCHASE = "quick_mode_active_purchase";
@@ -37,7 +37,6 @@ import android.net.ConnectivityManager;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
-import android.util.Log;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
 import android.view.View;
@@ -87,11 +86,15 @@ import xyz.zedler.patrick.grocy.util.ClickUtil;
 import xyz.zedler.patrick.grocy.util.ConfigUtil;
 import xyz.zedler.patrick.grocy.util.HapticUtil;
 import xyz.zedler.patrick.grocy.util.LocaleUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NavUtil;
 import xyz.zedler.patrick.grocy.util.NetUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.ShortcutUtil;
+import xyz.zedler.patrick.grocy.util.ServerUtil;
+import xyz.zedler.patrick.grocy.util.StartupUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.util.UiUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
@@ -118,6 +121,7 @@ public class MainActivity extends AppCompatActivity {
 
   @Override
   protected void onCreate(Bundle savedInstanceState) {
+    StartupUtil.mark(StartupUtil.ON_CREATE);
     runAsSuperClass = savedInstanceState != null
         && savedInstanceState.getBoolean(ARGUMENT.RUN_AS_SUPER_CLASS, false);
 
@@ -129,6 +133,8 @@ public class MainActivity extends AppCompatActivity {
     sharedPrefs = PreferenceManager.getDefaultSharedPreferences(this);
     PrefsUtil.migratePrefs(sharedPrefs);
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
+    TraceUtil.setEnabled(debug);
+    long traceStart = TraceUtil.beginSection("MainActivity.onCreate");
 
     // DARK MODE AND THEME
 
@@ -152,13 +158,13 @@ public class MainActivity extends AppCompatActivity {
     hapticUtil = new HapticUtil(this);
     hapticUtil.setEnabled(PrefsUtil.areHapticsEnabled(sharedPrefs, this));
     netUtil = new NetUtil(this, sharedPrefs, debug, TAG);
+    // provider has to be inserted before the request queue creates its SSL context
     netUtil.insertConscrypt();
-    netUtil.createWebSocketClient();
+    // websocket client is created in onResume
 
     // LANGUAGE
 
     LocaleUtil.setLocalizedGrocyDemoInstance(this, sharedPrefs);  // set localized demo instance
-    ShortcutUtil.refreshShortcuts(this);  // refresh shortcut language
 
     // DATABASE
 
@@ -170,8 +176,10 @@ public class MainActivity extends AppCompatActivity {
       field.setAccessible(true);
       field.set(null, 10 * 1024 * 1024); // 10MB is the new size
     } catch (Exception e) {
-      Log.e(TAG, "onCreate: " + e);
+      LogUtil.e(TAG, "onCreate: " + e);
     }
+    // open the database and run pending migrations while the first screen is inflated
+    AppDatabase.preload(getApplication());
 
     // WEB
 
@@ -208,6 +216,7 @@ public class MainActivity extends AppCompatActivity {
     // NAVIGATION
     fragmentManager = getSupportFragmentManager();
     navUtil = new NavUtil(this, (controller, dest, args) -> {
+      TraceUtil.setScreen(dest.getLabel());
       if (PrefsUtil.isServerUrlEmpty(sharedPrefs)) {
         binding.fabMain.hide();
       }
@@ -264,14 +273,31 @@ public class MainActivity extends AppCompatActivity {
       // Show changelog if app was updated
       VersionUtil.showChangelogBottomSheet(this);
       PrefsUtil.clearCachingRelatedSharedPreferences(sharedPrefs);
+      ServerUtil.clearParkedCachingPreferences(this, sharedPrefs);
     } else {
       // Check if database scheme was updated and clear caching data if necessary
       AppDatabase.getAppDatabase(getApplication()).getVersion(version -> {
         if (VersionUtil.isDatabaseUpdated(sharedPrefs, version)) {
           PrefsUtil.clearCachingRelatedSharedPreferences(sharedPrefs);
+          ServerUtil.clearParkedCachingPreferences(this, sharedPrefs);
         }
       });
     }
+
+    // DEFERRED INIT
+
+    StartupUtil.runAfterFirstDraw(this, () -> {
+      StartupUtil.mark(StartupUtil.FIRST_DRAW);
+      long deferredTraceStart = TraceUtil.beginSection("MainActivity.deferredInit");
+      ShortcutUtil.refreshShortcuts(this);  // refresh shortcut language
+      netUtil.logTlsInfo();
+      TraceUtil.endSection("MainActivity.deferredInit", deferredTraceStart);
+      StartupUtil.mark(StartupUtil.DEFERRED_INIT);
+      if (debug) LogUtil.i(TAG, "startup: " + StartupUtil.getTimeline());
+    });
+
+    TraceUtil.endSection("MainActivity.onCreate", traceStart);
+    StartupUtil.mark(StartupUtil.ON_CREATE_END);
   }
 
   @Override
@@ -290,6 +316,7 @@ public class MainActivity extends AppCompatActivity {
     if (netUtil != null) {
       netUtil.cancelHassSessionTimer();
     }
+    TraceUtil.stopFrameMetrics(this);
     super.onPause();
   }
 
@@ -301,6 +328,7 @@ public class MainActivity extends AppCompatActivity {
     }
     netUtil.createWebSocketClient();
     netUtil.resetHassSessionTimer();
+    TraceUtil.startFrameMetrics(this);
     if (!sharedPrefs.contains(Constants.SETTINGS.BEHAVIOR.HAPTIC)) {
       hapticUtil.setEnabled(HapticUtil.areSystemHapticsTurnedOn(this));
     }
@@ -435,7 +463,7 @@ public class MainActivity extends AppCompatActivity {
       BaseFragment currentFragment = getCurrentFragment();
       return currentFragment.onKeyDown(keyCode, event) || super.onKeyDown(keyCode, event);
     } catch (Exception e) {
-      Log.e(TAG, "onKeyDown: fragmentManager or currentFragment is null");
+      LogUtil.e(TAG, "onKeyDown: fragmentManager or currentFragment is null");
       return false;
     }
   }
@@ -446,7 +474,7 @@ public class MainActivity extends AppCompatActivity {
       BaseFragment currentFragment = getCurrentFragment();
       return currentFragment.onKeyUp(keyCode, event) || super.onKeyUp(keyCode, event);
     } catch (Exception e) {
-      Log.e(TAG, "onKeyUp: fragmentManager or currentFragment is null");
+      LogUtil.e(TAG, "onKeyUp: fragmentManager or currentFragment is null");
       return false;
     }
   }
@@ -505,7 +533,7 @@ public class MainActivity extends AppCompatActivity {
     String tag = bottomSheet.toString();
     bottomSheet.show(fragmentManager, tag);
     if (debug) {
-      Log.i(TAG, "showBottomSheet: " + bottomSheet);
+      LogUtil.i(TAG, "showBottomSheet: " + bottomSheet);
     }
   }
 
@@ -605,7 +633,7 @@ public class MainActivity extends AppCompatActivity {
       }
     } else {
       if (debug) {
-        Log.i(TAG, "replaceFabIcon: not replaced, tags are identical");
+        LogUtil.i(TAG, "replaceFabIcon: not replaced, tags are identical");
       }
     }
   }
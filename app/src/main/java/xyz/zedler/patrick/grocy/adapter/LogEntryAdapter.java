@@ -0,0 +1,111 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.adapter;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.databinding.RowLogEntryBinding;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.ResUtil;
+
+public class LogEntryAdapter extends RecyclerView.Adapter<LogEntryAdapter.ViewHolder> {
+
+  private final static String TAG = LogEntryAdapter.class.getSimpleName();
+
+  private final List<LogUtil.Entry> entries = new ArrayList<>();
+  private final SimpleDateFormat dateFormat = new SimpleDateFormat(
+      "HH:mm:ss.SSS", Locale.ENGLISH
+  );
+  private final Date date = new Date();
+
+  public static class ViewHolder extends RecyclerView.ViewHolder {
+
+    private final RowLogEntryBinding binding;
+
+    public ViewHolder(RowLogEntryBinding binding) {
+      super(binding.getRoot());
+      this.binding = binding;
+    }
+  }
+
+  @NonNull
+  @Override
+  public LogEntryAdapter.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+    return new ViewHolder(
+        RowLogEntryBinding.inflate(
+            LayoutInflater.from(parent.getContext()), parent, false
+        )
+    );
+  }
+
+  @Override
+  public void onBindViewHolder(@NonNull final ViewHolder holder, int position) {
+    Context context = holder.binding.getRoot().getContext();
+    LogUtil.Entry entry = entries.get(holder.getAdapterPosition());
+
+    date.setTime(entry.getTime());
+    StringBuilder text = new StringBuilder(dateFormat.format(date))
+        .append(' ').append(entry.getLevelChar()).append('/').append(entry.getTag());
+    if (entry.getRequestId() != null) {
+      text.append(" [").append(entry.getRequestId()).append(']');
+    }
+    text.append(": ").append(entry.getMessage());
+    holder.binding.text.setText(text);
+    holder.binding.text.setTextColor(ResUtil.getColor(
+        context, entry.getLevel() >= LogUtil.ERROR ? R.attr.colorError : R.attr.colorOnBackground
+    ));
+  }
+
+  @Override
+  public int getItemCount() {
+    return entries.size();
+  }
+
+  @SuppressLint("NotifyDataSetChanged")
+  public void setEntries(List<LogUtil.Entry> entries) {
+    this.entries.clear();
+    this.entries.addAll(entries);
+    notifyDataSetChanged();
+  }
+
+  public void addEntries(List<LogUtil.Entry> newEntries) {
+    if (newEntries.isEmpty()) return;
+    int start = entries.size();
+    entries.addAll(newEntries);
+    notifyItemRangeInserted(start, newEntries.size());
+    // keep only as many entries as the log buffer contains
+    int overflow = entries.size() - LogUtil.CAPACITY;
+    if (overflow > 0) {
+      entries.subList(0, overflow).clear();
+      notifyItemRangeRemoved(0, overflow);
+    }
+  }
+}
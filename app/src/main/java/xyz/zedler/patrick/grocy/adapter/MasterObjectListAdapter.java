@@ -20,33 +20,29 @@
 package xyz.zedler.patrick.grocy.adapter;
 
 import android.annotation.SuppressLint;
-import android.app.Application;
 import android.content.Context;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
-import com.bumptech.glide.load.model.LazyHeaders;
 import java.util.ArrayList;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowMasterItemBinding;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.util.ObjectUtil;
 import xyz.zedler.patrick.grocy.util.PictureUtil;
-import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class MasterObjectListAdapter extends
-    RecyclerView.Adapter<MasterObjectListAdapter.ViewHolder> {
+    PicturePreloadAdapter<MasterObjectListAdapter.ViewHolder> {
 
   private final static String TAG = MasterObjectListAdapter.class.getSimpleName();
 
   private final ArrayList<Object> objects;
   private final MasterObjectListAdapterListener listener;
   private final String entity;
-  private final GrocyApi grocyApi;
-  private final LazyHeaders grocyAuthHeaders;
   private boolean containsPictures;
 
   public MasterObjectListAdapter(
@@ -54,11 +50,10 @@ public class MasterObjectListAdapter extends
       String entity,
       MasterObjectListAdapterListener listener
   ) {
+    super(context);
     this.objects = new ArrayList<>();
     this.listener = listener;
     this.entity = entity;
-    this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
-    this.grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
   }
 
   public static class ViewHolder extends RecyclerView.ViewHolder {
@@ -96,6 +91,7 @@ public class MasterObjectListAdapter extends
     if (pictureFileName != null && !pictureFileName.isEmpty()) {
       holder.binding.picture.layout(0, 0, 0, 0);
 
+      picturePreloader.setView(holder.binding.picture);
       PictureUtil.loadPicture(
           holder.binding.picture,
           null,
@@ -190,6 +186,16 @@ public class MasterObjectListAdapter extends
     }
   }
 
+  @Nullable
+  @Override
+  protected String getPictureUrl(int position) {
+    if (position < 0 || position >= objects.size()
+        || !(objects.get(position) instanceof Product)) {
+      return null;
+    }
+    return getProductPictureUrl((Product) objects.get(position));
+  }
+
   @Override
   public int getItemCount() {
     return objects.size();
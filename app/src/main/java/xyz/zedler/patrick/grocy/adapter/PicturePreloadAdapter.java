@@ -0,0 +1,77 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.adapter;
+
+import android.app.Application;
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+import com.bumptech.glide.load.model.LazyHeaders;
+import xyz.zedler.patrick.grocy.api.GrocyApi;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.util.PicturePreloader;
+import xyz.zedler.patrick.grocy.web.RequestHeaders;
+
+/**
+ * Adapter for lists with pictures, which attaches a PicturePreloader to its RecyclerView.
+ * Subclasses return the picture URL for each position and pass every bound picture view to
+ * picturePreloader.setView.
+ */
+public abstract class PicturePreloadAdapter<VH extends RecyclerView.ViewHolder>
+    extends RecyclerView.Adapter<VH> {
+
+  protected final GrocyApi grocyApi;
+  protected final LazyHeaders grocyAuthHeaders;
+  protected final PicturePreloader picturePreloader;
+
+  public PicturePreloadAdapter(Context context) {
+    grocyApi = new GrocyApi((Application) context.getApplicationContext());
+    grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
+    picturePreloader = new PicturePreloader(this::getPictureUrl, grocyAuthHeaders);
+  }
+
+  /**
+   * Returns the URL of the small picture which is shown at the position,
+   * or null if there is none.
+   */
+  @Nullable
+  protected abstract String getPictureUrl(int position);
+
+  @Nullable
+  protected String getProductPictureUrl(@Nullable Product product) {
+    String pictureFileName = product != null ? product.getPictureFileName() : null;
+    if (pictureFileName == null || pictureFileName.isEmpty()) return null;
+    return grocyApi.getProductPictureServeSmall(pictureFileName);
+  }
+
+  @Override
+  public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+    super.onAttachedToRecyclerView(recyclerView);
+    picturePreloader.attach(recyclerView);
+  }
+
+  @Override
+  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+    super.onDetachedFromRecyclerView(recyclerView);
+    picturePreloader.detach(recyclerView);
+  }
+}
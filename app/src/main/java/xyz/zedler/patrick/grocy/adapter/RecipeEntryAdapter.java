@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.adapter;
 
 import android.annotation.SuppressLint;
-import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.util.Log;
@@ -30,13 +29,13 @@ import android.view.ViewGroup;
 import android.widget.ImageView;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.LayoutManager;
 import androidx.recyclerview.widget.StaggeredGridLayoutManager;
-import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.flexbox.FlexboxLayout;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
@@ -47,7 +46,6 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
-import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowRecipeEntryBinding;
 import xyz.zedler.patrick.grocy.databinding.RowRecipeEntryGridBinding;
 import xyz.zedler.patrick.grocy.model.Recipe;
@@ -58,10 +56,9 @@ import xyz.zedler.patrick.grocy.util.ChipUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PictureUtil;
 import xyz.zedler.patrick.grocy.viewmodel.RecipesViewModel;
-import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class RecipeEntryAdapter extends
-    RecyclerView.Adapter<RecipeEntryAdapter.ViewHolder> {
+    PicturePreloadAdapter<RecipeEntryAdapter.ViewHolder> {
 
   private final static String TAG = RecipeEntryAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
@@ -72,8 +69,6 @@ public class RecipeEntryAdapter extends
   private final ArrayList<RecipeFulfillment> recipeFulfillments;
   private final HashMap<String, Userfield> userfieldHashMap;
   private final RecipesItemAdapterListener listener;
-  private final GrocyApi grocyApi;
-  private final LazyHeaders grocyAuthHeaders;
   private String sortMode;
   private boolean sortAscending;
   private final List<String> activeFields;
@@ -86,14 +81,13 @@ public class RecipeEntryAdapter extends
       LayoutManager layoutManager,
       RecipesItemAdapterListener listener
   ) {
+    super(context);
     this.context = context;
     this.layoutManager = layoutManager;
     this.recipes = new ArrayList<>();
     this.recipeFulfillments = new ArrayList<>();
     this.userfieldHashMap = new HashMap<>();
     this.listener = listener;
-    this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
-    this.grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
     this.activeFields = new ArrayList<>();
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     maxDecimalPlacesAmount = sharedPrefs.getInt(
@@ -235,6 +229,9 @@ public class RecipeEntryAdapter extends
     if (activeFields.contains(RecipesViewModel.FIELD_PICTURE)
         && pictureFileName != null && !pictureFileName.isEmpty()) {
       picture.layout(0, 0, 0, 0);
+      if (viewHolder instanceof RecipeViewHolder) {
+        picturePreloader.setView(picture);
+      }
 
       PictureUtil.loadPicture(
           picture,
@@ -260,6 +257,20 @@ public class RecipeEntryAdapter extends
     );
   }
 
+  // grid pictures keep their aspect ratio and are not preloaded, as their size differs
+  @Nullable
+  @Override
+  protected String getPictureUrl(int position) {
+    if (!(layoutManager instanceof LinearLayoutManager)
+        || !activeFields.contains(RecipesViewModel.FIELD_PICTURE)
+        || position < 0 || position >= recipes.size()) {
+      return null;
+    }
+    String pictureFileName = recipes.get(position).getPictureFileName();
+    if (pictureFileName == null || pictureFileName.isEmpty()) return null;
+    return grocyApi.getRecipePictureServeSmall(pictureFileName);
+  }
+
   @Override
   public int getItemCount() {
     return recipes.size();
@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.adapter;
 
 import android.annotation.SuppressLint;
-import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.ColorStateList;
@@ -32,10 +31,10 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
-import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,7 +44,6 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
-import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListBottomNotesBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListItemBinding;
@@ -67,12 +65,12 @@ import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
 import xyz.zedler.patrick.grocy.util.TextUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.viewmodel.ShoppingListViewModel;
 import xyz.zedler.patrick.grocy.viewmodel.StockOverviewViewModel;
-import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class ShoppingListItemAdapter extends
-    RecyclerView.Adapter<ShoppingListItemAdapter.ViewHolder> {
+    PicturePreloadAdapter<ShoppingListItemAdapter.ViewHolder> {
 
   private final static String TAG = ShoppingListItemAdapter.class.getSimpleName();
 
@@ -84,8 +82,6 @@ public class ShoppingListItemAdapter extends
   private final HashMap<Integer, Double> shoppingListItemAmountsHashMap;
   private final ArrayList<Integer> missingProductIds;
   private final ShoppingListItemAdapterListener listener;
-  private final GrocyApi grocyApi;
-  private final LazyHeaders grocyAuthHeaders;
   private final PluralUtil pluralUtil;
   private String groupingMode;
   private final List<String> activeFields;
@@ -98,6 +94,7 @@ public class ShoppingListItemAdapter extends
       Context context,
       ShoppingListItemAdapterListener listener
   ) {
+    super(context);
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     this.maxDecimalPlacesAmount = sharedPrefs.getInt(
         STOCK.DECIMAL_PLACES_AMOUNT,
@@ -117,8 +114,6 @@ public class ShoppingListItemAdapter extends
     this.shoppingListItemAmountsHashMap = new HashMap<>();
     this.missingProductIds = new ArrayList<>();
     this.listener = listener;
-    this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
-    this.grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
     this.pluralUtil = new PluralUtil(context);
     this.activeFields = new ArrayList<>();
     this.groupedListItems = new ArrayList<>();
@@ -587,6 +582,7 @@ public class ShoppingListItemAdapter extends
         && pictureFileName != null && !pictureFileName.isEmpty()) {
       binding.picture.layout(0, 0, 0, 0);
 
+      picturePreloader.setView(binding.picture);
       PictureUtil.loadPicture(
           binding.picture,
           null,
@@ -619,6 +615,22 @@ public class ShoppingListItemAdapter extends
     return chip;
   }
 
+  @Nullable
+  @Override
+  protected String getPictureUrl(int position) {
+    if (!activeFields.contains(StockOverviewViewModel.FIELD_PICTURE)
+        || position < 0 || position >= groupedListItems.size()) {
+      return null;
+    }
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    if (!(groupedListItem instanceof ShoppingListItem)
+        || !((ShoppingListItem) groupedListItem).hasProduct()) {
+      return null;
+    }
+    Product product = productHashMap.get(((ShoppingListItem) groupedListItem).getProductIdInt());
+    return getProductPictureUrl(product);
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -777,10 +789,12 @@ public class ShoppingListItemAdapter extends
       List<String> activeFields,
       Runnable onListFilled
   ) {
+    long traceStart = TraceUtil.beginSection("ShoppingListItemAdapter.getGroupedListItems");
     ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, shoppingListItems,
         productGroupHashMap, productHashMap, productNamesHashMap, storeHashMap,
         productLastPurchasedHashMap, shoppingListItemAmountsHashMap,
         shoppingListNotes, groupingMode, priceTrackingEnabled, decimalPlacesPriceDisplay, currency);
+    TraceUtil.endSection("ShoppingListItemAdapter.getGroupedListItems", traceStart);
     ShoppingListItemAdapter.DiffCallback diffCallback = new ShoppingListItemAdapter.DiffCallback(
         this.groupedListItems,
         newGroupedListItems,
@@ -806,7 +820,9 @@ public class ShoppingListItemAdapter extends
       onListFilled.run();
     }
 
+    traceStart = TraceUtil.beginSection("ShoppingListItemAdapter.calculateDiff");
     DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
+    TraceUtil.endSection("ShoppingListItemAdapter.calculateDiff", traceStart);
     this.groupedListItems.clear();
     this.groupedListItems.addAll(newGroupedListItems);
     this.productHashMap.clear();
@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.adapter;
 
 import android.annotation.SuppressLint;
-import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.ColorStateList;
@@ -33,12 +32,12 @@ import android.view.ViewGroup;
 import android.widget.LinearLayout;
 import android.widget.LinearLayout.LayoutParams;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
-import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -49,7 +48,6 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS.SHOPPING_MODE;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
-import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeBottomNotesBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeItemBinding;
@@ -73,10 +71,9 @@ import xyz.zedler.patrick.grocy.util.TextUtil;
 import xyz.zedler.patrick.grocy.util.UiUtil;
 import xyz.zedler.patrick.grocy.viewmodel.ShoppingListViewModel;
 import xyz.zedler.patrick.grocy.viewmodel.ShoppingModeViewModel;
-import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class ShoppingModeItemAdapter extends
-    RecyclerView.Adapter<ShoppingModeItemAdapter.ViewHolder> {
+    PicturePreloadAdapter<ShoppingModeItemAdapter.ViewHolder> {
 
   private final Context context;
   private final LinearLayoutManager linearLayoutManager;
@@ -88,8 +85,6 @@ public class ShoppingModeItemAdapter extends
   private final HashMap<Integer, Double> shoppingListItemAmountsHashMap;
   private final ArrayList<Integer> missingProductIds;
   private final ShoppingModeItemClickListener listener;
-  private final GrocyApi grocyApi;
-  private final LazyHeaders grocyAuthHeaders;
   private final PluralUtil pluralUtil;
   private String groupingMode;
   private final boolean useSmallerFonts;
@@ -105,6 +100,7 @@ public class ShoppingModeItemAdapter extends
       LinearLayoutManager linearLayoutManager,
       ShoppingModeItemClickListener listener
   ) {
+    super(context);
     this.context = context;
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     this.linearLayoutManager = linearLayoutManager;
@@ -116,8 +112,6 @@ public class ShoppingModeItemAdapter extends
     this.missingProductIds = new ArrayList<>();
     this.activeFields = new ArrayList<>();
     this.listener = listener;
-    this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
-    this.grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
     this.useSmallerFonts = sharedPrefs.getBoolean(
         SHOPPING_MODE.USE_SMALLER_FONT,
         SETTINGS_DEFAULT.SHOPPING_MODE.USE_SMALLER_FONT
@@ -517,6 +511,7 @@ public class ShoppingModeItemAdapter extends
         && pictureFileName != null && !pictureFileName.isEmpty()) {
       binding.picture.layout(0, 0, 0, 0);
 
+      picturePreloader.setView(binding.picture);
       PictureUtil.loadPicture(
           binding.picture,
           null,
@@ -670,6 +665,22 @@ public class ShoppingModeItemAdapter extends
     diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
   }
 
+  @Nullable
+  @Override
+  protected String getPictureUrl(int position) {
+    if (!activeFields.contains(ShoppingModeViewModel.FIELD_PICTURE)
+        || position < 0 || position >= groupedListItems.size()) {
+      return null;
+    }
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    if (!(groupedListItem instanceof ShoppingListItem)
+        || !((ShoppingListItem) groupedListItem).hasProduct()) {
+      return null;
+    }
+    Product product = productHashMap.get(((ShoppingListItem) groupedListItem).getProductIdInt());
+    return getProductPictureUrl(product);
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.adapter;
 
 import android.annotation.SuppressLint;
-import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.ColorStateList;
@@ -28,10 +27,10 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
-import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -41,7 +40,6 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
-import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowStockItemBinding;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingStock;
@@ -63,11 +61,11 @@ import xyz.zedler.patrick.grocy.util.PictureUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.viewmodel.StockOverviewViewModel;
-import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class StockOverviewItemAdapter extends
-    RecyclerView.Adapter<StockOverviewItemAdapter.ViewHolder> {
+    PicturePreloadAdapter<StockOverviewItemAdapter.ViewHolder> {
 
   private final static String TAG = StockOverviewItemAdapter.class.getSimpleName();
 
@@ -81,8 +79,6 @@ public class StockOverviewItemAdapter extends
   private final ArrayList<Integer> missingItemsProductIds;
   private final HashMap<String, Userfield> userfieldHashMap;
   private final StockOverviewItemAdapterListener listener;
-  private final GrocyApi grocyApi;
-  private final LazyHeaders grocyAuthHeaders;
   private final boolean showDateTracking;
   private final boolean shoppingListFeatureEnabled;
   private final int daysExpiringSoon;
@@ -105,6 +101,7 @@ public class StockOverviewItemAdapter extends
       int daysExpiringSoon,
       String currency
   ) {
+    super(context);
     this.shoppingListItemsProductIds = new ArrayList<>();
     this.quantityUnitHashMap = new HashMap<>();
     this.quantityUnitConversions = new ArrayList<>();
@@ -114,8 +111,6 @@ public class StockOverviewItemAdapter extends
     this.missingItemsProductIds = new ArrayList<>();
     this.userfieldHashMap = new HashMap<>();
     this.listener = listener;
-    this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
-    this.grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
     this.showDateTracking = showDateTracking;
     this.shoppingListFeatureEnabled = shoppingListFeatureEnabled;
     this.daysExpiringSoon = daysExpiringSoon;
@@ -524,6 +519,7 @@ public class StockOverviewItemAdapter extends
         && pictureFileName != null && !pictureFileName.isEmpty()) {
       holder.binding.picture.layout(0, 0, 0, 0);
 
+      picturePreloader.setView(holder.binding.picture);
       PictureUtil.loadPicture(
           holder.binding.picture,
           null,
@@ -559,6 +555,19 @@ public class StockOverviewItemAdapter extends
     return chip;
   }
 
+  @Nullable
+  @Override
+  protected String getPictureUrl(int position) {
+    if (!activeFields.contains(StockOverviewViewModel.FIELD_PICTURE)
+        || position < 0 || position >= groupedListItems.size()) {
+      return null;
+    }
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    if (!(groupedListItem instanceof StockItem)) return null;
+    Product product = ((StockItem) groupedListItem).getProduct();
+    return getProductPictureUrl(product);
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -596,10 +605,12 @@ public class StockOverviewItemAdapter extends
       List<String> activeFields,
       Runnable onListFilled
   ) {
+    long traceStart = TraceUtil.beginSection("StockOverviewItemAdapter.getGroupedListItems");
     ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, newList,
         productGroupHashMap, productHashMap, locationHashMap, userfieldHashMap, this.currency,
         this.dateUtil, sortMode, sortAscending, groupingMode, maxDecimalPlacesAmount,
         decimalPlacesPriceDisplay);
+    TraceUtil.endSection("StockOverviewItemAdapter.getGroupedListItems", traceStart);
     StockOverviewItemAdapter.DiffCallback diffCallback = new StockOverviewItemAdapter.DiffCallback(
         this.groupedListItems,
         newGroupedListItems,
@@ -641,7 +652,9 @@ public class StockOverviewItemAdapter extends
       onListFilled.run();
     }
 
+    traceStart = TraceUtil.beginSection("StockOverviewItemAdapter.calculateDiff");
     DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
+    TraceUtil.endSection("StockOverviewItemAdapter.calculateDiff", traceStart);
     this.groupedListItems.clear();
     this.groupedListItems.addAll(newGroupedListItems);
     this.shoppingListItemsProductIds.clear();
@@ -26,7 +26,6 @@ import android.content.Context;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
-import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewTreeObserver;
@@ -43,6 +42,7 @@ import com.google.android.material.appbar.AppBarLayout;
 import com.google.android.material.bottomappbar.BottomAppBar;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import xyz.zedler.patrick.grocy.activity.MainActivity;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.UiUtil;
 
 public class BottomScrollBehavior {
@@ -311,7 +311,7 @@ public class BottomScrollBehavior {
       appBar.setLifted(!lift);
     }
     if (DEBUG) {
-      Log.i(TAG, "setLiftOnScroll(" + lift + ")");
+      LogUtil.i(TAG, "setLiftOnScroll(" + lift + ")");
     }
   }
 
@@ -328,7 +328,7 @@ public class BottomScrollBehavior {
           int scrollContentHeight = scrollView.getChildAt(0).getHeight();
           pufferSize = (scrollContentHeight - scrollViewHeight) / PUFFER_DIVIDER;
         } else if (DEBUG) {
-          Log.e(TAG, "measureScrollView: no child");
+          LogUtil.e(TAG, "measureScrollView: no child");
         }
         if (scrollView.getViewTreeObserver().isAlive()) {
           scrollView.getViewTreeObserver().removeOnGlobalLayoutListener(this);
@@ -437,7 +437,7 @@ public class BottomScrollBehavior {
       appBar.setLifted(false);
     }
     if (DEBUG) {
-      Log.i(TAG, "onTopScroll: liftOnScroll = " + liftOnScroll);
+      LogUtil.i(TAG, "onTopScroll: liftOnScroll = " + liftOnScroll);
     }
   }
 
@@ -445,7 +445,7 @@ public class BottomScrollBehavior {
     currentState = STATE_SCROLLED_UP;
     appBar.setLifted(true);
     if (DEBUG) {
-      Log.i(TAG, "onScrollUp: UP");
+      LogUtil.i(TAG, "onScrollUp: UP");
     }
   }
 
@@ -458,7 +458,7 @@ public class BottomScrollBehavior {
       setOverScrollEnabled(true);
     }
     if (DEBUG) {
-      Log.i(TAG, "onScrollDown: DOWN");
+      LogUtil.i(TAG, "onScrollDown: DOWN");
     }
   }
 
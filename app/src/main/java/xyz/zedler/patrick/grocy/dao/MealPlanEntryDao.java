@@ -33,6 +33,9 @@ public interface MealPlanEntryDao {
   @Query("SELECT * FROM meal_plan_entry_table")
   Single<List<MealPlanEntry>> getMealPlanEntries();
 
+  @Query("SELECT * FROM meal_plan_entry_table WHERE day >= :dayStart AND day < :dayEnd")
+  Single<List<MealPlanEntry>> getMealPlanEntries(String dayStart, String dayEnd);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertMealPlanEntries(List<MealPlanEntry> mealPlanEntries);
 
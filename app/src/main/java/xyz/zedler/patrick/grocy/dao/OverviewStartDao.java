@@ -0,0 +1,83 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import io.reactivex.rxjava3.core.Single;
+import java.time.LocalDate;
+import xyz.zedler.patrick.grocy.model.OverviewStartAggregates;
+
+@Dao
+public interface OverviewStartDao {
+
+  String STOCK_IN_STOCK = "FROM stock_item_table WHERE product_id NOT IN "
+      + "(SELECT id FROM product_table WHERE CAST(hide_on_stock_overview AS INTEGER) = 1) "
+      + "AND product_id NOT IN (SELECT id FROM missing_item_table "
+      + "WHERE IFNULL(CAST(is_partly_in_stock AS INTEGER), 0) != 1)";
+  String CHORE_DAY = "substr(next_estimated_execution_time, 1, 10)";
+  String TASK_UNDONE = "FROM task_table WHERE IFNULL(done, 0) != 1";
+
+  @Query("SELECT "
+      + "(SELECT COUNT(*) FROM stock_item_table WHERE CAST(due_type AS INTEGER) = 1 "
+      + "AND best_before_date BETWEEN :today AND :dueSoonLimit) AS itemsDueCount, "
+      + "(SELECT COUNT(*) FROM stock_item_table WHERE CAST(due_type AS INTEGER) = 1 "
+      + "AND best_before_date != '' AND best_before_date < :today) AS itemsOverdueCount, "
+      + "(SELECT COUNT(*) FROM stock_item_table WHERE CAST(due_type AS INTEGER) = 2 "
+      + "AND best_before_date != '' AND best_before_date < :today) AS itemsExpiredCount, "
+      + "(SELECT COUNT(*) FROM missing_item_table) AS itemsMissingCount, "
+      + "(SELECT COUNT(*) FROM missing_item_table WHERE id IN (SELECT CAST(product_id AS INTEGER) "
+      + "FROM shopping_list_item_table WHERE product_id != '')) AS itemsMissingShoppingListCount, "
+      + "(SELECT COUNT(*) " + STOCK_IN_STOCK + ") AS itemsInStockCount, "
+      + "(SELECT TOTAL(CAST(value AS REAL)) " + STOCK_IN_STOCK + ") AS stockValue, "
+      + "EXISTS(SELECT 1 FROM stored_purchase_table) AS storedPurchasesOnDevice, "
+      + "(SELECT COUNT(*) FROM shopping_list_item_table) AS shoppingListItemsCount, "
+      + "(SELECT COUNT(*) FROM product_table) AS productsCount, "
+      + "(SELECT COUNT(*) FROM recipe_table WHERE id >= 0) AS recipesCount, "
+      + "(SELECT COUNT(*) FROM chore_entry_table WHERE " + CHORE_DAY + " = :today) "
+      + "AS choresDueTodayCount, "
+      + "(SELECT COUNT(*) FROM chore_entry_table WHERE " + CHORE_DAY
+      + " BETWEEN :today AND :choresDueSoonLimit) AS choresDueSoonCount, "
+      + "(SELECT COUNT(*) FROM chore_entry_table WHERE next_estimated_execution_time != '' "
+      + "AND " + CHORE_DAY + " < :today) AS choresOverdueCount, "
+      + "(SELECT COUNT(*) FROM chore_entry_table "
+      + "WHERE CAST(next_execution_assigned_to_user_id AS INTEGER) = :userId) "
+      + "AS choresAssignedCount, "
+      + "(SELECT COUNT(*) " + TASK_UNDONE + ") AS tasksUndoneCount, "
+      + "(SELECT COUNT(*) " + TASK_UNDONE + " AND CAST(assigned_to_user_id AS INTEGER) = :userId) "
+      + "AS tasksAssignedCount")
+  Single<OverviewStartAggregates> getAggregates(
+      String today,
+      String dueSoonLimit,
+      String choresDueSoonLimit,
+      int userId
+  );
+
+  default Single<OverviewStartAggregates> getAggregates(int userId, int dueSoonDays) {
+    LocalDate today = LocalDate.now();
+    return getAggregates(
+        today.toString(),
+        today.plusDays(dueSoonDays).toString(),
+        today.plusDays(OverviewStartAggregates.CHORES_DUE_SOON_DAYS).toString(),
+        userId
+    );
+  }
+
+}
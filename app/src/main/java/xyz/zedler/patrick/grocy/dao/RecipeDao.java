@@ -32,9 +32,22 @@ import xyz.zedler.patrick.grocy.model.Recipe;
 @Dao
 public interface RecipeDao {
 
+  // Recipes referenced by meal plan entries and the shadow recipes of a meal plan day range,
+  // which are named after their day ("2023-01-31"), their entry ("2023-01-31#12") or week
+  String MEAL_PLAN_RECIPE_IDS = "SELECT id FROM recipe_table WHERE id IN (:recipeIds) "
+      + "OR (id < 0 AND (name IN (:weekNames) OR (name >= :dayStart AND name < :dayEnd)))";
+
   @Query("SELECT * FROM recipe_table")
   Single<List<Recipe>> getRecipes();
 
+  @Query("SELECT * FROM recipe_table WHERE id IN (" + MEAL_PLAN_RECIPE_IDS + ")")
+  Single<List<Recipe>> getMealPlanRecipes(
+      List<Integer> recipeIds,
+      List<String> weekNames,
+      String dayStart,
+      String dayEnd
+  );
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertRecipes(List<Recipe> recipes);
 
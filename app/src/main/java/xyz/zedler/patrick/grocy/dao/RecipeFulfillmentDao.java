@@ -33,6 +33,15 @@ public interface RecipeFulfillmentDao {
   @Query("SELECT * FROM recipe_fulfillment_table")
   Single<List<RecipeFulfillment>> getRecipeFulfillments();
 
+  @Query("SELECT * FROM recipe_fulfillment_table WHERE recipe_id IN ("
+      + RecipeDao.MEAL_PLAN_RECIPE_IDS + ")")
+  Single<List<RecipeFulfillment>> getMealPlanRecipeFulfillments(
+      List<Integer> recipeIds,
+      List<String> weekNames,
+      String dayStart,
+      String dayEnd
+  );
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertRecipeFulfillments(List<RecipeFulfillment> recipeFulfillmentList);
 
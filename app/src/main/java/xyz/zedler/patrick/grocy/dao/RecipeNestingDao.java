@@ -40,7 +40,16 @@ public interface RecipeNestingDao {
   @Query("DELETE FROM recipe_nesting_table")
   Single<Integer> deleteRecipeNestings();
 
-  @Query("SELECT * FROM RecipeNestingResolved")
+  @Query("SELECT * FROM recipe_nesting_resolved_table")
   Single<List<RecipeNestingResolved>> getRecipeNestingsResolved();
 
+  @Query("SELECT * FROM recipe_nesting_resolved_table WHERE recipe_id = :recipeId")
+  Single<List<RecipeNestingResolved>> getRecipeNestingsResolved(int recipeId);
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  Single<List<Long>> insertRecipeNestingsResolved(List<RecipeNestingResolved> recipeNestings);
+
+  @Query("DELETE FROM recipe_nesting_resolved_table")
+  Single<Integer> deleteRecipeNestingsResolved();
+
 }
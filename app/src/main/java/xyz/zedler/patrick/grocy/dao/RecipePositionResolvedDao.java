@@ -33,6 +33,15 @@ public interface RecipePositionResolvedDao {
   @Query("SELECT * FROM recipe_pos_resolved_table")
   Single<List<RecipePositionResolved>> getRecipePositionsResolved();
 
+  @Query("SELECT * FROM recipe_pos_resolved_table WHERE recipe_id IN ("
+      + RecipeDao.MEAL_PLAN_RECIPE_IDS + ")")
+  Single<List<RecipePositionResolved>> getMealPlanRecipePositionsResolved(
+      List<Integer> recipeIds,
+      List<String> weekNames,
+      String dayStart,
+      String dayEnd
+  );
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertRecipePositionsResolved(List<RecipePositionResolved> recipePositions);
 
@@ -20,19 +20,26 @@
 package xyz.zedler.patrick.grocy.database;
 
 import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.preference.PreferenceManager;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.HashMap;
 import xyz.zedler.patrick.grocy.dao.ChoreDao;
 import xyz.zedler.patrick.grocy.dao.ChoreEntryDao;
 import xyz.zedler.patrick.grocy.dao.LocationDao;
 import xyz.zedler.patrick.grocy.dao.MealPlanEntryDao;
 import xyz.zedler.patrick.grocy.dao.MealPlanSectionDao;
 import xyz.zedler.patrick.grocy.dao.MissingItemDao;
+import xyz.zedler.patrick.grocy.dao.OverviewStartDao;
 import xyz.zedler.patrick.grocy.dao.PendingProductBarcodeDao;
 import xyz.zedler.patrick.grocy.dao.PendingProductDao;
 import xyz.zedler.patrick.grocy.dao.ProductAveragePriceDao;
@@ -97,6 +104,7 @@ import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.model.Userfield;
 import xyz.zedler.patrick.grocy.model.VolatileItem;
 import xyz.zedler.patrick.grocy.repository.MainRepository.OnVersionListener;
+import xyz.zedler.patrick.grocy.util.ServerUtil;
 
 @Database(
     entities = {
@@ -131,19 +139,52 @@ import xyz.zedler.patrick.grocy.repository.MainRepository.OnVersionListener;
         RecipePosition.class,
         RecipePositionResolved.class,
         RecipeNesting.class,
+        RecipeNestingResolved.class,
         MealPlanEntry.class,
         MealPlanSection.class,
         Userfield.class
     },
-    views = {
-        RecipeNestingResolved.class
-    },
-    version = 54
+    version = 56
 )
 @TypeConverters({Converters.class})
 public abstract class AppDatabase extends RoomDatabase {
 
-  private static AppDatabase INSTANCE;
+  private static volatile AppDatabase INSTANCE;
+  // databases of all servers which were active in this process; they stay open after switching
+  // to another server, so switching back doesn't have to open and warm them up again
+  private static final HashMap<Integer, AppDatabase> INSTANCES = new HashMap<>();
+
+  // versions before this one have no migrations, their offline data is dropped
+  private static final int FIRST_MIGRATED_VERSION = 54;
+  // in KiB if negative
+  private static final int PAGE_CACHE_SIZE = -4096;
+
+  static final Migration MIGRATION_54_55 = new Migration(54, 55) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase db) {
+      // resolved recipe nestings were a view, the table is filled on the next sync
+      db.execSQL("DROP VIEW IF EXISTS `RecipeNestingResolved`");
+      db.execSQL("CREATE TABLE IF NOT EXISTS `recipe_nesting_resolved_table` ("
+          + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, "
+          + "`recipe_id` INTEGER NOT NULL, "
+          + "`includes_recipe_id` INTEGER NOT NULL, "
+          + "`includes_servings` REAL NOT NULL, "
+          + "`level` INTEGER NOT NULL)");
+      db.execSQL("CREATE INDEX IF NOT EXISTS `index_recipe_nesting_resolved_table_recipe_id` "
+          + "ON `recipe_nesting_resolved_table` (`recipe_id`)");
+      db.execSQL("CREATE INDEX IF NOT EXISTS "
+          + "`index_recipe_nesting_resolved_table_includes_recipe_id` "
+          + "ON `recipe_nesting_resolved_table` (`includes_recipe_id`)");
+    }
+  };
+
+  static final Migration MIGRATION_55_56 = new Migration(55, 56) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase db) {
+      db.execSQL("CREATE INDEX IF NOT EXISTS `index_meal_plan_entry_table_day` "
+          + "ON `meal_plan_entry_table` (`day`)");
+    }
+  };
 
   public abstract ShoppingListDao shoppingListDao();
 
@@ -163,6 +204,8 @@ public abstract class AppDatabase extends RoomDatabase {
 
   public abstract MissingItemDao missingItemDao();
 
+  public abstract OverviewStartDao overviewStartDao();
+
   public abstract QuantityUnitConversionDao quantityUnitConversionDao();
 
   public abstract QuantityUnitConversionResolvedDao quantityUnitConversionResolvedDao();
@@ -214,17 +257,65 @@ public abstract class AppDatabase extends RoomDatabase {
   public abstract ServerDao serverDao();
 
   public static AppDatabase getAppDatabase(Context context) {
-    if (INSTANCE == null) {
-      INSTANCE = Room.databaseBuilder(
-          context.getApplicationContext(),
-          AppDatabase.class,
-          "app_database"
-      ).fallbackToDestructiveMigration().build();
+    AppDatabase instance = INSTANCE;
+    if (instance == null) {
+      synchronized (AppDatabase.class) {
+        instance = INSTANCE;
+        if (instance == null) {
+          int serverId = ServerUtil.getActiveServerId(
+              PreferenceManager.getDefaultSharedPreferences(context)
+          );
+          instance = INSTANCES.get(serverId);
+          if (instance == null) {
+            instance = buildDatabase(context, serverId);
+            INSTANCES.put(serverId, instance);
+          }
+          INSTANCE = instance;
+        }
+      }
     }
-    return INSTANCE;
+    return instance;
+  }
+
+  private static AppDatabase buildDatabase(Context context, int serverId) {
+    int[] unmigratedVersions = new int[FIRST_MIGRATED_VERSION - 1];
+    for (int i = 0; i < unmigratedVersions.length; i++) {
+      unmigratedVersions[i] = i + 1;
+    }
+    return Room.databaseBuilder(
+        context.getApplicationContext(),
+        AppDatabase.class,
+        ServerUtil.getDatabaseName(serverId)
+    ).setJournalMode(JournalMode.WRITE_AHEAD_LOGGING)
+        .addMigrations(MIGRATION_54_55, MIGRATION_55_56)
+        .fallbackToDestructiveMigrationFrom(unmigratedVersions)
+        .fallbackToDestructiveMigrationOnDowngrade()
+        .addCallback(new Callback() {
+          @Override
+          public void onOpen(@NonNull SupportSQLiteDatabase db) {
+            db.query("PRAGMA cache_size = " + PAGE_CACHE_SIZE).close();
+          }
+        })
+        .build();
+  }
+
+  /**
+   * Opens the database on a background thread, so that migrations and the opening itself
+   * are already done when the first screen queries its data.
+   */
+  public static void preload(Context context) {
+    AppDatabase database = getAppDatabase(context);
+    Completable.fromAction(() -> database.getOpenHelper().getWritableDatabase())
+        .subscribeOn(Schedulers.io())
+        .onErrorComplete()
+        .subscribe();
   }
 
-  public static void destroyInstance() {
+  /**
+   * Has to be called after the active server changed, so the next getAppDatabase call returns
+   * the database of the new server. The database of the previous server stays open.
+   */
+  public static synchronized void destroyInstance() {
     INSTANCE = null;
   }
 
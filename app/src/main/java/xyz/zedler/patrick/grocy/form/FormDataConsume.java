@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.form;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Handler;
-import android.util.Log;
 import android.widget.ImageView;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.LiveData;
@@ -47,6 +46,7 @@ import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.StockEntry;
 import xyz.zedler.patrick.grocy.model.StockLocation;
 import xyz.zedler.patrick.grocy.util.AmountUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -573,7 +573,7 @@ public class FormDataConsume {
       }
     } catch (JSONException e) {
       if (isDebuggingEnabled()) {
-        Log.e(TAG, "getFilledJSONObject: " + e);
+        LogUtil.e(TAG, "getFilledJSONObject: " + e);
       }
     }
     return json;
@@ -19,9 +19,9 @@
 
 package xyz.zedler.patrick.grocy.fragment;
 
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.MenuItem;
 import android.view.View;
@@ -29,22 +29,29 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import java.util.ArrayList;
+import java.util.List;
+import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.activity.MainActivity;
+import xyz.zedler.patrick.grocy.adapter.LogEntryAdapter;
 import xyz.zedler.patrick.grocy.behavior.SystemBarBehavior;
 import xyz.zedler.patrick.grocy.databinding.FragmentLogBinding;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.FeedbackBottomSheet;
-import xyz.zedler.patrick.grocy.Constants;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 public class LogFragment extends BaseFragment {
 
   private final static String TAG = LogFragment.class.getSimpleName();
+  private final static int REFRESH_INTERVAL = 1000;
 
   private FragmentLogBinding binding;
   private MainActivity activity;
+  private LogEntryAdapter adapter;
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable refreshRunnable = this::refreshPeriodically;
+  private long nextSequence = 0;
   private boolean showInfo = false;
 
   @Override
@@ -60,6 +67,8 @@ public class LogFragment extends BaseFragment {
   @Override
   public void onDestroyView() {
     super.onDestroyView();
+    handler.removeCallbacks(refreshRunnable);
+    binding.recycler.setAdapter(null);
     binding = null;
   }
 
@@ -70,7 +79,7 @@ public class LogFragment extends BaseFragment {
 
     SystemBarBehavior systemBarBehavior = new SystemBarBehavior(activity);
     systemBarBehavior.setAppBar(binding.appBar);
-    systemBarBehavior.setScroll(binding.scroll, binding.frameContainer);
+    systemBarBehavior.setRecycler(binding.recycler);
     systemBarBehavior.setUp();
     activity.setSystemBarBehavior(systemBarBehavior);
 
@@ -78,7 +87,7 @@ public class LogFragment extends BaseFragment {
 
     activity.getScrollBehavior().setNestedOverScrollFixEnabled(false);
     activity.getScrollBehavior().setUpScroll(
-        binding.appBar, false, binding.scroll, true
+        binding.appBar, false, binding.recycler, true
     );
     activity.getScrollBehavior().setBottomBarVisibility(true);
     activity.updateBottomAppBar(false, R.menu.menu_log, this::onMenuItemClick);
@@ -91,13 +100,24 @@ public class LogFragment extends BaseFragment {
       showInfo = savedInstanceState.getBoolean("show_info");
     }
 
-    new Handler().postDelayed(
-        () -> new loadAsyncTask(
-            getLogcatCommand(),
-            log -> binding.text.setText(log)
-        ).execute(),
-        300
+    adapter = new LogEntryAdapter();
+    binding.recycler.setLayoutManager(
+        new LinearLayoutManager(activity, LinearLayoutManager.VERTICAL, false)
     );
+    binding.recycler.setAdapter(adapter);
+    reload();
+  }
+
+  @Override
+  public void onResume() {
+    super.onResume();
+    handler.postDelayed(refreshRunnable, REFRESH_INTERVAL);
+  }
+
+  @Override
+  public void onPause() {
+    handler.removeCallbacks(refreshRunnable);
+    super.onPause();
   }
 
   @Override
@@ -106,62 +126,51 @@ public class LogFragment extends BaseFragment {
     super.onSaveInstanceState(outState);
   }
 
-  private static class loadAsyncTask extends AsyncTask<Void, Void, String> {
+  private void refreshPeriodically() {
+    if (binding == null) return;
+    refresh();
+    handler.postDelayed(refreshRunnable, REFRESH_INTERVAL);
+  }
 
-    private final String logcatCommand;
-    private final LogLoadedListener listener;
+  private void reload() {
+    nextSequence = 0;
+    adapter.setEntries(getNewEntries());
+    scrollToBottom();
+  }
 
-    loadAsyncTask(String logcatCommand, LogLoadedListener listener) {
-      this.logcatCommand = logcatCommand;
-      this.listener = listener;
-    }
+  // appends only the entries which were logged since the last refresh
+  private void refresh() {
+    boolean atBottom = !binding.recycler.canScrollVertically(1);
+    List<LogUtil.Entry> entries = getNewEntries();
+    if (entries.isEmpty()) return;
+    adapter.addEntries(entries);
+    if (atBottom) scrollToBottom();
+  }
 
-    @Override
-    protected final String doInBackground(Void... params) {
-      StringBuilder log = new StringBuilder();
-      try {
-        Process process = Runtime.getRuntime().exec(logcatCommand);
-        BufferedReader bufferedReader = new BufferedReader(
-            new InputStreamReader(process.getInputStream())
-        );
-        String line;
-        while ((line = bufferedReader.readLine()) != null) {
-          log.append(line).append('\n');
-        }
-        if (log.length() > 0) log.deleteCharAt(log.length() - 1);
-      } catch (IOException ignored) {
-      }
-      return log.toString();
+  private List<LogUtil.Entry> getNewEntries() {
+    List<LogUtil.Entry> entries = LogUtil.getEntriesSince(nextSequence);
+    if (!entries.isEmpty()) {
+      nextSequence = entries.get(entries.size() - 1).getSequence() + 1;
     }
-
-    @Override
-    protected void onPostExecute(String log) {
-      if (listener != null) {
-        listener.onLogLoaded(log);
+    int minLevel = showInfo ? LogUtil.INFO : LogUtil.ERROR;
+    List<LogUtil.Entry> filtered = new ArrayList<>();
+    for (LogUtil.Entry entry : entries) {
+      if (entry.getLevel() >= minLevel) {
+        filtered.add(entry);
       }
     }
-
-    private interface LogLoadedListener {
-
-      void onLogLoaded(String log);
-    }
+    return filtered;
   }
 
-  private String getLogcatCommand() {
-    return "logcat -d " +
-        (showInfo ? "*:I " : "*:E ") +
-        (showInfo ? "-t 150 " : "-t 300 ") +
-        "AdrenoGLES:S " +
-        "ActivityThread:S " +
-        "RenderThread:S " +
-        "Gralloc3:S " +
-        "OpenGLRenderer:S " +
-        "Choreographer:S ";
+  private void scrollToBottom() {
+    if (adapter.getItemCount() > 0) {
+      binding.recycler.scrollToPosition(adapter.getItemCount() - 1);
+    }
   }
 
   private boolean onMenuItemClick(MenuItem item) {
     if (item.getItemId() == R.id.action_refresh) {
-      new loadAsyncTask(getLogcatCommand(), log -> binding.text.setText(log)).execute();
+      refresh();
       return true;
     } else if (item.getItemId() == R.id.action_feedback) {
       activity.showBottomSheet(new FeedbackBottomSheet(), null);
@@ -175,11 +184,11 @@ public class LogFragment extends BaseFragment {
       return true;
     } else if (item.getItemId() == R.id.action_error_logs) {
       showInfo = false;
-      new loadAsyncTask(getLogcatCommand(), log -> binding.text.setText(log)).execute();
+      reload();
       return true;
     } else if (item.getItemId() == R.id.action_info_logs) {
       showInfo = true;
-      new loadAsyncTask(getLogcatCommand(), log -> binding.text.setText(log)).execute();
+      reload();
       return true;
     }
     return false;
@@ -23,7 +23,6 @@ import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -39,6 +38,7 @@ import xyz.zedler.patrick.grocy.scanner.EmbeddedFragmentScanner;
 import xyz.zedler.patrick.grocy.scanner.EmbeddedFragmentScanner.BarcodeListener;
 import xyz.zedler.patrick.grocy.scanner.EmbeddedFragmentScannerBundle;
 import xyz.zedler.patrick.grocy.util.ClickUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 public class LoginApiQrCodeFragment extends BaseFragment implements BarcodeListener {
 
@@ -187,7 +187,7 @@ public class LoginApiQrCodeFragment extends BaseFragment implements BarcodeListe
       String[] resultSplit = rawValue.split("\\.");
       if (resultSplit.length != 3) {
         activity.showSnackbar(R.string.error_token_qr_code, true);
-        Log.e(TAG, "onBarcodeRecognized: not a HASS Token QR code: " + rawValue);
+        LogUtil.e(TAG, "onBarcodeRecognized: not a HASS Token QR code: " + rawValue);
         embeddedFragmentScanner.startScannerIfVisible();
         return;
       }
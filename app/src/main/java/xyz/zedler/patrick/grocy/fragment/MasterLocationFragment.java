@@ -25,7 +25,6 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -37,7 +36,6 @@ import androidx.preference.PreferenceManager;
 import com.android.volley.VolleyError;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import java.util.ArrayList;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -51,6 +49,7 @@ import xyz.zedler.patrick.grocy.databinding.FragmentMasterLocationBinding;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.util.BindingAdaptersUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
@@ -297,8 +296,7 @@ public class MasterLocationFragment extends BaseFragment {
         response -> {
           locations = gson.fromJson(
               response,
-              new TypeToken<ArrayList<Location>>() {
-              }.getType()
+              Location.LIST_TYPE
           );
           locationNames = getLocationNames();
 
@@ -394,7 +392,7 @@ public class MasterLocationFragment extends BaseFragment {
       jsonObject.put("is_freezer", binding.checkboxMasterLocationFreezer.isChecked());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveLocation: " + e);
+        LogUtil.e(TAG, "saveLocation: " + e);
       }
     }
     if (editLocation != null) {
@@ -405,7 +403,7 @@ public class MasterLocationFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveLocation: " + error);
+              LogUtil.e(TAG, "saveLocation: " + error);
             }
           }
       );
@@ -417,10 +415,10 @@ public class MasterLocationFragment extends BaseFragment {
             int objectId = -1;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveLocation: " + objectId);
+              LogUtil.i(TAG, "saveLocation: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveLocation: " + e);
+                LogUtil.e(TAG, "saveLocation: " + e);
               }
             }
             if (objectId != -1) {
@@ -432,7 +430,7 @@ public class MasterLocationFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveLocation: " + error);
+              LogUtil.e(TAG, "saveLocation: " + error);
             }
           }
       );
@@ -171,6 +171,10 @@ public class MasterProductCatOptionalFragment extends BaseFragment implements Ba
 
     viewModel.getFormData().getPictureFilenameLive().observe(getViewLifecycleOwner(),
         this::loadProductPicture);
+    viewModel.getUploadProgressLive().observe(getViewLifecycleOwner(), progress -> {
+      binding.progressPictureUpload.setVisibility(progress != null ? View.VISIBLE : View.GONE);
+      if (progress != null) binding.progressPictureUpload.setProgressCompat(progress, true);
+    });
 
     mActivityResultLauncherTakePicture = registerForActivityResult(
         new ActivityResultContracts.StartActivityForResult(),
@@ -25,7 +25,6 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -37,7 +36,6 @@ import androidx.preference.PreferenceManager;
 import com.android.volley.VolleyError;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import java.util.ArrayList;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -51,6 +49,7 @@ import xyz.zedler.patrick.grocy.databinding.FragmentMasterProductGroupBinding;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.ProductGroup;
 import xyz.zedler.patrick.grocy.util.BindingAdaptersUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
@@ -282,8 +281,7 @@ public class MasterProductGroupFragment extends BaseFragment {
         response -> {
           productGroups = gson.fromJson(
               response,
-              new TypeToken<ArrayList<ProductGroup>>() {
-              }.getType()
+              ProductGroup.LIST_TYPE
           );
           productGroupNames = getProductGroupNames();
 
@@ -376,7 +374,7 @@ public class MasterProductGroupFragment extends BaseFragment {
       );
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveProductGroup: " + e);
+        LogUtil.e(TAG, "saveProductGroup: " + e);
       }
     }
     if (editProductGroup != null) {
@@ -390,7 +388,7 @@ public class MasterProductGroupFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveProductGroup: " + error);
+              LogUtil.e(TAG, "saveProductGroup: " + error);
             }
           }
       );
@@ -402,10 +400,10 @@ public class MasterProductGroupFragment extends BaseFragment {
             int objectId = -1;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveProductGroup: " + objectId);
+              LogUtil.i(TAG, "saveProductGroup: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveProductGroup: " + e);
+                LogUtil.e(TAG, "saveProductGroup: " + e);
               }
             }
             if (objectId != -1) {
@@ -416,7 +414,7 @@ public class MasterProductGroupFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveProductGroup: " + error);
+              LogUtil.e(TAG, "saveProductGroup: " + error);
             }
           }
       );
@@ -25,7 +25,6 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -51,6 +50,7 @@ import xyz.zedler.patrick.grocy.databinding.FragmentMasterQuantityUnitBinding;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.util.BindingAdaptersUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
@@ -410,7 +410,7 @@ public class MasterQuantityUnitFragment extends BaseFragment {
       );
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveQuantityUnit: " + e);
+        LogUtil.e(TAG, "saveQuantityUnit: " + e);
       }
     }
     if (editQuantityUnit != null) {
@@ -421,7 +421,7 @@ public class MasterQuantityUnitFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveQuantityUnit: " + error);
+              LogUtil.e(TAG, "saveQuantityUnit: " + error);
             }
           }
       );
@@ -433,10 +433,10 @@ public class MasterQuantityUnitFragment extends BaseFragment {
             int objectId = -1;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveQuantityUnit: " + objectId);
+              LogUtil.i(TAG, "saveQuantityUnit: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveQuantityUnit: " + e);
+                LogUtil.e(TAG, "saveQuantityUnit: " + e);
               }
             }
             if (objectId != -1) {
@@ -447,7 +447,7 @@ public class MasterQuantityUnitFragment extends BaseFragment {
           }, error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveQuantityUnit: " + error);
+              LogUtil.e(TAG, "saveQuantityUnit: " + error);
             }
           }
       );
@@ -24,7 +24,6 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -49,6 +48,7 @@ import xyz.zedler.patrick.grocy.databinding.FragmentMasterStoreBinding;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.util.BindingAdaptersUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
@@ -365,7 +365,7 @@ public class MasterStoreFragment extends BaseFragment {
       );
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveStore: " + e);
+        LogUtil.e(TAG, "saveStore: " + e);
       }
     }
     if (editStore != null) {
@@ -376,7 +376,7 @@ public class MasterStoreFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveStore: " + error);
+              LogUtil.e(TAG, "saveStore: " + error);
             }
           }
       );
@@ -388,7 +388,7 @@ public class MasterStoreFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveStore: " + error);
+              LogUtil.e(TAG, "saveStore: " + error);
             }
           }
       );
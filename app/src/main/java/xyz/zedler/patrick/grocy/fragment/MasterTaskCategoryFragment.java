@@ -25,7 +25,6 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Editable;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -51,6 +50,7 @@ import xyz.zedler.patrick.grocy.databinding.FragmentMasterTaskCategoryBinding;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.TaskCategory;
 import xyz.zedler.patrick.grocy.util.BindingAdaptersUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
@@ -357,7 +357,7 @@ public class MasterTaskCategoryFragment extends BaseFragment {
       );
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveTaskCategory: " + e);
+        LogUtil.e(TAG, "saveTaskCategory: " + e);
       }
     }
     if (editTaskCategory != null) {
@@ -368,7 +368,7 @@ public class MasterTaskCategoryFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveTaskCategory: " + error);
+              LogUtil.e(TAG, "saveTaskCategory: " + error);
             }
           }
       );
@@ -380,7 +380,7 @@ public class MasterTaskCategoryFragment extends BaseFragment {
           error -> {
             showErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveTaskCategory: " + error);
+              LogUtil.e(TAG, "saveTaskCategory: " + error);
             }
           }
       );
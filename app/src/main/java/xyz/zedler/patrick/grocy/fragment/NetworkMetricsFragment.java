@@ -0,0 +1,121 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.fragment;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.view.LayoutInflater;
+import android.view.MenuItem;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import org.json.JSONException;
+import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.activity.MainActivity;
+import xyz.zedler.patrick.grocy.behavior.SystemBarBehavior;
+import xyz.zedler.patrick.grocy.databinding.FragmentNetworkMetricsBinding;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.web.NetworkMetrics;
+
+public class NetworkMetricsFragment extends BaseFragment {
+
+  private final static String TAG = NetworkMetricsFragment.class.getSimpleName();
+
+  private FragmentNetworkMetricsBinding binding;
+  private MainActivity activity;
+
+  @Override
+  public View onCreateView(
+      @NonNull LayoutInflater inflater,
+      ViewGroup container,
+      Bundle savedInstanceState
+  ) {
+    binding = FragmentNetworkMetricsBinding.inflate(inflater, container, false);
+    return binding.getRoot();
+  }
+
+  @Override
+  public void onDestroyView() {
+    super.onDestroyView();
+    binding = null;
+  }
+
+  @Override
+  public void onViewCreated(@Nullable View view, @Nullable Bundle savedInstanceState) {
+    activity = (MainActivity) requireActivity();
+    binding.setActivity(activity);
+
+    SystemBarBehavior systemBarBehavior = new SystemBarBehavior(activity);
+    systemBarBehavior.setAppBar(binding.appBar);
+    systemBarBehavior.setScroll(binding.scroll, binding.frameContainer);
+    systemBarBehavior.setUp();
+    activity.setSystemBarBehavior(systemBarBehavior);
+
+    binding.toolbar.setNavigationOnClickListener(v -> activity.navUtil.navigateUp());
+
+    activity.getScrollBehavior().setNestedOverScrollFixEnabled(false);
+    activity.getScrollBehavior().setUpScroll(
+        binding.appBar, false, binding.scroll, true
+    );
+    activity.getScrollBehavior().setBottomBarVisibility(true);
+    activity.updateBottomAppBar(false, R.menu.menu_network_metrics, this::onMenuItemClick);
+
+    updateReport();
+  }
+
+  private void updateReport() {
+    NetworkMetrics metrics = NetworkMetrics.getInstance();
+    binding.text.setText(
+        metrics.isEmpty() ? getString(R.string.msg_network_metrics_empty) : metrics.getReport()
+    );
+  }
+
+  private void exportJson() {
+    String json;
+    try {
+      json = NetworkMetrics.getInstance().toJson().toString(2);
+    } catch (JSONException e) {
+      LogUtil.e(TAG, "exportJson: " + e);
+      activity.showSnackbar(R.string.error_undefined, false);
+      return;
+    }
+    Intent intent = new Intent(Intent.ACTION_SEND);
+    intent.putExtra(Intent.EXTRA_TEXT, json);
+    intent.setType("application/json");
+    startActivity(Intent.createChooser(intent, null));
+  }
+
+  private boolean onMenuItemClick(MenuItem item) {
+    if (item.getItemId() == R.id.action_refresh) {
+      updateReport();
+      return true;
+    } else if (item.getItemId() == R.id.action_export) {
+      exportJson();
+      return true;
+    } else if (item.getItemId() == R.id.action_clear) {
+      NetworkMetrics.getInstance().clear();
+      updateReport();
+      return true;
+    }
+    return false;
+  }
+}
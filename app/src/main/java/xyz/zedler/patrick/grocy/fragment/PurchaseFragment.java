@@ -269,6 +269,13 @@ public class PurchaseFragment extends BaseFragment implements BarcodeListener {
             value ? colorBlue : ResUtil.getColor(activity, R.attr.colorOnSurface)
         )
     );
+    viewModel.getBatchScanModeLive().observe(getViewLifecycleOwner(), enabled -> {
+      embeddedFragmentScanner.setContinuousScanning(enabled);
+      updateBatchScanSubtitle();
+    });
+    viewModel.getStagedPurchasesCountLive().observe(
+        getViewLifecycleOwner(), count -> updateBatchScanSubtitle()
+    );
     binding.textInputAmount.setHelperTextColor(ColorStateList.valueOf(colorBlue));
     binding.textInputPurchasePrice.setHelperTextColor(ColorStateList.valueOf(colorBlue));
     viewModel.getFormData().getDueDateErrorLive().observe(
@@ -313,7 +320,9 @@ public class PurchaseFragment extends BaseFragment implements BarcodeListener {
         Constants.FAB.TAG.PURCHASE,
         args.getAnimateStart() && savedInstanceState == null,
         () -> {
-          if (viewModel.isQuickModeEnabled()
+          if (viewModel.isBatchScanModeEnabled()) {
+            viewModel.purchaseStagedProducts();
+          } else if (viewModel.isQuickModeEnabled()
               && viewModel.getFormData().isCurrentProductFlowNotInterrupted()) {
             focusNextInvalidView();
           } else if (!viewModel.getFormData().isProductNameValid()) {
@@ -361,7 +370,7 @@ public class PurchaseFragment extends BaseFragment implements BarcodeListener {
   @Override
   public void onBarcodeRecognized(String rawValue) {
     clearInputFocus();
-    if (!viewModel.isQuickModeEnabled()) {
+    if (!viewModel.isQuickModeEnabled() && !viewModel.isBatchScanModeEnabled()) {
       viewModel.getFormData().toggleScannerVisibility();
     }
     viewModel.onBarcodeRecognized(rawValue);
@@ -536,6 +545,18 @@ public class PurchaseFragment extends BaseFragment implements BarcodeListener {
     clearInputFocusOrFocusNextInvalidView();
   }
 
+  private void updateBatchScanSubtitle() {
+    if (!viewModel.isBatchScanModeEnabled()) {
+      binding.toolbar.setSubtitle(null);
+      return;
+    }
+    Integer count = viewModel.getStagedPurchasesCountLive().getValue();
+    int stagedCount = count != null ? count : 0;
+    binding.toolbar.setSubtitle(getResources().getQuantityString(
+        R.plurals.msg_batch_scan_staged_products, stagedCount, stagedCount
+    ));
+  }
+
   private boolean onMenuItemClick(MenuItem item) {
     if (item.getItemId() == R.id.action_product_overview) {
       ViewUtil.startIcon(item);
@@ -558,6 +579,21 @@ public class PurchaseFragment extends BaseFragment implements BarcodeListener {
       viewModel.getFormData().clearForm();
       embeddedFragmentScanner.startScannerIfVisible();
       return true;
+    } else if (item.getItemId() == R.id.action_batch_scan) {
+      if (viewModel.isBatchScanModeEnabled() && viewModel.hasStagedPurchases()) {
+        new MaterialAlertDialogBuilder(activity, R.style.ThemeOverlay_Grocy_AlertDialog_Caution)
+            .setTitle(R.string.title_confirmation)
+            .setMessage(R.string.msg_batch_scan_discard)
+            .setPositiveButton(R.string.action_discard, (dialog, which) -> {
+              performHapticClick();
+              viewModel.toggleBatchScanMode();
+            }).setNegativeButton(R.string.action_cancel, (dialog, which) -> performHapticClick())
+            .setOnCancelListener(dialog -> performHapticClick()).create().show();
+      } else {
+        clearInputFocus();
+        viewModel.toggleBatchScanMode();
+      }
+      return true;
     } else if (item.getItemId() == R.id.action_skip) {
       ViewUtil.startIcon(item);
       clearInputFocus();
@@ -212,6 +212,10 @@ public class RecipeEditFragment extends BaseFragment implements EmbeddedFragment
 
     viewModel.getFormData().getPictureFilenameLive().observe(getViewLifecycleOwner(),
         this::loadRecipePicture);
+    viewModel.getUploadProgressLive().observe(getViewLifecycleOwner(), progress -> {
+      binding.progressPictureUpload.setVisibility(progress != null ? View.VISIBLE : View.GONE);
+      if (progress != null) binding.progressPictureUpload.setProgressCompat(progress, true);
+    });
 
     mActivityResultLauncherTakePicture = registerForActivityResult(
         new ActivityResultContracts.StartActivityForResult(),
@@ -33,6 +33,7 @@ import androidx.appcompat.app.AlertDialog;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.preference.PreferenceManager;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
+import java.util.List;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.activity.MainActivity;
@@ -40,6 +41,7 @@ import xyz.zedler.patrick.grocy.behavior.SystemBarBehavior;
 import xyz.zedler.patrick.grocy.databinding.FragmentSettingsCatServerBinding;
 import xyz.zedler.patrick.grocy.model.BottomSheetEvent;
 import xyz.zedler.patrick.grocy.model.Event;
+import xyz.zedler.patrick.grocy.model.Server;
 import xyz.zedler.patrick.grocy.model.SnackbarMessage;
 import xyz.zedler.patrick.grocy.util.ClickUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
@@ -52,11 +54,12 @@ public class SettingsCatServerFragment extends BaseFragment {
 
   private static final String DIALOG_RESTART_SHOWING = "dialog_restart_showing";
   private static final String DIALOG_LOGOUT_SHOWING = "dialog_logout_showing";
+  private static final String DIALOG_SERVERS_SHOWING = "dialog_servers_showing";
 
   private FragmentSettingsCatServerBinding binding;
   private MainActivity activity;
   private SettingsViewModel viewModel;
-  private AlertDialog dialogRestart, dialogLogout;
+  private AlertDialog dialogRestart, dialogLogout, dialogServers;
 
   @Override
   public View onCreateView(
@@ -145,6 +148,9 @@ public class SettingsCatServerFragment extends BaseFragment {
     super.onSaveInstanceState(outState);
     outState.putBoolean(DIALOG_RESTART_SHOWING, dialogRestart != null && dialogRestart.isShowing());
     outState.putBoolean(DIALOG_LOGOUT_SHOWING, dialogLogout != null && dialogLogout.isShowing());
+    outState.putBoolean(
+        DIALOG_SERVERS_SHOWING, dialogServers != null && dialogServers.isShowing()
+    );
   }
 
   @Override
@@ -159,6 +165,9 @@ public class SettingsCatServerFragment extends BaseFragment {
             () -> showLogoutDialog(viewModel.isDemoInstance()), 1
         );
       }
+      if (savedInstanceState.getBoolean(DIALOG_SERVERS_SHOWING)) {
+        new Handler(Looper.getMainLooper()).postDelayed(this::showServersDialog, 1);
+      }
     }
   }
 
@@ -192,10 +201,44 @@ public class SettingsCatServerFragment extends BaseFragment {
           performHapticHeavyClick();
           viewModel.clearAllTables();
           viewModel.clearServerRelatedSharedPreferences();
+          viewModel.removeActiveServer();
           new Handler().postDelayed(() -> RestartUtil.restartApp(requireContext()), 500);
         }).setNegativeButton(R.string.action_cancel, (dialog, which) -> performHapticClick())
         .setOnCancelListener(dialog -> performHapticClick())
         .create();
     dialogLogout.show();
   }
+
+  public void showServersDialog() {
+    List<Server> servers = viewModel.getServers();
+    String[] items = new String[servers.size()];
+    int checkedItem = -1;
+    for (int i = 0; i < servers.size(); i++) {
+      Server server = servers.get(i);
+      items[i] = server.getAlias() != null ? server.getAlias() : server.getGrocyServerUrl();
+      if (server.getId() == viewModel.getActiveServerId()) {
+        checkedItem = i;
+      }
+    }
+    dialogServers = new MaterialAlertDialogBuilder(activity)
+        .setTitle(R.string.setting_servers)
+        .setSingleChoiceItems(items, checkedItem, (dialog, which) -> {
+          dialog.dismiss();
+          Server server = servers.get(which);
+          if (server.getId() == viewModel.getActiveServerId()) {
+            performHapticClick();
+            return;
+          }
+          performHapticHeavyClick();
+          viewModel.switchServer(server.getId());
+          RestartUtil.restartActivity(activity);
+        }).setPositiveButton(R.string.action_add_server, (dialog, which) -> {
+          performHapticHeavyClick();
+          viewModel.addServer();
+          RestartUtil.restartActivity(activity);
+        }).setNegativeButton(R.string.action_cancel, (dialog, which) -> performHapticClick())
+        .setOnCancelListener(dialog -> performHapticClick())
+        .create();
+    dialogServers.show();
+  }
 }
@@ -23,7 +23,6 @@ import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.os.Handler;
 import android.text.Spanned;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.MenuItem;
 import android.view.View;
@@ -55,6 +54,7 @@ import xyz.zedler.patrick.grocy.model.ShoppingList;
 import xyz.zedler.patrick.grocy.model.ShoppingListItem;
 import xyz.zedler.patrick.grocy.model.SnackbarMessage;
 import xyz.zedler.patrick.grocy.util.ClickUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.viewmodel.ShoppingModeViewModel;
 
@@ -388,7 +388,7 @@ public class ShoppingModeFragment extends BaseFragment implements
       @Override
       public void run() {
         if (debug) {
-          Log.i(TAG, "auto sync shopping list (but may skip download)");
+          LogUtil.i(TAG, "auto sync shopping list (but may skip download)");
         }
         handler.post(() -> viewModel.downloadData(false, false));
       }
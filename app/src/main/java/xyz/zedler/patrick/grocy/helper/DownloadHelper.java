@@ -23,7 +23,6 @@ import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.util.Log;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
@@ -33,13 +32,15 @@ import com.android.volley.RequestQueue;
 import com.android.volley.VolleyError;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -63,6 +64,7 @@ import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
+import xyz.zedler.patrick.grocy.model.RecipeNesting;
 import xyz.zedler.patrick.grocy.model.RecipePosition;
 import xyz.zedler.patrick.grocy.model.RecipePositionResolved;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
@@ -77,21 +79,30 @@ import xyz.zedler.patrick.grocy.model.TaskCategory;
 import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.model.Userfield;
 import xyz.zedler.patrick.grocy.model.VolatileItem;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
-import xyz.zedler.patrick.grocy.web.CustomByteArrayRequest;
+import xyz.zedler.patrick.grocy.web.CustomFileRequest;
 import xyz.zedler.patrick.grocy.web.CustomJsonArrayRequest;
 import xyz.zedler.patrick.grocy.web.CustomJsonObjectRequest;
 import xyz.zedler.patrick.grocy.web.CustomStringRequest;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.OnQueueEmptyListener;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
+import xyz.zedler.patrick.grocy.web.PictureCacheWorker;
 import xyz.zedler.patrick.grocy.web.RequestQueueSingleton;
 
 public class DownloadHelper {
 
   private static final String TAG = DownloadHelper.class.getSimpleName();
 
+  // shared by all instances, Gson caches the adapter of every type it has parsed once
+  private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapter(Double.class, new BadDoubleTypeAdapter())
+      .registerTypeAdapter(double.class, new BadDoubleTypeAdapter())
+      .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+      .create();
+
   public final Application application;
   public final GrocyApi grocyApi;
   private final RequestQueue requestQueue;
@@ -120,8 +131,7 @@ public class DownloadHelper {
     sharedPrefs = PreferenceManager.getDefaultSharedPreferences(application);
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
     appDatabase = AppDatabase.getAppDatabase(application.getApplicationContext());
-    gson = new GsonBuilder().registerTypeAdapter(Double.class, new BadDoubleDeserializer())
-        .registerTypeAdapter(double.class, new BadDoubleDeserializer()).create();
+    gson = GSON;
     requestQueue = RequestQueueSingleton.getInstance(application).getRequestQueue();
     grocyApi = new GrocyApi(application);
     apiKey = sharedPrefs.getString(Constants.PREF.API_KEY, "");
@@ -147,7 +157,7 @@ public class DownloadHelper {
     this.tag = tag;
     sharedPrefs = PreferenceManager.getDefaultSharedPreferences(application);
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
-    gson = new GsonBuilder().registerTypeAdapter(Double.class, new BadDoubleDeserializer()).create();
+    gson = GSON;
     appDatabase = AppDatabase.getAppDatabase(application.getApplicationContext());
     RequestQueueSingleton.getInstance(application).newRequestQueue();
     requestQueue = RequestQueueSingleton.getInstance(application).getRequestQueue();
@@ -346,18 +356,20 @@ public class DownloadHelper {
 
   public void putFile(
       String url,
-      byte[] fileContent,
+      File file,
+      @Nullable OnProgressListener onProgress,
       Runnable onSuccess,
       OnErrorListener onError
   ) {
     String sessionKey = sharedPrefs
         .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
-    CustomByteArrayRequest request = new CustomByteArrayRequest(
+    CustomFileRequest request = new CustomFileRequest(
         Request.Method.PUT,
         url,
         apiKey,
         sessionKey,
-        fileContent,
+        file,
+        onProgress,
         onSuccess,
         onError::onError,
         timeoutSeconds,
@@ -408,7 +420,7 @@ public class DownloadHelper {
             String dateStr = body.getString("changed_time");
             onResponseListener.onResponse(dateStr);
           } catch (JSONException e) {
-            Log.e(tag, "getTimeDbChanged: " + e);
+            LogUtil.e(tag, "getTimeDbChanged: " + e);
             onErrorListener.onError(e);
           }
         },
@@ -488,8 +500,16 @@ public class DownloadHelper {
       return;
     }
 
+    String productsTimeBefore = sharedPrefs.getString(Constants.PREF.DB_LAST_TIME_PRODUCTS, null);
+    String recipesTimeBefore = sharedPrefs.getString(Constants.PREF.DB_LAST_TIME_RECIPES, null);
     NetworkQueue queue = newQueue(updated -> {
       if (offlineLive != null) offlineLive.setValue(false);
+      if (updated && (!Objects.equals(productsTimeBefore,
+          sharedPrefs.getString(Constants.PREF.DB_LAST_TIME_PRODUCTS, null))
+          || !Objects.equals(recipesTimeBefore,
+          sharedPrefs.getString(Constants.PREF.DB_LAST_TIME_RECIPES, null)))) {
+        PictureCacheWorker.enqueue(application);
+      }
       onFinished.onQueueEmpty(updated);
     }, error -> {
       if (offlineLive != null) offlineLive.setValue(true);
@@ -554,6 +574,8 @@ public class DownloadHelper {
         queue.append(RecipeFulfillment.updateRecipeFulfillments(this, dbChangedTime, forceUpdate, null));
       } else if (type == RecipePosition.class) {
         queue.append(RecipePosition.updateRecipePositions(this, dbChangedTime, forceUpdate, null));
+      } else if (type == RecipeNesting.class) {
+        queue.append(RecipeNesting.updateRecipeNestings(this, dbChangedTime, forceUpdate, null));
       } else if (type == RecipePositionResolved.class) {
         queue.append(RecipePositionResolved.updateRecipePositionsResolved(this, dbChangedTime, forceUpdate, null));
       } else if (type == Userfield.class) {
@@ -599,6 +621,11 @@ public class DownloadHelper {
     void onResponse(JSONArray response);
   }
 
+  public interface OnProgressListener {
+
+    void onProgress(int percent);
+  }
+
   public interface OnErrorListener {
 
     void onError(VolleyError volleyError);
@@ -619,14 +646,20 @@ public class DownloadHelper {
     void onFinished(@StringRes int msg);
   }
 
-  public static class BadDoubleDeserializer implements JsonDeserializer<Double> {
+  public static class BadDoubleTypeAdapter extends TypeAdapter<Double> {
+
+    @Override
+    public void write(JsonWriter out, Double value) throws IOException {
+      out.value(value);
+    }
+
     @Override
-    public Double deserialize(JsonElement element, Type type, JsonDeserializationContext context) throws JsonParseException {
-      try {
-        return NumUtil.toDouble(element.getAsString());
-      } catch (NumberFormatException e) {
-        throw new JsonParseException(e);
+    public Double read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
       }
+      return NumUtil.toDouble(ModelTypeAdapterFactory.nextString(in));
     }
   }
 }
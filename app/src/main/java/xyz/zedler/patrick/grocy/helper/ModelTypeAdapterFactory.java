@@ -0,0 +1,494 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.helper;
+
+import androidx.annotation.Nullable;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Map;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+import xyz.zedler.patrick.grocy.model.ShoppingListItem;
+import xyz.zedler.patrick.grocy.model.StockEntry;
+import xyz.zedler.patrick.grocy.model.StockItem;
+
+/**
+ * Streaming TypeAdapters for the models of the largest sync responses. They read the fields by
+ * name into the setters instead of going through reflection and convert Grocy's numbers which
+ * are sent as strings (or the other way around) inline. Writing is done by the reflective
+ * adapters, because only responses are parsed with these models.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+  @Nullable
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+    Class<? super T> rawType = typeToken.getRawType();
+    TypeAdapter<T> delegate;
+    if (rawType == Product.class) {
+      delegate = gson.getDelegateAdapter(this, typeToken);
+      return (TypeAdapter<T>) new ProductAdapter(gson, (TypeAdapter<Product>) delegate);
+    } else if (rawType == StockItem.class) {
+      delegate = gson.getDelegateAdapter(this, typeToken);
+      return (TypeAdapter<T>) new StockItemAdapter(gson, (TypeAdapter<StockItem>) delegate);
+    } else if (rawType == StockEntry.class) {
+      delegate = gson.getDelegateAdapter(this, typeToken);
+      return (TypeAdapter<T>) new StockEntryAdapter((TypeAdapter<StockEntry>) delegate);
+    } else if (rawType == ShoppingListItem.class) {
+      delegate = gson.getDelegateAdapter(this, typeToken);
+      return (TypeAdapter<T>) new ShoppingListItemAdapter(
+          (TypeAdapter<ShoppingListItem>) delegate
+      );
+    } else if (rawType == ProductBarcode.class) {
+      delegate = gson.getDelegateAdapter(this, typeToken);
+      return (TypeAdapter<T>) new ProductBarcodeAdapter((TypeAdapter<ProductBarcode>) delegate);
+    }
+    return null;
+  }
+
+  private abstract static class ModelAdapter<T> extends TypeAdapter<T> {
+
+    private final TypeAdapter<T> delegate;
+
+    ModelAdapter(TypeAdapter<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    abstract T newModel();
+
+    /**
+     * Reads the value of the field with the given name into the model.
+     * Returns false if the field is unknown, its value is skipped then.
+     */
+    abstract boolean readField(T model, String name, JsonReader in) throws IOException;
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+      delegate.write(out, value);
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      T model = newModel();
+      in.beginObject();
+      while (in.hasNext()) {
+        if (!readField(model, in.nextName(), in)) {
+          in.skipValue();
+        }
+      }
+      in.endObject();
+      return model;
+    }
+  }
+
+  private static class ProductAdapter extends ModelAdapter<Product> {
+
+    private final TypeAdapter<Map<String, String>> userfieldsAdapter;
+
+    ProductAdapter(Gson gson, TypeAdapter<Product> delegate) {
+      super(delegate);
+      userfieldsAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+    }
+
+    @Override
+    Product newModel() {
+      return new Product();
+    }
+
+    @Override
+    boolean readField(Product product, String name, JsonReader in) throws IOException {
+      switch (name) {
+        case "id":
+          product.setId(nextInt(in));
+          return true;
+        case "name":
+          product.setName(nextString(in));
+          return true;
+        case "description":
+          product.setDescription(nextString(in));
+          return true;
+        case "product_group_id":
+          product.setProductGroupId(nextString(in));
+          return true;
+        case "active":
+          product.setActive(nextString(in));
+          return true;
+        case "location_id":
+          product.setLocationId(nextString(in));
+          return true;
+        case "shopping_location_id":
+          product.setStoreId(nextString(in));
+          return true;
+        case "qu_id_purchase":
+          product.setQuIdPurchase(nextString(in));
+          return true;
+        case "qu_id_stock":
+          product.setQuIdStock(nextString(in));
+          return true;
+        case "qu_factor_purchase_to_stock":
+          product.setQuFactorPurchaseToStock(nextString(in));
+          return true;
+        case "qu_id_consume":
+          product.setQuIdConsume(nextString(in));
+          return true;
+        case "qu_id_price":
+          product.setQuIdPrice(nextString(in));
+          return true;
+        case "min_stock_amount":
+          product.setMinStockAmount(nextString(in));
+          return true;
+        case "default_best_before_days":
+          product.setDefaultDueDays(nextString(in));
+          return true;
+        case "default_best_before_days_after_open":
+          product.setDefaultDueDaysAfterOpen(nextString(in));
+          return true;
+        case "default_best_before_days_after_freezing":
+          product.setDefaultDueDaysAfterFreezing(nextString(in));
+          return true;
+        case "default_best_before_days_after_thawing":
+          product.setDefaultDueDaysAfterThawing(nextString(in));
+          return true;
+        case "picture_file_name":
+          product.setPictureFileName(nextString(in));
+          return true;
+        case "enable_tare_weight_handling":
+          product.setEnableTareWeightHandling(nextString(in));
+          return true;
+        case "tare_weight":
+          product.setTareWeight(nextString(in));
+          return true;
+        case "not_check_stock_fulfillment_for_recipes":
+          product.setNotCheckStockFulfillmentForRecipes(nextString(in));
+          return true;
+        case "parent_product_id":
+          product.setParentProductId(nextString(in));
+          return true;
+        case "calories":
+          product.setCalories(nextString(in));
+          return true;
+        case "cumulate_min_stock_amount_of_sub_products":
+          product.setAccumulateSubProductsMinStockAmount(nextString(in));
+          return true;
+        case "due_type":
+          product.setDueDateType(nextString(in));
+          return true;
+        case "quick_consume_amount":
+          product.setQuickConsumeAmount(nextString(in));
+          return true;
+        case "quick_open_amount":
+          product.setQuickOpenAmount(nextString(in));
+          return true;
+        case "hide_on_stock_overview":
+          product.setHideOnStockOverview(nextString(in));
+          return true;
+        case "default_stock_label_type":
+          product.setDefaultStockLabelType(nextString(in));
+          return true;
+        case "auto_reprint_stock_label":
+          product.setAutoReprintStockLabel(nextString(in));
+          return true;
+        case "should_not_be_frozen":
+          product.setShouldNotBeFrozen(nextString(in));
+          return true;
+        case "treat_opened_as_out_of_stock":
+          product.setTreatOpenedAsOutOfStock(nextString(in));
+          return true;
+        case "no_own_stock":
+          product.setNoOwnStock(nextString(in));
+          return true;
+        case "default_consume_location_id":
+          product.setDefaultConsumeLocationId(nextString(in));
+          return true;
+        case "move_on_open":
+          product.setMoveOnOpen(nextString(in));
+          return true;
+        case "row_created_timestamp":
+          product.setRowCreatedTimestamp(nextString(in));
+          return true;
+        case "userfields":
+          product.setUserfields(userfieldsAdapter.read(in));
+          return true;
+        default:
+          return false;
+      }
+    }
+  }
+
+  private static class StockItemAdapter extends ModelAdapter<StockItem> {
+
+    private final TypeAdapter<Product> productAdapter;
+
+    StockItemAdapter(Gson gson, TypeAdapter<StockItem> delegate) {
+      super(delegate);
+      productAdapter = gson.getAdapter(Product.class);
+    }
+
+    @Override
+    StockItem newModel() {
+      return new StockItem();
+    }
+
+    @Override
+    boolean readField(StockItem stockItem, String name, JsonReader in) throws IOException {
+      switch (name) {
+        case "amount":
+          stockItem.setAmount(nextString(in));
+          return true;
+        case "amount_aggregated":
+          stockItem.setAmountAggregated(nextString(in));
+          return true;
+        case "value":
+          stockItem.setValue(nextString(in));
+          return true;
+        case "best_before_date":
+          stockItem.setBestBeforeDate(nextString(in));
+          return true;
+        case "amount_opened":
+          stockItem.setAmountOpened(nextString(in));
+          return true;
+        case "amount_opened_aggregated":
+          stockItem.setAmountOpenedAggregated(nextString(in));
+          return true;
+        case "is_aggregated_amount":
+          stockItem.setIsAggregatedAmount(nextString(in));
+          return true;
+        case "due_type":
+          stockItem.setDueType(nextString(in));
+          return true;
+        case "product_id":
+          stockItem.setProductId(nextInt(in));
+          return true;
+        case "product":
+          stockItem.setProduct(productAdapter.read(in));
+          return true;
+        default:
+          return false;
+      }
+    }
+  }
+
+  private static class StockEntryAdapter extends ModelAdapter<StockEntry> {
+
+    StockEntryAdapter(TypeAdapter<StockEntry> delegate) {
+      super(delegate);
+    }
+
+    @Override
+    StockEntry newModel() {
+      return new StockEntry();
+    }
+
+    @Override
+    boolean readField(StockEntry stockEntry, String name, JsonReader in) throws IOException {
+      switch (name) {
+        case "id":
+          stockEntry.setId(nextInt(in));
+          return true;
+        case "product_id":
+          stockEntry.setProductId(nextInt(in));
+          return true;
+        case "amount":
+          stockEntry.setAmount(nextDouble(in));
+          return true;
+        case "best_before_date":
+          stockEntry.setBestBeforeDate(nextString(in));
+          return true;
+        case "purchased_date":
+          stockEntry.setPurchasedDate(nextString(in));
+          return true;
+        case "stock_id":
+          stockEntry.setStockId(nextString(in));
+          return true;
+        case "price":
+          stockEntry.setPrice(nextString(in));
+          return true;
+        case "open":
+          stockEntry.setOpen(nextInt(in));
+          return true;
+        case "opened_date":
+          stockEntry.setOpenedDate(nextString(in));
+          return true;
+        case "row_created_timestamp":
+          stockEntry.setRowCreatedTimestamp(nextString(in));
+          return true;
+        case "location_id":
+          stockEntry.setLocationId(nextString(in));
+          return true;
+        case "shopping_location_id":
+          stockEntry.setShoppingLocationId(nextString(in));
+          return true;
+        case "note":
+          stockEntry.setNote(nextString(in));
+          return true;
+        default:
+          return false;
+      }
+    }
+  }
+
+  private static class ShoppingListItemAdapter extends ModelAdapter<ShoppingListItem> {
+
+    ShoppingListItemAdapter(TypeAdapter<ShoppingListItem> delegate) {
+      super(delegate);
+    }
+
+    @Override
+    ShoppingListItem newModel() {
+      return new ShoppingListItem();
+    }
+
+    @Override
+    boolean readField(ShoppingListItem shoppingListItem, String name, JsonReader in)
+        throws IOException {
+      switch (name) {
+        case "id":
+          shoppingListItem.setId(nextInt(in));
+          return true;
+        case "note":
+          shoppingListItem.setNote(nextString(in));
+          return true;
+        case "amount":
+          shoppingListItem.setAmount(nextString(in));
+          return true;
+        case "shopping_list_id":
+          shoppingListItem.setShoppingListId(nextString(in));
+          return true;
+        case "qu_id":
+          shoppingListItem.setQuId(nextString(in));
+          return true;
+        case "done":
+          shoppingListItem.setDone(nextString(in));
+          return true;
+        case "product_id":
+          shoppingListItem.setProductId(nextString(in));
+          return true;
+        case "row_created_timestamp":
+          shoppingListItem.setRowCreatedTimestamp(nextString(in));
+          return true;
+        default:
+          return false;
+      }
+    }
+  }
+
+  private static class ProductBarcodeAdapter extends ModelAdapter<ProductBarcode> {
+
+    ProductBarcodeAdapter(TypeAdapter<ProductBarcode> delegate) {
+      super(delegate);
+    }
+
+    @Override
+    ProductBarcode newModel() {
+      return new ProductBarcode();
+    }
+
+    @Override
+    boolean readField(ProductBarcode productBarcode, String name, JsonReader in)
+        throws IOException {
+      switch (name) {
+        case "id":
+          productBarcode.setId(nextInt(in));
+          return true;
+        case "product_id":
+          productBarcode.setProductId(nextString(in));
+          return true;
+        case "barcode":
+          productBarcode.setBarcode(nextString(in));
+          return true;
+        case "qu_id":
+          productBarcode.setQuId(nextString(in));
+          return true;
+        case "amount":
+          productBarcode.setAmount(nextString(in));
+          return true;
+        case "shopping_location_id":
+          productBarcode.setStoreId(nextString(in));
+          return true;
+        case "last_price":
+          productBarcode.setLastPrice(nextString(in));
+          return true;
+        case "note":
+          productBarcode.setNote(nextString(in));
+          return true;
+        case "row_created_timestamp":
+          productBarcode.setRowCreatedTimestamp(nextString(in));
+          return true;
+        default:
+          return false;
+      }
+    }
+  }
+
+  @Nullable
+  static String nextString(JsonReader in) throws IOException {
+    switch (in.peek()) {
+      case NULL:
+        in.nextNull();
+        return null;
+      case BOOLEAN:
+        return Boolean.toString(in.nextBoolean());
+      default:
+        // numbers are returned as they were written
+        return in.nextString();
+    }
+  }
+
+  static int nextInt(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return 0;
+    }
+    try {
+      // quoted numbers are accepted by the reader
+      return in.nextInt();
+    } catch (NumberFormatException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+
+  static double nextDouble(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return 0;
+    }
+    String path = in.getPath();
+    String value = nextString(in);
+    try {
+      // quoted numbers with decimal comma are accepted like in NumUtil.toDouble
+      return Double.parseDouble(value.replace(",", "."));
+    } catch (NumberFormatException e) {
+      throw new JsonSyntaxException("Expected a double but was " + value + " at " + path, e);
+    }
+  }
+}
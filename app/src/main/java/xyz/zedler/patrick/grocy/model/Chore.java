@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -46,12 +45,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "chore_table")
 public class Chore implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Chore>>() {
+  }.getType();
+
   public final static String PERIOD_TYPE_HOURLY = "hourly";
   public final static String PERIOD_TYPE_WEEKLY = "weekly";
   public final static String PERIOD_TYPE_MANUALLY = "manually";
@@ -368,7 +371,7 @@ public class Chore implements Parcelable {
 
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromChore: " + e);
+        LogUtil.e(TAG, "getJsonFromChore: " + e);
       }
     }
     return json;
@@ -445,11 +448,9 @@ public class Chore implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.CHORES),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Chore>>() {
-                }.getType();
-                ArrayList<Chore> chores = dlHelper.gson.fromJson(response, type);
+                ArrayList<Chore> chores = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Chores: " + chores);
+                  LogUtil.i(dlHelper.tag, "download Chores: " + chores);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.choreDao().deleteChores().blockingSubscribe();
@@ -484,7 +485,7 @@ public class Chore implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Chores download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Chores download");
       }
       return null;
     }
@@ -21,19 +21,17 @@ package xyz.zedler.patrick.grocy.model;
 
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.Ignore;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import java.util.Objects;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 public class ChoreDetails implements Parcelable {
@@ -199,11 +197,9 @@ public class ChoreDetails implements Parcelable {
             dlHelper.grocyApi.getChores(choreId),
             uuid,
             response -> {
-              Type type = new TypeToken<ChoreDetails>() {
-              }.getType();
-              ChoreDetails choreDetails = dlHelper.gson.fromJson(response, type);
+              ChoreDetails choreDetails = dlHelper.gson.fromJson(response, ChoreDetails.class);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download ChoreDetails: " + choreDetails);
+                LogUtil.i(dlHelper.tag, "download ChoreDetails: " + choreDetails);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(choreDetails);
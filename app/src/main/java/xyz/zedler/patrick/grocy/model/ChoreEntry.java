@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -46,12 +45,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "chore_entry_table")
 public class ChoreEntry implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ChoreEntry>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -186,7 +189,7 @@ public class ChoreEntry implements Parcelable {
 
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromChore: " + e);
+        LogUtil.e(TAG, "getJsonFromChore: " + e);
       }
     }
     return json;
@@ -235,11 +238,9 @@ public class ChoreEntry implements Parcelable {
     dlHelper.get(
         dlHelper.grocyApi.getChores(),
         response -> {
-          Type type = new TypeToken<List<ChoreEntry>>() {
-          }.getType();
-          ArrayList<ChoreEntry> choreEntries = dlHelper.gson.fromJson(response, type);
+          ArrayList<ChoreEntry> choreEntries = dlHelper.gson.fromJson(response, LIST_TYPE);
           if (dlHelper.debug) {
-            Log.i(dlHelper.tag, "getChoreEntries: " + choreEntries);
+            LogUtil.i(dlHelper.tag, "getChoreEntries: " + choreEntries);
           }
           onResponseListener.onResponse(choreEntries);
         },
@@ -269,11 +270,9 @@ public class ChoreEntry implements Parcelable {
               dlHelper.grocyApi.getChores(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ChoreEntry>>() {
-                }.getType();
-                ArrayList<ChoreEntry> choreEntries = dlHelper.gson.fromJson(response, type);
+                ArrayList<ChoreEntry> choreEntries = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ChoreEntries: " + choreEntries);
+                  LogUtil.i(dlHelper.tag, "download ChoreEntries: " + choreEntries);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.choreEntryDao()
@@ -310,7 +309,7 @@ public class ChoreEntry implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Chores download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Chores download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -47,11 +46,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "location_table")
 public class Location implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Location>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -223,11 +226,9 @@ public class Location implements Parcelable {
             dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.LOCATIONS),
             uuid,
             response -> {
-              Type type = new TypeToken<List<Location>>() {
-              }.getType();
-              ArrayList<Location> locations = dlHelper.gson.fromJson(response, type);
+              ArrayList<Location> locations = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download Locations: " + locations);
+                LogUtil.i(dlHelper.tag, "download Locations: " + locations);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(locations);
@@ -271,11 +272,9 @@ public class Location implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.LOCATIONS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Location>>() {
-                }.getType();
-                ArrayList<Location> locations = dlHelper.gson.fromJson(response, type);
+                ArrayList<Location> locations = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Locations: " + locations);
+                  LogUtil.i(dlHelper.tag, "download Locations: " + locations);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.locationDao()
@@ -312,7 +311,7 @@ public class Location implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Locations download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Locations download");
       }
       return null;
     }
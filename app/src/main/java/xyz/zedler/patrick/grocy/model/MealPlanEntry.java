@@ -21,12 +21,12 @@ package xyz.zedler.patrick.grocy.model;
 
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
@@ -44,11 +44,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
-@Entity(tableName = "meal_plan_entry_table")
+@Entity(tableName = "meal_plan_entry_table", indices = {@Index(value = "day")})
 public class MealPlanEntry extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<MealPlanEntry>>() {
+  }.getType();
+
   public final static String TYPE_RECIPE = "recipe";
   public final static String TYPE_PRODUCT = "product";
   public final static String TYPE_NOTE = "note";
@@ -310,11 +314,10 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.MEAL_PLAN),
               uuid,
               response -> {
-                Type type = new TypeToken<List<MealPlanEntry>>() {
-                }.getType();
-                ArrayList<MealPlanEntry> mealPlanEntries = dlHelper.gson.fromJson(response, type);
+                ArrayList<MealPlanEntry> mealPlanEntries
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download MealPlanEntries: " + mealPlanEntries);
+                  LogUtil.i(dlHelper.tag, "download MealPlanEntries: " + mealPlanEntries);
                 }
                 Single.fromCallable(() -> {
                       dlHelper.appDatabase.mealPlanEntryDao()
@@ -352,7 +355,7 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped MealPlanEntries download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped MealPlanEntries download");
       }
       return null;
     }
@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.model;
 
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -43,11 +42,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "meal_plan_section_table")
 public class MealPlanSection extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<MealPlanSection>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -226,11 +229,10 @@ public class MealPlanSection extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.MEAL_PLAN_SECTIONS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<MealPlanSection>>() {
-                }.getType();
-                ArrayList<MealPlanSection> mealPlanSections = dlHelper.gson.fromJson(response, type);
+                ArrayList<MealPlanSection> mealPlanSections
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download MealPlanSections: " + mealPlanSections);
+                  LogUtil.i(dlHelper.tag, "download MealPlanSections: " + mealPlanSections);
                 }
                 Single.fromCallable(() -> {
                       dlHelper.appDatabase.mealPlanSectionDao()
@@ -268,7 +270,7 @@ public class MealPlanSection extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped MealPlanSections download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped MealPlanSections download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -33,6 +32,7 @@ import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import org.json.JSONException;
@@ -43,12 +43,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "missing_item_table")
 public class MissingItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<MissingItem>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -176,7 +180,7 @@ public class MissingItem implements Parcelable {
               uuid,
               response -> {
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Volatile (only missing): success");
+                  LogUtil.i(dlHelper.tag, "download Volatile (only missing): success");
                 }
                 ArrayList<MissingItem> missingItems = new ArrayList<>();
                 try {
@@ -184,16 +188,16 @@ public class MissingItem implements Parcelable {
                   // Parse fourth part of volatile array: missing products
                   missingItems = dlHelper.gson.fromJson(
                       jsonObject.getJSONArray("missing_products").toString(),
-                      new TypeToken<List<MissingItem>>() {
-                      }.getType()
+                      LIST_TYPE
                   );
                   if (dlHelper.debug) {
-                    Log.i(dlHelper.tag, "download Volatile (only missing): missing = " + missingItems);
+                    LogUtil.i(dlHelper.tag, "download Volatile (only missing): missing = "
+                        + missingItems);
                   }
 
                 } catch (JSONException e) {
                   if (dlHelper.debug) {
-                    Log.e(dlHelper.tag, "download Volatile (only missing): " + e);
+                    LogUtil.e(dlHelper.tag, "download Volatile (only missing): " + e);
                   }
                 }
                 ArrayList<MissingItem> finalMissingItems = missingItems;
@@ -231,7 +235,7 @@ public class MissingItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped MissingItems download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped MissingItems download");
       }
       return null;
     }
@@ -20,11 +20,8 @@
 package xyz.zedler.patrick.grocy.model;
 
 import android.app.Application;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import org.json.JSONException;
 import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.api.OpenBeautyFactsApi;
@@ -32,6 +29,7 @@ import xyz.zedler.patrick.grocy.api.OpenFoodFactsApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 public class OpenBeautyFactsProduct {
 
@@ -93,18 +91,18 @@ public class OpenBeautyFactsProduct {
           try {
             JSONObject jsonObject = new JSONObject(response);
             JSONObject jsonProduct = jsonObject.getJSONObject("product");
-            Type type = new TypeToken<OpenBeautyFactsProduct>(){}.getType();
-            OpenBeautyFactsProduct product = dlHelper.gson.fromJson(jsonProduct.toString(), type);
+            OpenBeautyFactsProduct product
+                = dlHelper.gson.fromJson(jsonProduct.toString(), OpenBeautyFactsProduct.class);
             product.setProductJson(jsonProduct);
             successListener.onResponse(product);
-            if(dlHelper.debug) Log.i(dlHelper.tag, "getOpenBeautyFactsProduct: " + product);
+            if(dlHelper.debug) LogUtil.i(dlHelper.tag, "getOpenBeautyFactsProduct: " + product);
           } catch (JSONException e) {
-            if(dlHelper.debug) Log.e(dlHelper.tag, "getOpenBeautyFactsProduct: " + e);
+            if(dlHelper.debug) LogUtil.e(dlHelper.tag, "getOpenBeautyFactsProduct: " + e);
             errorListener.onError(null);
           }
         },
         error -> {
-          if(dlHelper.debug) Log.e(dlHelper.tag, "getOpenBeautyFactsProduct: "
+          if(dlHelper.debug) LogUtil.e(dlHelper.tag, "getOpenBeautyFactsProduct: "
               + "can't get OpenBeautyFacts product");
           errorListener.onError(error);
         },
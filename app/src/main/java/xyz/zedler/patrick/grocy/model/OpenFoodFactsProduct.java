@@ -20,18 +20,16 @@
 package xyz.zedler.patrick.grocy.model;
 
 import android.app.Application;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import org.json.JSONException;
 import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.api.OpenFoodFactsApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 public class OpenFoodFactsProduct {
 
@@ -144,18 +142,18 @@ public class OpenFoodFactsProduct {
           try {
             JSONObject jsonObject = new JSONObject(response);
             JSONObject jsonProduct = jsonObject.getJSONObject("product");
-            Type type = new TypeToken<OpenFoodFactsProduct>(){}.getType();
-            OpenFoodFactsProduct product = dlHelper.gson.fromJson(jsonProduct.toString(), type);
+            OpenFoodFactsProduct product
+                = dlHelper.gson.fromJson(jsonProduct.toString(), OpenFoodFactsProduct.class);
             product.setProductJson(jsonProduct);
             successListener.onResponse(product);
-            if(dlHelper.debug) Log.i(dlHelper.tag, "getOpenFoodFactsProduct: " + product);
+            if(dlHelper.debug) LogUtil.i(dlHelper.tag, "getOpenFoodFactsProduct: " + product);
           } catch (JSONException e) {
-            if(dlHelper.debug) Log.e(dlHelper.tag, "getOpenFoodFactsProduct: " + e);
+            if(dlHelper.debug) LogUtil.e(dlHelper.tag, "getOpenFoodFactsProduct: " + e);
             errorListener.onError(null);
           }
         },
         error -> {
-          if(dlHelper.debug) Log.e(dlHelper.tag, "getOpenFoodFactsProduct: "
+          if(dlHelper.debug) LogUtil.e(dlHelper.tag, "getOpenFoodFactsProduct: "
               + "can't get OpenFoodFacts product");
           errorListener.onError(error);
         },
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.model;
+
+/**
+ * Counters of the overview start page, computed by SQL aggregates in the database
+ * (see OverviewStartDao), so no entity lists have to be loaded for them. They don't need any
+ * resources and can also be used for notifications and shortcuts.
+ */
+public class OverviewStartAggregates {
+
+  public static final int CHORES_DUE_SOON_DAYS = 5;
+
+  private final int itemsDueCount;
+  private final int itemsOverdueCount;
+  private final int itemsExpiredCount;
+  private final int itemsMissingCount;
+  private final int itemsMissingShoppingListCount;
+  private final int itemsInStockCount;
+  private final double stockValue;
+  private final boolean storedPurchasesOnDevice;
+  private final int shoppingListItemsCount;
+  private final int productsCount;
+  private final int recipesCount;
+  private final int choresDueTodayCount;
+  private final int choresDueSoonCount;
+  private final int choresOverdueCount;
+  private final int choresAssignedCount;
+  private final int tasksUndoneCount;
+  private final int tasksAssignedCount;
+
+  public OverviewStartAggregates(
+      int itemsDueCount,
+      int itemsOverdueCount,
+      int itemsExpiredCount,
+      int itemsMissingCount,
+      int itemsMissingShoppingListCount,
+      int itemsInStockCount,
+      double stockValue,
+      boolean storedPurchasesOnDevice,
+      int shoppingListItemsCount,
+      int productsCount,
+      int recipesCount,
+      int choresDueTodayCount,
+      int choresDueSoonCount,
+      int choresOverdueCount,
+      int choresAssignedCount,
+      int tasksUndoneCount,
+      int tasksAssignedCount
+  ) {
+    this.itemsDueCount = itemsDueCount;
+    this.itemsOverdueCount = itemsOverdueCount;
+    this.itemsExpiredCount = itemsExpiredCount;
+    this.itemsMissingCount = itemsMissingCount;
+    this.itemsMissingShoppingListCount = itemsMissingShoppingListCount;
+    this.itemsInStockCount = itemsInStockCount;
+    this.stockValue = stockValue;
+    this.storedPurchasesOnDevice = storedPurchasesOnDevice;
+    this.shoppingListItemsCount = shoppingListItemsCount;
+    this.productsCount = productsCount;
+    this.recipesCount = recipesCount;
+    this.choresDueTodayCount = choresDueTodayCount;
+    this.choresDueSoonCount = choresDueSoonCount;
+    this.choresOverdueCount = choresOverdueCount;
+    this.choresAssignedCount = choresAssignedCount;
+    this.tasksUndoneCount = tasksUndoneCount;
+    this.tasksAssignedCount = tasksAssignedCount;
+  }
+
+  public int getItemsDueCount() {
+    return itemsDueCount;
+  }
+
+  public int getItemsOverdueCount() {
+    return itemsOverdueCount;
+  }
+
+  public int getItemsExpiredCount() {
+    return itemsExpiredCount;
+  }
+
+  public int getItemsNotFreshCount() {
+    return itemsDueCount + itemsOverdueCount + itemsExpiredCount;
+  }
+
+  public int getItemsMissingCount() {
+    return itemsMissingCount;
+  }
+
+  public int getItemsMissingShoppingListCount() {
+    return itemsMissingShoppingListCount;
+  }
+
+  public int getItemsInStockCount() {
+    return itemsInStockCount;
+  }
+
+  public double getStockValue() {
+    return stockValue;
+  }
+
+  public boolean isStoredPurchasesOnDevice() {
+    return storedPurchasesOnDevice;
+  }
+
+  public int getShoppingListItemsCount() {
+    return shoppingListItemsCount;
+  }
+
+  public int getProductsCount() {
+    return productsCount;
+  }
+
+  public int getRecipesCount() {
+    return recipesCount;
+  }
+
+  public int getChoresDueTodayCount() {
+    return choresDueTodayCount;
+  }
+
+  public int getChoresDueSoonCount() {
+    return choresDueSoonCount;
+  }
+
+  public int getChoresOverdueCount() {
+    return choresOverdueCount;
+  }
+
+  public int getChoresDueCount() {
+    return choresDueTodayCount + choresOverdueCount;
+  }
+
+  public int getChoresAssignedCount() {
+    return choresAssignedCount;
+  }
+
+  public int getTasksUndoneCount() {
+    return tasksUndoneCount;
+  }
+
+  public int getTasksAssignedCount() {
+    return tasksAssignedCount;
+  }
+}
@@ -23,7 +23,6 @@ import android.annotation.SuppressLint;
 import android.content.SharedPreferences;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -52,6 +51,7 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
@@ -60,6 +60,9 @@ import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItemWithoutLoading;
 @Entity(tableName = "product_table")
 public class Product extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Product>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -930,7 +933,7 @@ public class Product extends GroupedListItem implements Parcelable {
       }
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromProduct: " + e);
+        LogUtil.e(TAG, "getJsonFromProduct: " + e);
       }
     }
     return json;
@@ -1111,11 +1114,9 @@ public class Product extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCTS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Product>>() {
-                }.getType();
-                ArrayList<Product> products = dlHelper.gson.fromJson(response, type);
+                ArrayList<Product> products = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Products: " + products);
+                  LogUtil.i(dlHelper.tag, "download Products: " + products);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.productDao()
@@ -1152,7 +1153,7 @@ public class Product extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Products download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Products download");
       }
       if (alsoRespondIfNotUpdated) {
         return new QueueItemWithoutLoading() {
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -44,11 +43,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "product_average_price_table")
 public class ProductAveragePrice implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ProductAveragePrice>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "product_id")
   @SerializedName("product_id")
@@ -153,11 +156,10 @@ public class ProductAveragePrice implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.PRODUCTS_AVERAGE_PRICE),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ProductAveragePrice>>() {
-                }.getType();
-                ArrayList<ProductAveragePrice> productsAveragePrice = dlHelper.gson.fromJson(response, type);
+                ArrayList<ProductAveragePrice> productsAveragePrice
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ProductsAveragePrice: " + productsAveragePrice);
+                  LogUtil.i(dlHelper.tag, "download ProductsAveragePrice: " + productsAveragePrice);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.productAveragePriceDao()
@@ -200,7 +202,7 @@ public class ProductAveragePrice implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ProductsAveragePrice download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ProductsAveragePrice download");
       }
       return null;
     }
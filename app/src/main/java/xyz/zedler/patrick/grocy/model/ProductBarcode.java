@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -49,12 +48,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "product_barcode_table")
 public class ProductBarcode implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ProductBarcode>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -314,7 +317,7 @@ public class ProductBarcode implements Parcelable {
       json.put("note", note);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromProductBarcode: " + e);
+        LogUtil.e(TAG, "getJsonFromProductBarcode: " + e);
       }
     }
     return json;
@@ -352,12 +355,10 @@ public class ProductBarcode implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCT_BARCODES),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ProductBarcode>>() {
-                }.getType();
                 ArrayList<ProductBarcode> barcodes
-                    = dlHelper.gson.fromJson(response, type);
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Barcodes: " + barcodes);
+                  LogUtil.i(dlHelper.tag, "download Barcodes: " + barcodes);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.productBarcodeDao()
@@ -394,7 +395,7 @@ public class ProductBarcode implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ProductsBarcodes download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ProductsBarcodes download");
       }
       return null;
     }
@@ -418,7 +419,7 @@ public class ProductBarcode implements Parcelable {
             jsonObject,
             response -> {
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "added ProductBarcode");
+                LogUtil.i(dlHelper.tag, "added ProductBarcode");
               }
               if (onSuccessListener != null) {
                 onSuccessListener.run();
@@ -459,12 +460,10 @@ public class ProductBarcode implements Parcelable {
             ),
             uuid,
             response -> {
-              Type type = new TypeToken<List<ProductBarcode>>() {
-              }.getType();
               ArrayList<ProductBarcode> barcodes
-                  = dlHelper.gson.fromJson(response, type);
+                  = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download filtered Barcodes: " + barcodes);
+                LogUtil.i(dlHelper.tag, "download filtered Barcodes: " + barcodes);
               }
               if (onResponseListener != null) {
                 ProductBarcode barcode = !barcodes.isEmpty()
@@ -21,17 +21,15 @@ package xyz.zedler.patrick.grocy.model;
 
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
-import java.lang.reflect.Type;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
@@ -300,11 +298,10 @@ public class ProductDetails implements Parcelable {
             dlHelper.grocyApi.getStockProductDetails(productId),
             uuid,
             response -> {
-              Type type = new TypeToken<ProductDetails>() {
-              }.getType();
-              ProductDetails productDetails = dlHelper.gson.fromJson(response, type);
+              ProductDetails productDetails
+                  = dlHelper.gson.fromJson(response, ProductDetails.class);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download ProductDetails: " + productDetails);
+                LogUtil.i(dlHelper.tag, "download ProductDetails: " + productDetails);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(productDetails);
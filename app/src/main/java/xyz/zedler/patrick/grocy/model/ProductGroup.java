@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -48,11 +47,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "product_group_table")
 public class ProductGroup extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ProductGroup>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -211,11 +214,9 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
             dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCT_GROUPS),
             uuid,
             response -> {
-              Type type = new TypeToken<List<ProductGroup>>() {
-              }.getType();
-              ArrayList<ProductGroup> productGroups = dlHelper.gson.fromJson(response, type);
+              ArrayList<ProductGroup> productGroups = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download ProductGroups: " + productGroups);
+                LogUtil.i(dlHelper.tag, "download ProductGroups: " + productGroups);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(productGroups);
@@ -259,11 +260,9 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCT_GROUPS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ProductGroup>>() {
-                }.getType();
-                ArrayList<ProductGroup> productGroups = dlHelper.gson.fromJson(response, type);
+                ArrayList<ProductGroup> productGroups = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ProductGroups: " + productGroups);
+                  LogUtil.i(dlHelper.tag, "download ProductGroups: " + productGroups);
                 }
                 Single.fromCallable(() -> {
                       dlHelper.appDatabase.productGroupDao()
@@ -300,7 +299,7 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ProductGroups download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ProductGroups download");
       }
       return null;
     }
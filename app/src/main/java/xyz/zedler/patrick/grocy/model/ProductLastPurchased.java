@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -44,11 +43,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "product_last_purchased_table")
 public class ProductLastPurchased implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ProductLastPurchased>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "product_id")
   @SerializedName("product_id")
@@ -219,11 +222,11 @@ public class ProductLastPurchased implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.PRODUCTS_LAST_PURCHASED),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ProductLastPurchased>>() {
-                }.getType();
-                ArrayList<ProductLastPurchased> productsLastPurchased = dlHelper.gson.fromJson(response, type);
+                ArrayList<ProductLastPurchased> productsLastPurchased
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ProductsLastPurchased: " + productsLastPurchased);
+                  LogUtil.i(dlHelper.tag, "download ProductsLastPurchased: "
+                      + productsLastPurchased);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.productLastPurchasedDao()
@@ -266,7 +269,7 @@ public class ProductLastPurchased implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ProductsLastPurchased download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ProductsLastPurchased download");
       }
       return null;
     }
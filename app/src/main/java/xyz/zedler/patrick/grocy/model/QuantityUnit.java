@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -48,11 +47,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "quantity_unit_table")
 public class QuantityUnit implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<QuantityUnit>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -258,11 +261,9 @@ public class QuantityUnit implements Parcelable {
             dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.QUANTITY_UNITS),
             uuid,
             response -> {
-              Type type = new TypeToken<List<QuantityUnit>>() {
-              }.getType();
-              ArrayList<QuantityUnit> quantityUnits = dlHelper.gson.fromJson(response, type);
+              ArrayList<QuantityUnit> quantityUnits = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download QuantityUnits: " + quantityUnits);
+                LogUtil.i(dlHelper.tag, "download QuantityUnits: " + quantityUnits);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(quantityUnits);
@@ -306,11 +307,9 @@ public class QuantityUnit implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.QUANTITY_UNITS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<QuantityUnit>>() {
-                }.getType();
-                ArrayList<QuantityUnit> quantityUnits = dlHelper.gson.fromJson(response, type);
+                ArrayList<QuantityUnit> quantityUnits = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download QuantityUnits: " + quantityUnits);
+                  LogUtil.i(dlHelper.tag, "download QuantityUnits: " + quantityUnits);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.quantityUnitDao().deleteQuantityUnits().blockingSubscribe();
@@ -346,7 +345,7 @@ public class QuantityUnit implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped QuantityUnits download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped QuantityUnits download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -47,12 +46,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "quantity_unit_conversion_table")
 public class QuantityUnitConversion implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<QuantityUnitConversion>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -247,7 +250,7 @@ public class QuantityUnitConversion implements Parcelable {
       json.put("factor", conversion.getFactor());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromProductBarcode: " + e);
+        LogUtil.e(TAG, "getJsonFromProductBarcode: " + e);
       }
     }
     return json;
@@ -285,12 +288,10 @@ public class QuantityUnitConversion implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.QUANTITY_UNIT_CONVERSIONS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<QuantityUnitConversion>>() {
-                }.getType();
                 List<QuantityUnitConversion> conversions
-                    = dlHelper.gson.fromJson(response, type);
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download QuantityUnitConversions: "
+                  LogUtil.i(dlHelper.tag, "download QuantityUnitConversions: "
                       + conversions);
                 }
                 Single.fromCallable(() -> {
@@ -328,7 +329,7 @@ public class QuantityUnitConversion implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped QuantityUnitConversions download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped QuantityUnitConversions download");
       }
       return null;
     }
@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.model;
 
 import android.annotation.SuppressLint;
-import android.util.Log;
 import androidx.annotation.Nullable;
 import androidx.room.Entity;
 import com.google.gson.reflect.TypeToken;
@@ -36,12 +35,17 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "quantity_unit_conversion_resolved_table")
 public class QuantityUnitConversionResolved extends QuantityUnitConversion {
 
+  public static final Type LIST_TYPE = new TypeToken<List<QuantityUnitConversionResolved>>() {
+  }.getType();
+
   public QuantityUnitConversionResolved() {
   }
 
@@ -96,14 +100,12 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
                   ? ENTITY.QUANTITY_UNIT_CONVERSIONS_RESOLVED : ENTITY.QUANTITY_UNIT_CONVERSIONS),
               uuid,
               response -> Single.fromCallable(() -> {
-                    Type type = new TypeToken<List<QuantityUnitConversionResolved>>() {
-                    }.getType();
                     List<QuantityUnitConversionResolved> conversionsResolved;
                     if (isServerVersion4) {
                       List<QuantityUnitConversionResolved> conversionsResolvedNotForDb = dlHelper.gson
-                          .fromJson(response, type);
+                          .fromJson(response, LIST_TYPE);
                       if (dlHelper.debug) {
-                        Log.i(dlHelper.tag, "download QuantityUnitConversionsResolved: "
+                        LogUtil.i(dlHelper.tag, "download QuantityUnitConversionsResolved: "
                             + conversionsResolvedNotForDb);
                       }
                       conversionsResolved = new ArrayList<>();
@@ -117,9 +119,9 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
                       // Below server version 4.0.0, transitive conversions are not
                       // working and thus disallowed.
                       conversionsResolved = dlHelper.gson
-                          .fromJson(response, type);
+                          .fromJson(response, LIST_TYPE);
                       if (dlHelper.debug) {
-                        Log.i(dlHelper.tag, "download QuantityUnitConversions: "
+                        LogUtil.i(dlHelper.tag, "download QuantityUnitConversions: "
                             + conversionsResolved);
                       }
                     }
@@ -129,6 +131,7 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
                     .insertConversionsResolved(conversionsResolved).blockingSubscribe();
                 dlHelper.sharedPrefs.edit()
                     .putString(PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED, dbChangedTime).apply();
+                QuantityUnitConversionUtil.invalidateConversionIndex();
                 return conversionsResolved;
               })
                   .subscribeOn(Schedulers.io())
@@ -155,7 +158,7 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped QuantityUnitConversions download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped QuantityUnitConversions download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -50,11 +49,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "recipe_table")
 public class Recipe implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Recipe>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -258,7 +261,7 @@ public class Recipe implements Parcelable {
       json.put("not_check_shoppinglist", notCheckShoppingList);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromRecipe: " + e);
+        LogUtil.e(TAG, "getJsonFromRecipe: " + e);
       }
     }
     return json;
@@ -352,11 +355,9 @@ public class Recipe implements Parcelable {
               dlHelper.grocyApi.getRecipes(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Recipe>>() {
-                }.getType();
-                ArrayList<Recipe> recipes = dlHelper.gson.fromJson(response, type);
+                ArrayList<Recipe> recipes = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Recipes: " + recipes);
+                  LogUtil.i(dlHelper.tag, "download Recipes: " + recipes);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.recipeDao().deleteRecipes().blockingSubscribe();
@@ -364,6 +365,12 @@ public class Recipe implements Parcelable {
                       .insertRecipes(recipes).blockingSubscribe();
                   dlHelper.sharedPrefs.edit()
                       .putString(PREF.DB_LAST_TIME_RECIPES, dbChangedTime).apply();
+                  // without synced nestings the closure only consists of the recipes themselves
+                  if (dlHelper.sharedPrefs.getString(
+                      PREF.DB_LAST_TIME_RECIPE_NESTINGS, null
+                  ) != null) {
+                    RecipeNestingResolved.updateRecipeNestingsResolved(dlHelper.appDatabase);
+                  }
                   return true;
                 })
                     .subscribeOn(Schedulers.io())
@@ -392,7 +399,7 @@ public class Recipe implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Recipes download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Recipes download");
       }
       return null;
     }
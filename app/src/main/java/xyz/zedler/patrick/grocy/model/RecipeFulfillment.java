@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -45,11 +44,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "recipe_fulfillment_table")
 public class RecipeFulfillment implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<RecipeFulfillment>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "recipe_id")
   @SerializedName("recipe_id")
@@ -241,7 +244,7 @@ public class RecipeFulfillment implements Parcelable {
       json.put("product_names_comma_separated", productNamesCommaSeparated);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromRecipe: " + e);
+        LogUtil.e(TAG, "getJsonFromRecipe: " + e);
       }
     }
     return json;
@@ -315,11 +318,10 @@ public class RecipeFulfillment implements Parcelable {
               dlHelper.grocyApi.getRecipeFulfillments(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<RecipeFulfillment>>() {
-                }.getType();
-                ArrayList<RecipeFulfillment> recipeFulfillments = dlHelper.gson.fromJson(response, type);
+                ArrayList<RecipeFulfillment> recipeFulfillments
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download RecipeFulfillments: " + recipeFulfillments);
+                  LogUtil.i(dlHelper.tag, "download RecipeFulfillments: " + recipeFulfillments);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.recipeFulfillmentDao()
@@ -356,7 +358,7 @@ public class RecipeFulfillment implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Recipe fulfillments download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Recipe fulfillments download");
       }
       return null;
     }
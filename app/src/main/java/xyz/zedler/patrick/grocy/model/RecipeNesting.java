@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -43,11 +42,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "recipe_nesting_table")
 public class RecipeNesting implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<RecipeNesting>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -183,11 +186,10 @@ public class RecipeNesting implements Parcelable {
               dlHelper.grocyApi.getRecipeNestings(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<RecipeNesting>>() {
-                }.getType();
-                ArrayList<RecipeNesting> recipeNestings = dlHelper.gson.fromJson(response, type);
+                ArrayList<RecipeNesting> recipeNestings
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download RecipeNestings: " + recipeNestings);
+                  LogUtil.i(dlHelper.tag, "download RecipeNestings: " + recipeNestings);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.recipeNestingDao()
@@ -196,6 +198,7 @@ public class RecipeNesting implements Parcelable {
                       .insertRecipeNestings(recipeNestings).blockingSubscribe();
                   dlHelper.sharedPrefs.edit()
                       .putString(PREF.DB_LAST_TIME_RECIPE_NESTINGS, dbChangedTime).apply();
+                  RecipeNestingResolved.updateRecipeNestingsResolved(dlHelper.appDatabase);
                   return true;
                 })
                     .subscribeOn(Schedulers.io())
@@ -224,7 +227,7 @@ public class RecipeNesting implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped RecipeNestings download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped RecipeNestings download");
       }
       return null;
     }
@@ -21,36 +21,33 @@ package xyz.zedler.patrick.grocy.model;
 
 import androidx.annotation.NonNull;
 import androidx.room.ColumnInfo;
-import androidx.room.DatabaseView;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
-
-@DatabaseView("WITH RECURSIVE r1(recipe_id, includes_recipe_id, includes_servings, level)\n"
-    + "AS ( "
-    + " SELECT "
-    + "  id AS recipe_id, "
-    + "  id AS includes_recipe_id, "
-    + "  1 AS includes_servings, "
-    + "  0 AS level "
-    + " FROM recipe_table "
-    + " "
-    + " UNION ALL "
-    + " "
-    + " SELECT "
-    + "  rn.recipe_id, "
-    + "  r1.includes_recipe_id, "
-    + "  CASE WHEN r1.level = 0 THEN rn.servings ELSE (SELECT servings FROM recipe_nesting_table WHERE recipe_id = r1.recipe_id AND includes_recipe_id = r1.includes_recipe_id) END AS includes_servings, "
-    + "  r1.level + 1 AS level "
-    + " FROM recipe_nesting_table rn, r1 r1 "
-    + " WHERE rn.includes_recipe_id = r1.recipe_id "
-    + ") "
-    + "SELECT "
-    + " *, "
-    + " 1 AS id "
-    + "FROM r1;")
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+
+/**
+ * Materialized closure of recipe nestings. Each recipe includes itself on level 0 and every
+ * recipe which is (transitively) included by it on the following levels. The rows are the
+ * same the former recursive database view returned, but they are only computed after recipe
+ * nestings were synced and not on every read. Once the nestings have been synced, recipe syncs
+ * also recompute the table, as it contains a row for each recipe.
+ */
+@Entity(
+    tableName = "recipe_nesting_resolved_table",
+    indices = {
+        @Index(value = "recipe_id"),
+        @Index(value = "includes_recipe_id")
+    }
+)
 public class RecipeNestingResolved {
 
-  @PrimaryKey
+  @PrimaryKey(autoGenerate = true)
   @ColumnInfo(name = "id")
   @SerializedName("id")
   private int id;
@@ -71,6 +68,22 @@ public class RecipeNestingResolved {
   @SerializedName("level")
   private int level;
 
+  public RecipeNestingResolved() {
+  }
+
+  @Ignore
+  public RecipeNestingResolved(
+      int recipeId,
+      int includesRecipeId,
+      double includesServings,
+      int level
+  ) {
+    this.recipeId = recipeId;
+    this.includesRecipeId = includesRecipeId;
+    this.includesServings = includesServings;
+    this.level = level;
+  }
+
   public int getId() {
     return id;
   }
@@ -116,4 +129,74 @@ public class RecipeNestingResolved {
   public String toString() {
     return "RecipeNestingResolved(" + id + ")";
   }
+
+  public static List<RecipeNestingResolved> resolveRecipeNestings(
+      List<Recipe> recipes,
+      List<RecipeNesting> recipeNestings
+  ) {
+    HashMap<Integer, List<RecipeNesting>> nestingsByIncludedRecipe = new HashMap<>();
+    HashMap<String, Double> servingsHashMap = new HashMap<>();
+    for (RecipeNesting nesting : recipeNestings) {
+      List<RecipeNesting> nestings = nestingsByIncludedRecipe.get(nesting.getIncludesRecipeId());
+      if (nestings == null) {
+        nestings = new ArrayList<>();
+        nestingsByIncludedRecipe.put(nesting.getIncludesRecipeId(), nestings);
+      }
+      nestings.add(nesting);
+      servingsHashMap.put(
+          nesting.getRecipeId() + "_" + nesting.getIncludesRecipeId(), nesting.getServings()
+      );
+    }
+
+    List<RecipeNestingResolved> resolved = new ArrayList<>();
+    List<RecipeNestingResolved> currentLevel = new ArrayList<>();
+    for (Recipe recipe : recipes) {
+      currentLevel.add(new RecipeNestingResolved(recipe.getId(), recipe.getId(), 1, 0));
+    }
+    // nestings can't contain cycles on the server, the level limit only prevents an endless
+    // loop if the synced data is inconsistent
+    int maxLevel = recipes.size();
+    while (!currentLevel.isEmpty()) {
+      resolved.addAll(currentLevel);
+      List<RecipeNestingResolved> nextLevel = new ArrayList<>();
+      for (RecipeNestingResolved row : currentLevel) {
+        if (row.level >= maxLevel) continue;
+        List<RecipeNesting> nestings = nestingsByIncludedRecipe.get(row.recipeId);
+        if (nestings == null) continue;
+        for (RecipeNesting nesting : nestings) {
+          double servings;
+          if (row.level == 0) {
+            servings = nesting.getServings();
+          } else {
+            Double servingsNested = servingsHashMap.get(
+                row.recipeId + "_" + row.includesRecipeId
+            );
+            servings = servingsNested != null ? servingsNested : 0;
+          }
+          nextLevel.add(new RecipeNestingResolved(
+              nesting.getRecipeId(), row.includesRecipeId, servings, row.level + 1
+          ));
+        }
+      }
+      currentLevel = nextLevel;
+    }
+    return resolved;
+  }
+
+  /**
+   * Recomputes the whole closure table from the recipes and nestings in the database.
+   * Has to be called on a background thread after one of both tables was updated.
+   * The recipe and nesting syncs run in parallel, so the calls are serialized and each one
+   * reads and replaces the table in one transaction.
+   */
+  public static synchronized void updateRecipeNestingsResolved(AppDatabase appDatabase) {
+    appDatabase.runInTransaction(() -> {
+      List<RecipeNestingResolved> resolved = resolveRecipeNestings(
+          appDatabase.recipeDao().getRecipes().blockingGet(),
+          appDatabase.recipeNestingDao().getRecipeNestings().blockingGet()
+      );
+      appDatabase.recipeNestingDao().deleteRecipeNestingsResolved().blockingGet();
+      appDatabase.recipeNestingDao().insertRecipeNestingsResolved(resolved).blockingGet();
+    });
+  }
 }
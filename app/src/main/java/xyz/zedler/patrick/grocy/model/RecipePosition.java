@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -46,11 +45,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "recipe_pos_table")
 public class RecipePosition implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<RecipePosition>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -287,7 +290,7 @@ public class RecipePosition implements Parcelable {
       json.put("price_factor", priceFactor);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromRecipePos: " + e);
+        LogUtil.e(TAG, "getJsonFromRecipePos: " + e);
       }
     }
     return json;
@@ -361,11 +364,10 @@ public class RecipePosition implements Parcelable {
               dlHelper.grocyApi.getRecipePositions(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<RecipePosition>>() {
-                }.getType();
-                ArrayList<RecipePosition> recipePositions = dlHelper.gson.fromJson(response, type);
+                ArrayList<RecipePosition> recipePositions
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download RecipePositions: " + recipePositions);
+                  LogUtil.i(dlHelper.tag, "download RecipePositions: " + recipePositions);
                 }
                 // fix crash, amount can be NaN according to a user
                 for (int i = 0; i < recipePositions.size(); i++) {
@@ -409,7 +411,7 @@ public class RecipePosition implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Recipe positions download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Recipe positions download");
       }
       return null;
     }
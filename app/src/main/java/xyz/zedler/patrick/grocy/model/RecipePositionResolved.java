@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.model;
 
 import android.annotation.SuppressLint;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -42,11 +41,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "recipe_pos_resolved_table")
 public class RecipePositionResolved extends GroupedListItem {
 
+  public static final Type LIST_TYPE = new TypeToken<List<RecipePositionResolved>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -445,12 +448,10 @@ public class RecipePositionResolved extends GroupedListItem {
               dlHelper.grocyApi.getRecipePositionsResolved(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<RecipePositionResolved>>() {
-                }.getType();
                 ArrayList<RecipePositionResolved> recipePositionsResolved = dlHelper.gson
-                    .fromJson(response, type);
+                    .fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download RecipePositionResolved: "
+                  LogUtil.i(dlHelper.tag, "download RecipePositionResolved: "
                       + recipePositionsResolved);
                 }
                 // fix crash, amount can be NaN according to a user
@@ -501,7 +502,7 @@ public class RecipePositionResolved extends GroupedListItem {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped RecipePositionResolved download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped RecipePositionResolved download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -44,11 +43,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "shopping_list_table")
 public class ShoppingList implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ShoppingList>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -146,11 +149,9 @@ public class ShoppingList implements Parcelable {
             dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.SHOPPING_LISTS),
             uuid,
             response -> {
-              Type type = new TypeToken<List<ShoppingList>>() {
-              }.getType();
-              ArrayList<ShoppingList> shoppingLists = dlHelper.gson.fromJson(response, type);
+              ArrayList<ShoppingList> shoppingLists = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download ShoppingLists: " + shoppingLists);
+                LogUtil.i(dlHelper.tag, "download ShoppingLists: " + shoppingLists);
               }
               onResponseListener.onResponse(shoppingLists);
               if (responseListener != null) {
@@ -192,11 +193,9 @@ public class ShoppingList implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.SHOPPING_LISTS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ShoppingList>>() {
-                }.getType();
-                ArrayList<ShoppingList> shoppingLists = dlHelper.gson.fromJson(response, type);
+                ArrayList<ShoppingList> shoppingLists = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ShoppingLists: " + shoppingLists);
+                  LogUtil.i(dlHelper.tag, "download ShoppingLists: " + shoppingLists);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.shoppingListDao()
@@ -233,7 +232,7 @@ public class ShoppingList implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ShoppingLists download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ShoppingLists download");
       }
       return null;
     }
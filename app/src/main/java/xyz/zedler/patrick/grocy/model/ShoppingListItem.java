@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -49,12 +48,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "shopping_list_item_table")
 public class ShoppingListItem extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<ShoppingListItem>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -343,7 +346,7 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
       json.put("note", note);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromShoppingListItem: " + e);
+        LogUtil.e(TAG, "getJsonFromShoppingListItem: " + e);
       }
     }
     return json;
@@ -375,11 +378,10 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.SHOPPING_LIST),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ShoppingListItem>>() {
-                }.getType();
-                ArrayList<ShoppingListItem> shoppingListItems = dlHelper.gson.fromJson(response, type);
+                ArrayList<ShoppingListItem> shoppingListItems
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ShoppingListItems: " + shoppingListItems);
+                  LogUtil.i(dlHelper.tag, "download ShoppingListItems: " + shoppingListItems);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.shoppingListItemDao()
@@ -416,7 +418,7 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ShoppingListItems download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ShoppingListItems download");
       }
       return null;
     }
@@ -443,11 +445,10 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.SHOPPING_LIST),
               uuid,
               response -> {
-                Type type = new TypeToken<List<ShoppingListItem>>() {
-                }.getType();
-                ArrayList<ShoppingListItem> shoppingListItems = dlHelper.gson.fromJson(response, type);
+                ArrayList<ShoppingListItem> shoppingListItems
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download ShoppingListItems: " + shoppingListItems);
+                  LogUtil.i(dlHelper.tag, "download ShoppingListItems: " + shoppingListItems);
                 }
 
                 dlHelper.appDatabase.shoppingListItemDao().getShoppingListItems()
@@ -503,7 +504,7 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped ShoppingListItems download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped ShoppingListItems download");
       }
       return null;
     }
@@ -573,7 +574,7 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
             uuid,
             response -> {
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "delete ShoppingListItem: " + itemId);
+                LogUtil.i(dlHelper.tag, "delete ShoppingListItem: " + itemId);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(response);
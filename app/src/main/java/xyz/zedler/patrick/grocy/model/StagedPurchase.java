@@ -0,0 +1,122 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.model;
+
+import androidx.annotation.Nullable;
+import org.json.JSONException;
+import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONArrayResponseListener;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.NumUtil;
+import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
+
+/**
+ * Product scanned in the batch scan mode of the purchase page, with the summed amount of all
+ * scans in the stock quantity unit. Due date and location are the product defaults of the server.
+ */
+public class StagedPurchase {
+
+  private final Product product;
+  private double amountStock;
+  private int scanCount;
+  private String storeId;
+
+  public StagedPurchase(Product product) {
+    this.product = product;
+  }
+
+  public void addScan(double amountStock, @Nullable ProductBarcode barcode) {
+    this.amountStock += amountStock;
+    scanCount++;
+    if (storeId == null && barcode != null && barcode.hasStoreId()) {
+      storeId = barcode.getStoreId();
+    }
+  }
+
+  public void removeScan(double amountStock) {
+    this.amountStock -= amountStock;
+    scanCount--;
+  }
+
+  public Product getProduct() {
+    return product;
+  }
+
+  public double getAmountStock() {
+    return amountStock;
+  }
+
+  public int getScanCount() {
+    return scanCount;
+  }
+
+  public JSONObject getJsonBody(boolean withStore, int maxDecimalPlacesAmount) {
+    JSONObject json = new JSONObject();
+    try {
+      json.put("amount", NumUtil.trimAmount(amountStock, maxDecimalPlacesAmount));
+      if (withStore && storeId != null) {
+        json.put("shopping_location_id", storeId);
+      }
+    } catch (JSONException ignored) {
+    }
+    return json;
+  }
+
+  public static QueueItem purchaseStagedProduct(
+      DownloadHelper dlHelper,
+      StagedPurchase stagedPurchase,
+      JSONObject body,
+      OnJSONArrayResponseListener onResponseListener
+  ) {
+    return new QueueItem() {
+      @Override
+      public void perform(
+          @Nullable OnStringResponseListener responseListener,
+          @Nullable OnMultiTypeErrorListener errorListener,
+          @Nullable String uuid
+      ) {
+        dlHelper.postWithArray(
+            dlHelper.grocyApi.purchaseProduct(stagedPurchase.getProduct().getId()),
+            body,
+            response -> {
+              if (dlHelper.debug) {
+                LogUtil.i(dlHelper.tag, "purchased staged product: "
+                    + stagedPurchase.getProduct().getName());
+              }
+              if (onResponseListener != null) {
+                onResponseListener.onResponse(response);
+              }
+              if (responseListener != null) {
+                responseListener.onResponse(null);
+              }
+            },
+            error -> {
+              if (errorListener != null) {
+                errorListener.onError(error);
+              }
+            }
+        );
+      }
+    };
+  }
+}
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -45,12 +44,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "stock_entry_table")
 public class StockEntry extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<StockEntry>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -342,11 +345,9 @@ public class StockEntry extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.STOCK_ENTRIES),
               uuid,
               response -> {
-                Type type = new TypeToken<List<StockEntry>>() {
-                }.getType();
-                ArrayList<StockEntry> stockEntries = dlHelper.gson.fromJson(response, type);
+                ArrayList<StockEntry> stockEntries = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "dowload StockEntries: " + stockEntries);
+                  LogUtil.i(dlHelper.tag, "dowload StockEntries: " + stockEntries);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.stockEntryDao().deleteStockEntries().blockingSubscribe();
@@ -382,7 +383,7 @@ public class StockEntry extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped StockEntries download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped StockEntries download");
       }
       return null;
     }
@@ -405,11 +406,9 @@ public class StockEntry extends GroupedListItem implements Parcelable {
             dlHelper.grocyApi.getStockEntriesFromProduct(productId),
             uuid,
             response -> {
-              Type type = new TypeToken<ArrayList<StockEntry>>() {
-              }.getType();
-              ArrayList<StockEntry> stockEntries = dlHelper.gson.fromJson(response, type);
+              ArrayList<StockEntry> stockEntries = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download StockEntries: " + stockEntries);
+                LogUtil.i(dlHelper.tag, "download StockEntries: " + stockEntries);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(stockEntries);
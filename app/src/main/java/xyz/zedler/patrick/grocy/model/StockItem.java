@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -44,12 +43,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "stock_item_table")
 public class StockItem extends GroupedListItem implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<StockItem>>() {
+  }.getType();
+
   public static int DUE_TYPE_BEST_BEFORE = 1;
   public static int DUE_TYPE_EXPIRATION = 2;
 
@@ -405,11 +408,9 @@ public class StockItem extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getStock(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<StockItem>>() {
-                }.getType();
-                ArrayList<StockItem> stockItems = dlHelper.gson.fromJson(response, type);
+                ArrayList<StockItem> stockItems = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download StockItems: " + stockItems);
+                  LogUtil.i(dlHelper.tag, "download StockItems: " + stockItems);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.stockItemDao().deleteStockItems().blockingSubscribe();
@@ -445,7 +446,7 @@ public class StockItem extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped StockItems download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped StockItems download");
       }
       return null;
     }
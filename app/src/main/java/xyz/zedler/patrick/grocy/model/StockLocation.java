@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -44,12 +43,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "stock_current_location_table")
 public class StockLocation implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<StockLocation>>() {
+  }.getType();
+
   @PrimaryKey(autoGenerate = true)
   private int autoId;
 
@@ -201,11 +204,9 @@ public class StockLocation implements Parcelable {
             dlHelper.grocyApi.getStockLocationsFromProduct(productId),
             uuid,
             response -> {
-              Type type = new TypeToken<ArrayList<StockLocation>>() {
-              }.getType();
-              ArrayList<StockLocation> stockLocations = dlHelper.gson.fromJson(response, type);
+              ArrayList<StockLocation> stockLocations = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download StockLocations: " + stockLocations);
+                LogUtil.i(dlHelper.tag, "download StockLocations: " + stockLocations);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(stockLocations);
@@ -257,11 +258,9 @@ public class StockLocation implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.STOCK_CURRENT_LOCATIONS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<StockLocation>>() {
-                }.getType();
-                ArrayList<StockLocation> locations = dlHelper.gson.fromJson(response, type);
+                ArrayList<StockLocation> locations = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download StockCurrentLocations: " + locations);
+                  LogUtil.i(dlHelper.tag, "download StockCurrentLocations: " + locations);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.stockLocationDao()
@@ -298,7 +297,7 @@ public class StockLocation implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped StockCurrentLocations download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped StockCurrentLocations download");
       }
       return null;
     }
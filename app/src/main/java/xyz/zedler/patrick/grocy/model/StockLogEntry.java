@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.model;
 
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.Entity;
@@ -29,17 +28,22 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.List;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "stock_item_table")
 public class StockLogEntry implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<StockLogEntry>>() {
+  }.getType();
+
   @SerializedName("id")
   private int id;
 
@@ -294,11 +298,10 @@ public class StockLogEntry implements Parcelable {
             dlHelper.grocyApi.getStockLogEntries(limit, offset, filterProductId),
             uuid,
             response -> {
-              Type type = new TypeToken<ArrayList<StockLogEntry>>() {
-              }.getType();
-              ArrayList<StockLogEntry> stockLogEntries = dlHelper.gson.fromJson(response, type);
+              ArrayList<StockLogEntry> stockLogEntries
+                  = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "download StockLogEntry: " + stockLogEntries);
+                LogUtil.i(dlHelper.tag, "download StockLogEntry: " + stockLogEntries);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(stockLogEntries);
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -45,11 +44,15 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "store_table")
 public class Store implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Store>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -194,11 +197,9 @@ public class Store implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.STORES),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Store>>() {
-                }.getType();
-                ArrayList<Store> stores = dlHelper.gson.fromJson(response, type);
+                ArrayList<Store> stores = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Stores: " + stores);
+                  LogUtil.i(dlHelper.tag, "download Stores: " + stores);
                 }
                 Single.fromCallable(() -> {
                       dlHelper.appDatabase.storeDao().deleteStores().blockingSubscribe();
@@ -233,7 +234,7 @@ public class Store implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Stores download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Stores download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -47,12 +46,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "task_table")
 public class Task implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Task>>() {
+  }.getType();
+
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -216,7 +219,7 @@ public class Task implements Parcelable {
       json.put("assigned_to_user_id", assignedToUserId);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "getJsonFromTask: " + e);
+        LogUtil.e(TAG, "getJsonFromTask: " + e);
       }
     }
     return json;
@@ -320,11 +323,9 @@ public class Task implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.TASKS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Task>>() {
-                }.getType();
-                ArrayList<Task> tasks = dlHelper.gson.fromJson(response, type);
+                ArrayList<Task> tasks = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Tasks: " + tasks);
+                  LogUtil.i(dlHelper.tag, "download Tasks: " + tasks);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.taskDao().deleteTasks().blockingSubscribe();
@@ -359,7 +360,7 @@ public class Task implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Tasks download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Tasks download");
       }
       return null;
     }
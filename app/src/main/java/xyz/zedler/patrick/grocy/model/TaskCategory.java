@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -47,10 +46,14 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "task_category_table")
 public class TaskCategory extends GroupedListItem implements Parcelable {
+
+  public static final Type LIST_TYPE = new TypeToken<List<TaskCategory>>() {
+  }.getType();
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -242,11 +245,10 @@ public class TaskCategory extends GroupedListItem implements Parcelable {
               dlHelper.grocyApi.getObjects(ENTITY.TASK_CATEGORIES),
               uuid,
               response -> {
-                Type type = new TypeToken<List<TaskCategory>>() {
-                }.getType();
-                ArrayList<TaskCategory> taskCategories = dlHelper.gson.fromJson(response, type);
+                ArrayList<TaskCategory> taskCategories
+                    = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Task categories: " + taskCategories);
+                  LogUtil.i(dlHelper.tag, "download Task categories: " + taskCategories);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.taskCategoryDao().deleteCategories().blockingSubscribe();
@@ -282,7 +284,7 @@ public class TaskCategory extends GroupedListItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped TaskCategories download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped TaskCategories download");
       }
       return null;
     }
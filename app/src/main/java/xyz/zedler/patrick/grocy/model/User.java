@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -45,10 +44,14 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnIntegerResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "user_table")
 public class User implements Parcelable {
+
+  public static final Type LIST_TYPE = new TypeToken<List<User>>() {
+  }.getType();
   @PrimaryKey
   @ColumnInfo(name = "id")
   @SerializedName("id")
@@ -241,11 +244,9 @@ public class User implements Parcelable {
               dlHelper.grocyApi.getUsers(),
               uuid,
               response -> {
-                Type type = new TypeToken<List<User>>() {
-                }.getType();
-                ArrayList<User> users = dlHelper.gson.fromJson(response, type);
+                ArrayList<User> users = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Users: " + users);
+                  LogUtil.i(dlHelper.tag, "download Users: " + users);
                 }
                 Single.fromCallable(() -> {
                   dlHelper.appDatabase.userDao().deleteUsers().blockingSubscribe();
@@ -280,7 +281,7 @@ public class User implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Users download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Users download");
       }
       return null;
     }
@@ -301,11 +302,9 @@ public class User implements Parcelable {
             dlHelper.grocyApi.getUser(),
             uuid,
             response -> {
-              Type type = new TypeToken<List<User>>() {
-              }.getType();
-              ArrayList<User> users = dlHelper.gson.fromJson(response, type);
+              ArrayList<User> users = dlHelper.gson.fromJson(response, LIST_TYPE);
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "get currentUserId: " + response);
+                LogUtil.i(dlHelper.tag, "get currentUserId: " + response);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(users.size() == 1 ? users.get(0).getId() : -1);
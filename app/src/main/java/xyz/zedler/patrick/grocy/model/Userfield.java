@@ -24,7 +24,6 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
@@ -50,12 +49,16 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "userfield_table")
 public class Userfield implements Parcelable {
 
+  public static final Type LIST_TYPE = new TypeToken<List<Userfield>>() {
+  }.getType();
+
   public final static String NAME_PREFIX = "userfield_";
 
   public static final String TYPE_CHECKBOX = "checkbox";
@@ -357,11 +360,9 @@ public class Userfield implements Parcelable {
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.USERFIELDS),
               uuid,
               response -> {
-                Type type = new TypeToken<List<Userfield>>() {
-                }.getType();
-                ArrayList<Userfield> userfields = dlHelper.gson.fromJson(response, type);
+                ArrayList<Userfield> userfields = dlHelper.gson.fromJson(response, LIST_TYPE);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download Userfields: " + userfields);
+                  LogUtil.i(dlHelper.tag, "download Userfields: " + userfields);
                 }
                 Single.fromCallable(() -> {
                       dlHelper.appDatabase.userfieldDao().deleteUserfields().blockingSubscribe();
@@ -396,7 +397,7 @@ public class Userfield implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Userfields download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Userfields download");
       }
       return null;
     }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.model;
 import android.annotation.SuppressLint;
 import android.os.Parcel;
 import android.os.Parcelable;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
@@ -30,13 +29,10 @@ import androidx.room.Entity;
 import androidx.room.Ignore;
 import androidx.room.PrimaryKey;
 import com.android.volley.Response;
-import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.List;
 import org.json.JSONException;
 import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.Constants;
@@ -44,6 +40,7 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 @Entity(tableName = "volatile_item_table")
@@ -158,42 +155,39 @@ public class VolatileItem implements Parcelable {
               uuid,
               response -> {
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "updateVolatile: success");
+                  LogUtil.i(dlHelper.tag, "updateVolatile: success");
                 }
                 ArrayList<StockItem> dueItems = new ArrayList<>();
                 ArrayList<StockItem> overdueItems = new ArrayList<>();
                 ArrayList<StockItem> expiredItems = new ArrayList<>();
                 ArrayList<MissingItem> missingItems = new ArrayList<>();
                 try {
-                  Type typeStockItem = new TypeToken<List<StockItem>>() {
-                  }.getType();
                   JSONObject jsonObject = new JSONObject(response);
                   // Parse first part of volatile array: expiring products
                   dueItems = dlHelper.gson.fromJson(
-                      jsonObject.getJSONArray("due_products").toString(), typeStockItem
+                      jsonObject.getJSONArray("due_products").toString(), StockItem.LIST_TYPE
                   );
                   // Parse second part of volatile array: overdue products
                   overdueItems = dlHelper.gson.fromJson(
-                      jsonObject.getJSONArray("overdue_products").toString(), typeStockItem
+                      jsonObject.getJSONArray("overdue_products").toString(), StockItem.LIST_TYPE
                   );
                   // Parse third part of volatile array: expired products
                   expiredItems = dlHelper.gson.fromJson(
-                      jsonObject.getJSONArray("expired_products").toString(), typeStockItem
+                      jsonObject.getJSONArray("expired_products").toString(), StockItem.LIST_TYPE
                   );
                   // Parse fourth part of volatile array: missing products
                   missingItems = dlHelper.gson.fromJson(
                       jsonObject.getJSONArray("missing_products").toString(),
-                      new TypeToken<List<MissingItem>>() {
-                      }.getType()
+                      MissingItem.LIST_TYPE
                   );
                   if (dlHelper.debug) {
-                    Log.i(dlHelper.tag, "updateVolatile:\ndue = " + dueItems + "\noverdue: "
+                    LogUtil.i(dlHelper.tag, "updateVolatile:\ndue = " + dueItems + "\noverdue: "
                         + overdueItems + "\nexpired: " + expiredItems + "\nmissing: "
                         + missingItems);
                   }
                 } catch (JSONException e) {
                   if (dlHelper.debug) {
-                    Log.e(dlHelper.tag, "updateVolatile: " + e);
+                    LogUtil.e(dlHelper.tag, "updateVolatile: " + e);
                   }
                 }
                 ArrayList<VolatileItem> volatileItemsTogether = new ArrayList<>();
@@ -258,7 +252,7 @@ public class VolatileItem implements Parcelable {
       };
     } else {
       if (dlHelper.debug) {
-        Log.i(dlHelper.tag, "downloadData: skipped Volatile download");
+        LogUtil.i(dlHelper.tag, "downloadData: skipped Volatile download");
       }
       return null;
     }
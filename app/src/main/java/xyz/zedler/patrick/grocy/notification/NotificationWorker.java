@@ -0,0 +1,262 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.notification;
+
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
+import android.content.Context;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.preference.PreferenceManager;
+import androidx.work.BackoffPolicy;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.Constants.SETTINGS.NOTIFICATIONS;
+import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.activity.MainActivity;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.fragment.ChoresFragmentArgs;
+import xyz.zedler.patrick.grocy.fragment.StockOverviewFragmentArgs;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.model.ChoreEntry;
+import xyz.zedler.patrick.grocy.model.FilterChipLiveDataStatusChores;
+import xyz.zedler.patrick.grocy.model.FilterChipLiveDataStatusStock;
+import xyz.zedler.patrick.grocy.model.StockItem;
+import xyz.zedler.patrick.grocy.util.DueDateIndex;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.NavUtil;
+import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.util.ReminderUtil;
+
+/**
+ * Evaluates all pending reminders in one background job. The alarm receivers only mark their
+ * reminder as pending and enqueue this worker, so reminders which are due at the same time are
+ * handled together. The counts are computed from the synced database tables, the server is only
+ * asked for changed data if its db-changed-time differs from the one of the last sync.
+ */
+public class NotificationWorker extends Worker {
+
+  private static final String TAG = NotificationWorker.class.getSimpleName();
+  private static final String WORK_NAME = "notifications";
+
+  private static final String PENDING_STOCK = "notification_pending_stock";
+  private static final String PENDING_CHORES = "notification_pending_chores";
+
+  private static final int REFRESH_TIMEOUT_SECONDS = 60;
+  private static final int MAX_RUN_ATTEMPTS = 3;
+
+  public NotificationWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+    super(context, params);
+  }
+
+  public static void enqueue(Context context, String reminderType) {
+    SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
+    switch (reminderType) {
+      case ReminderUtil.STOCK_TYPE:
+        sharedPrefs.edit().putBoolean(PENDING_STOCK, true).apply();
+        break;
+      case ReminderUtil.CHORES_TYPE:
+        sharedPrefs.edit().putBoolean(PENDING_CHORES, true).apply();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown reminder type: " + reminderType);
+    }
+    OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(NotificationWorker.class)
+        .setBackoffCriteria(BackoffPolicy.LINEAR, 10, TimeUnit.MINUTES)
+        .build();
+    // a running worker may have read the pending flags already, so the new
+    // request is appended and finishes immediately if nothing is left to do
+    WorkManager.getInstance(context).enqueueUniqueWork(
+        WORK_NAME, ExistingWorkPolicy.APPEND_OR_REPLACE, request
+    );
+  }
+
+  @NonNull
+  @Override
+  public Result doWork() {
+    Context context = getApplicationContext();
+    SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
+    boolean debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
+    boolean pendingStock = sharedPrefs.getBoolean(PENDING_STOCK, false);
+    boolean pendingChores = sharedPrefs.getBoolean(PENDING_CHORES, false);
+    if (!pendingStock && !pendingChores) {
+      return Result.success();
+    }
+    NotificationManager notificationManager = (NotificationManager) context.getSystemService(
+        Context.NOTIFICATION_SERVICE
+    );
+    if (notificationManager == null) {
+      return Result.failure();
+    }
+
+    List<Class<?>> types = new ArrayList<>();
+    if (pendingStock) types.add(StockItem.class);
+    if (pendingChores) types.add(ChoreEntry.class);
+    boolean refreshed = refreshData(context, types.toArray(new Class<?>[0]));
+    boolean hasStockData = sharedPrefs.getString(PREF.DB_LAST_TIME_STOCK_ITEMS, null) != null;
+    boolean hasChoresData = sharedPrefs.getString(PREF.DB_LAST_TIME_CHORE_ENTRIES, null) != null;
+    if (!refreshed && (pendingStock && !hasStockData || pendingChores && !hasChoresData)
+        && getRunAttemptCount() < MAX_RUN_ATTEMPTS) {
+      if (debug) LogUtil.i(TAG, "doWork: no synced data and refresh failed, retry later");
+      return Result.retry();
+    }
+
+    AppDatabase appDatabase = AppDatabase.getAppDatabase(context);
+    if (pendingStock) {
+      sharedPrefs.edit().putBoolean(PENDING_STOCK, false).apply();
+      if (hasStockData) {
+        notifyStock(context, notificationManager, appDatabase);
+      }
+    }
+    if (pendingChores) {
+      sharedPrefs.edit().putBoolean(PENDING_CHORES, false).apply();
+      if (hasChoresData) {
+        notifyChores(context, notificationManager, appDatabase);
+      }
+    }
+    return Result.success();
+  }
+
+  private boolean refreshData(Context context, Class<?>... types) {
+    DownloadHelper dlHelper = new DownloadHelper(context, TAG);
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicBoolean success = new AtomicBoolean(false);
+    new Handler(Looper.getMainLooper()).post(() -> dlHelper.updateData(
+        updated -> {
+          success.set(true);
+          latch.countDown();
+        },
+        error -> latch.countDown(),
+        false,
+        false,
+        types
+    ));
+    try {
+      latch.await(REFRESH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    new Handler(Looper.getMainLooper()).post(dlHelper::destroy);
+    return success.get();
+  }
+
+  private void notifyStock(
+      Context context,
+      NotificationManager notificationManager,
+      AppDatabase appDatabase
+  ) {
+    int dueSoonDays = DueDateIndex.getDueSoonDays(
+        PreferenceManager.getDefaultSharedPreferences(context)
+    );
+    int notFreshCount = appDatabase.overviewStartDao()
+        .getAggregates(-1, dueSoonDays).blockingGet().getItemsNotFreshCount();
+    if (notFreshCount == 0) return;
+
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      NotificationChannel channel = new NotificationChannel(
+          NOTIFICATIONS.STOCK_CHANNEL,
+          context.getString(R.string.category_stock),
+          NotificationManager.IMPORTANCE_HIGH
+      );
+      channel.setDescription(context.getString(R.string.setting_notifications_stock_description));
+      notificationManager.createNotificationChannel(channel);
+    }
+
+    String titleText = context.getResources().getQuantityString(
+        R.plurals.notification_stock_not_fresh_title,
+        notFreshCount, notFreshCount
+    );
+    Uri uri = NavUtil.getUriWithArgs(
+        context.getString(R.string.deep_link_stockOverviewFragment),
+        new StockOverviewFragmentArgs.Builder()
+            .setStatusFilterId(String.valueOf(FilterChipLiveDataStatusStock.STATUS_NOT_FRESH))
+            .build().toBundle()
+    );
+    Intent notificationIntent = new Intent(Intent.ACTION_VIEW, uri);
+    notificationIntent.setClass(context, MainActivity.class);
+    notificationIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+
+    notificationManager.notify(NOTIFICATIONS.STOCK_ID, ReminderUtil.getNotification(
+        context,
+        titleText,
+        context.getString(R.string.notification_stock_content),
+        NOTIFICATIONS.STOCK_ID,
+        NOTIFICATIONS.STOCK_CHANNEL,
+        notificationIntent
+    ));
+  }
+
+  private void notifyChores(
+      Context context,
+      NotificationManager notificationManager,
+      AppDatabase appDatabase
+  ) {
+    int choresDueCount = appDatabase.overviewStartDao()
+        .getAggregates(-1, 0).blockingGet().getChoresDueCount();
+    if (choresDueCount == 0) return;
+
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      NotificationChannel channel = new NotificationChannel(
+          NOTIFICATIONS.CHORES_CHANNEL,
+          context.getString(R.string.title_chores),
+          NotificationManager.IMPORTANCE_HIGH
+      );
+      channel.setDescription(context.getString(R.string.setting_notifications_chores_description));
+      notificationManager.createNotificationChannel(channel);
+    }
+
+    String titleText = context.getResources().getQuantityString(
+        R.plurals.notification_chores_due_title,
+        choresDueCount, choresDueCount
+    );
+    Uri uri = NavUtil.getUriWithArgs(
+        context.getString(R.string.deep_link_choresFragment),
+        new ChoresFragmentArgs.Builder()
+            .setStatusFilterId(String.valueOf(FilterChipLiveDataStatusChores.STATUS_DUE))
+            .build().toBundle()
+    );
+    Intent notificationIntent = new Intent(Intent.ACTION_VIEW, uri);
+    notificationIntent.setClass(context, MainActivity.class);
+    notificationIntent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+
+    notificationManager.notify(NOTIFICATIONS.CHORES_ID, ReminderUtil.getNotification(
+        context,
+        titleText,
+        context.getString(R.string.notification_chores_content),
+        NOTIFICATIONS.CHORES_ID,
+        NOTIFICATIONS.CHORES_CHANNEL,
+        notificationIntent
+    ));
+  }
+}
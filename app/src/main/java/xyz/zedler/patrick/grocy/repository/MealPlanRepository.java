@@ -21,8 +21,10 @@ package xyz.zedler.patrick.grocy.repository;
 
 import android.app.Application;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayList;
 import java.util.List;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
 import xyz.zedler.patrick.grocy.model.MealPlanEntry;
@@ -32,10 +34,10 @@ import xyz.zedler.patrick.grocy.model.ProductLastPurchased;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
-import xyz.zedler.patrick.grocy.model.RecipePosition;
+import xyz.zedler.patrick.grocy.model.RecipePositionResolved;
 import xyz.zedler.patrick.grocy.model.StockItem;
 import xyz.zedler.patrick.grocy.model.Userfield;
-import xyz.zedler.patrick.grocy.util.RxJavaUtil;
+import xyz.zedler.patrick.grocy.util.NumUtil;
 
 public class MealPlanRepository {
 
@@ -54,7 +56,7 @@ public class MealPlanRepository {
 
     private final List<Recipe> recipes;
     private final List<RecipeFulfillment> recipeFulfillments;
-    private final List<RecipePosition> recipePositions;
+    private final List<RecipePositionResolved> recipePositionsResolved;
     private final List<Product> products;
     private final List<QuantityUnit> quantityUnits;
     private final List<ProductLastPurchased> productsLastPurchased;
@@ -66,7 +68,7 @@ public class MealPlanRepository {
     public MealPlanData(
         List<Recipe> recipes,
         List<RecipeFulfillment> recipeFulfillments,
-        List<RecipePosition> recipePositions,
+        List<RecipePositionResolved> recipePositionsResolved,
         List<Product> products,
         List<QuantityUnit> quantityUnits,
         List<ProductLastPurchased> productsLastPurchased,
@@ -77,7 +79,7 @@ public class MealPlanRepository {
     ) {
       this.recipes = recipes;
       this.recipeFulfillments = recipeFulfillments;
-      this.recipePositions = recipePositions;
+      this.recipePositionsResolved = recipePositionsResolved;
       this.products = products;
       this.quantityUnits = quantityUnits;
       this.productsLastPurchased = productsLastPurchased;
@@ -95,8 +97,8 @@ public class MealPlanRepository {
       return recipeFulfillments;
     }
 
-    public List<RecipePosition> getRecipePositions() {
-      return recipePositions;
+    public List<RecipePositionResolved> getRecipePositionsResolved() {
+      return recipePositionsResolved;
     }
 
     public List<Product> getProducts() {
@@ -128,21 +130,84 @@ public class MealPlanRepository {
     }
   }
 
-  public void loadFromDatabase(MealPlanDataListener onSuccess, Consumer<Throwable> onError) {
-    RxJavaUtil
-        .zip(
-            appDatabase.recipeDao().getRecipes(),
-            appDatabase.recipeFulfillmentDao().getRecipeFulfillments(),
-            appDatabase.recipePositionDao().getRecipePositions(),
+  public interface MealPlanWindowDataListener {
+
+    void actionFinished(MealPlanWindowData data);
+  }
+
+  /**
+   * Meal plan entries of a day range with the recipes, fulfillments and resolved positions they
+   * reference, without the master data which doesn't depend on the range.
+   */
+  public static class MealPlanWindowData {
+
+    private final List<Recipe> recipes;
+    private final List<RecipeFulfillment> recipeFulfillments;
+    private final List<RecipePositionResolved> recipePositionsResolved;
+    private final List<MealPlanEntry> mealPlanEntries;
+
+    public MealPlanWindowData(
+        List<Recipe> recipes,
+        List<RecipeFulfillment> recipeFulfillments,
+        List<RecipePositionResolved> recipePositionsResolved,
+        List<MealPlanEntry> mealPlanEntries
+    ) {
+      this.recipes = recipes;
+      this.recipeFulfillments = recipeFulfillments;
+      this.recipePositionsResolved = recipePositionsResolved;
+      this.mealPlanEntries = mealPlanEntries;
+    }
+
+    public List<Recipe> getRecipes() {
+      return recipes;
+    }
+
+    public List<RecipeFulfillment> getRecipeFulfillments() {
+      return recipeFulfillments;
+    }
+
+    public List<RecipePositionResolved> getRecipePositionsResolved() {
+      return recipePositionsResolved;
+    }
+
+    public List<MealPlanEntry> getMealPlanEntries() {
+      return mealPlanEntries;
+    }
+  }
+
+  /**
+   * Loads the meal plan entries of the given day range (end exclusive) together with all master
+   * data of the meal plan, see loadWindowFromDatabase.
+   */
+  public void loadFromDatabase(
+      String dayStart,
+      String dayEnd,
+      List<String> weekNames,
+      MealPlanDataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    getWindowData(dayStart, dayEnd, weekNames)
+        .flatMap(window -> Single.zip(
             appDatabase.productDao().getProducts(),
             appDatabase.quantityUnitDao().getQuantityUnits(),
             appDatabase.productLastPurchasedDao().getProductsLastPurchased(),
-            appDatabase.mealPlanEntryDao().getMealPlanEntries(),
             appDatabase.mealPlanSectionDao().getMealPlanSections(),
             appDatabase.stockItemDao().getStockItems(),
             appDatabase.userfieldDao().getUserfields(),
-            MealPlanData::new
-        )
+            (products, quantityUnits, productsLastPurchased, sections, stockItems, userfields) ->
+                new MealPlanData(
+                    window.getRecipes(),
+                    window.getRecipeFulfillments(),
+                    window.getRecipePositionsResolved(),
+                    products,
+                    quantityUnits,
+                    productsLastPurchased,
+                    window.getMealPlanEntries(),
+                    sections,
+                    stockItems,
+                    userfields
+                )
+        ))
         .subscribeOn(Schedulers.io())
         .observeOn(AndroidSchedulers.mainThread())
         .doOnSuccess(onSuccess::actionFinished)
@@ -150,4 +215,55 @@ public class MealPlanRepository {
         .onErrorComplete()
         .subscribe();
   }
+
+  /**
+   * Loads only the meal plan entries of the given day range (end exclusive) and what they
+   * reference, for moving the loaded window while the master data stays the same.
+   */
+  public void loadWindowFromDatabase(
+      String dayStart,
+      String dayEnd,
+      List<String> weekNames,
+      MealPlanWindowDataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    getWindowData(dayStart, dayEnd, weekNames)
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .doOnSuccess(onSuccess::actionFinished)
+        .doOnError(onError)
+        .onErrorComplete()
+        .subscribe();
+  }
+
+  /**
+   * Queries the entries with the index on the day column. Recipes, fulfillments and resolved
+   * positions are only loaded for the recipes referenced by these entries and for the shadow
+   * recipes of the days and weeks in the range.
+   */
+  private Single<MealPlanWindowData> getWindowData(
+      String dayStart,
+      String dayEnd,
+      List<String> weekNames
+  ) {
+    return appDatabase.mealPlanEntryDao().getMealPlanEntries(dayStart, dayEnd)
+        .flatMap(mealPlanEntries -> {
+          List<Integer> recipeIds = new ArrayList<>();
+          for (MealPlanEntry entry : mealPlanEntries) {
+            if (NumUtil.isStringInt(entry.getRecipeId())) {
+              recipeIds.add(Integer.parseInt(entry.getRecipeId()));
+            }
+          }
+          return Single.zip(
+              appDatabase.recipeDao()
+                  .getMealPlanRecipes(recipeIds, weekNames, dayStart, dayEnd),
+              appDatabase.recipeFulfillmentDao()
+                  .getMealPlanRecipeFulfillments(recipeIds, weekNames, dayStart, dayEnd),
+              appDatabase.recipePositionResolvedDao()
+                  .getMealPlanRecipePositionsResolved(recipeIds, weekNames, dayStart, dayEnd),
+              Single.just(mealPlanEntries),
+              MealPlanWindowData::new
+          );
+        });
+  }
 }
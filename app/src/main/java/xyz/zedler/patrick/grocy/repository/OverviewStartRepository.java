@@ -21,21 +21,13 @@ package xyz.zedler.patrick.grocy.repository;
 
 import android.app.Application;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
-import xyz.zedler.patrick.grocy.model.ChoreEntry;
-import xyz.zedler.patrick.grocy.model.MissingItem;
-import xyz.zedler.patrick.grocy.model.Product;
-import xyz.zedler.patrick.grocy.model.Recipe;
+import xyz.zedler.patrick.grocy.model.OverviewStartAggregates;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
-import xyz.zedler.patrick.grocy.model.ShoppingListItem;
-import xyz.zedler.patrick.grocy.model.StockItem;
-import xyz.zedler.patrick.grocy.model.StoredPurchase;
-import xyz.zedler.patrick.grocy.model.Task;
-import xyz.zedler.patrick.grocy.model.VolatileItem;
-import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 
 public class OverviewStartRepository {
 
@@ -51,95 +43,36 @@ public class OverviewStartRepository {
 
   public static class OverviewStartData {
 
-    private final List<StockItem> stockItems;
-    private final List<ShoppingListItem> shoppingListItems;
     private final List<ShoppingList> shoppingLists;
-    private final List<Product> products;
-    private final List<StoredPurchase> storedPurchases;
-    private final List<Recipe> recipes;
-    private final List<ChoreEntry> choreEntries;
-    private final List<Task> tasks;
-    private final List<VolatileItem> volatileItems;
-    private final List<MissingItem> missingItems;
+    private final OverviewStartAggregates aggregates;
 
     public OverviewStartData(
-        List<StockItem> stockItems,
-        List<ShoppingListItem> shoppingListItems,
         List<ShoppingList> shoppingLists,
-        List<Product> products,
-        List<StoredPurchase> storedPurchases,
-        List<Recipe> recipes,
-        List<ChoreEntry> choreEntries,
-        List<Task> tasks,
-        List<VolatileItem> volatileItems,
-        List<MissingItem> missingItems
+        OverviewStartAggregates aggregates
     ) {
-      this.stockItems = stockItems;
-      this.shoppingListItems = shoppingListItems;
       this.shoppingLists = shoppingLists;
-      this.products = products;
-      this.storedPurchases = storedPurchases;
-      this.recipes = recipes;
-      this.choreEntries = choreEntries;
-      this.tasks = tasks;
-      this.volatileItems = volatileItems;
-      this.missingItems = missingItems;
-    }
-
-    public List<StockItem> getStockItems() {
-      return stockItems;
-    }
-
-    public List<ShoppingListItem> getShoppingListItems() {
-      return shoppingListItems;
+      this.aggregates = aggregates;
     }
 
     public List<ShoppingList> getShoppingLists() {
       return shoppingLists;
     }
 
-    public List<Product> getProducts() {
-      return products;
-    }
-
-    public List<StoredPurchase> getStoredPurchases() {
-      return storedPurchases;
-    }
-
-    public List<Recipe> getRecipes() {
-      return recipes;
-    }
-
-    public List<ChoreEntry> getChoreEntries() {
-      return choreEntries;
-    }
-
-    public List<Task> getTasks() {
-      return tasks;
-    }
-
-    public List<VolatileItem> getVolatileItems() {
-      return volatileItems;
-    }
-
-    public List<MissingItem> getMissingItems() {
-      return missingItems;
+    public OverviewStartAggregates getAggregates() {
+      return aggregates;
     }
   }
 
-  public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
-    RxJavaUtil
+  public void loadFromDatabase(
+      int currentUserId,
+      int dueSoonDays,
+      DataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    Single
         .zip(
-            appDatabase.stockItemDao().getStockItems(),
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
             appDatabase.shoppingListDao().getShoppingLists(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.storedPurchaseDao().getStoredPurchases(),
-            appDatabase.recipeDao().getRecipes(),
-            appDatabase.choreEntryDao().getChoreEntries(),
-            appDatabase.taskDao().getTasks(),
-            appDatabase.volatileItemDao().getVolatileItems(),
-            appDatabase.missingItemDao().getMissingItems(),
+            appDatabase.overviewStartDao().getAggregates(currentUserId, dueSoonDays),
             OverviewStartData::new
         )
         .subscribeOn(Schedulers.io())
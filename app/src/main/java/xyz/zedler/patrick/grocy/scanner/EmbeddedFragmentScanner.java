@@ -49,6 +49,8 @@ public abstract class EmbeddedFragmentScanner {
 
   public abstract void startScannerIfVisible();
 
+  public abstract void setContinuousScanning(boolean continuous);
+
   public abstract void toggleTorch();
 
   void lockOrUnlockRotation(boolean scannerIsVisible) {
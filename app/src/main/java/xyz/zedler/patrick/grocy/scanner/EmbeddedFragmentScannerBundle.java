@@ -113,6 +113,11 @@ public class EmbeddedFragmentScannerBundle extends EmbeddedFragmentScanner {
     embeddedFragmentScanner.startScannerIfVisible();
   }
 
+  @Override
+  public void setContinuousScanning(boolean continuous) {
+    embeddedFragmentScanner.setContinuousScanning(continuous);
+  }
+
   @Override
   public void toggleTorch() {
     embeddedFragmentScanner.toggleTorch();
@@ -22,29 +22,37 @@ package xyz.zedler.patrick.grocy.scanner;
 import android.content.SharedPreferences;
 import android.graphics.Color;
 import android.os.Handler;
+import android.os.SystemClock;
 import android.preference.PreferenceManager;
+import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.ViewGroup;
 import android.view.ViewStub;
 import android.widget.LinearLayout;
 import android.widget.RelativeLayout;
+import android.widget.TextView;
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
 import androidx.coordinatorlayout.widget.CoordinatorLayout.LayoutParams;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.LiveData;
 import com.google.zxing.integration.android.IntentIntegrator;
 import com.journeyapps.barcodescanner.BarcodeResult;
+import com.journeyapps.barcodescanner.BarcodeView;
 import com.journeyapps.barcodescanner.DecoratedBarcodeView;
 import com.journeyapps.barcodescanner.DecoratedBarcodeView.TorchListener;
+import com.journeyapps.barcodescanner.Size;
 import com.journeyapps.barcodescanner.camera.CameraSettings;
 import com.journeyapps.barcodescanner.camera.CameraSettings.FocusMode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Set;
 import xyz.zedler.patrick.grocy.Constants.BarcodeFormats;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.SCANNER;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.scanner.ZXingScanCaptureManager.BarcodeListener;
+import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.UiUtil;
 
 public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implements
@@ -59,6 +67,11 @@ public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implem
   private final DecoratedBarcodeView barcodeView;
   private final ZXingScanCaptureManager capture;
   private boolean suppressNextScanStart = false;
+  private boolean continuousScanning = false;
+  private final Handler handler = new Handler();
+  private ZXingDecoderFactory.Stats decoderStats;
+  private TextView debugText;
+  private long lastDebugUpdate;
   private final boolean qrCodeFormat;
   private final boolean qrCodeFilter;
 
@@ -139,10 +152,44 @@ public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implem
     cameraSettings.setRequestedCameraId(useFrontCam ? 1 : 0);
     cameraSettings.setFocusMode(FocusMode.CONTINUOUS);
 
+    String[] barcodeFormats = getEnabledBarcodeFormats();
     IntentIntegrator integrator = new IntentIntegrator(fragment.requireActivity());
-    integrator.setDesiredBarcodeFormats(getEnabledBarcodeFormats());
+    integrator.setDesiredBarcodeFormats(barcodeFormats);
     barcodeView.initializeFromIntent(integrator.createScanIntent());
 
+    if (PrefsUtil.isDebuggingEnabled(sharedPreferences)) {
+      decoderStats = new ZXingDecoderFactory.Stats();
+      debugText = new TextView(fragment.requireContext());
+      debugText.setTextSize(TypedValue.COMPLEX_UNIT_SP, 11);
+      debugText.setTextColor(Color.WHITE);
+      debugText.setBackgroundColor(0x80000000);
+      int padding = UiUtil.dpToPx(fragment.requireContext(), 4);
+      debugText.setPadding(padding, padding, padding, padding);
+      LayoutParams layoutParamsDebug = new LayoutParams(
+          ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT
+      );
+      layoutParamsDebug.gravity = Gravity.TOP | Gravity.START;
+      containerScanner.addView(debugText, layoutParamsDebug);
+    }
+    barcodeView.getBarcodeView().setDecoderFactory(
+        new ZXingDecoderFactory(Arrays.asList(barcodeFormats), decoderStats)
+    );
+    if (!qrCodeFormat) {
+      // only decode a band around the guide line, not the whole visible preview
+      BarcodeView barcodeSurface = barcodeView.getBarcodeView();
+      barcodeSurface.addOnLayoutChangeListener(
+          (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+            int surfaceWidth = right - left;
+            int surfaceHeight = bottom - top;
+            if (surfaceWidth > 0 && surfaceHeight > 0) {
+              barcodeSurface.setFramingRectSize(
+                  new Size((int) (surfaceWidth * 0.9), (int) (surfaceHeight * 0.6))
+              );
+            }
+          }
+      );
+    }
+
     barcodeView.getBarcodeView().setCameraSettings(cameraSettings);
     capture = new ZXingScanCaptureManager(
         fragment.requireActivity(),
@@ -187,6 +234,7 @@ public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implem
 
   public void onPause() {
     capture.onPause();
+    handler.removeCallbacks(updateDebugText);
   }
 
   public void onDestroy() {
@@ -198,12 +246,47 @@ public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implem
   void stopScanner() {
     capture.onPause();
     capture.onDestroy();
+    handler.removeCallbacks(updateDebugText);
+    if (debugText != null) debugText.setText(null);
   }
 
   public void startScannerIfVisible() {
     if (!isScannerVisible) return;
     capture.onResume();
-    new Handler().postDelayed(capture::decode, 500);
+    new Handler().postDelayed(
+        continuousScanning ? capture::decodeContinuous : capture::decode, 500
+    );
+    if (decoderStats != null) {
+      handler.removeCallbacks(updateDebugText);
+      decoderStats.getAndReset();
+      lastDebugUpdate = SystemClock.elapsedRealtime();
+      handler.postDelayed(updateDebugText, 1000);
+    }
+  }
+
+  // frame rate and decode latency of the decoder thread, only in debug mode
+  private final Runnable updateDebugText = new Runnable() {
+    @Override
+    public void run() {
+      long now = SystemClock.elapsedRealtime();
+      long[] values = decoderStats.getAndReset();
+      long elapsed = Math.max(1, now - lastDebugUpdate);
+      lastDebugUpdate = now;
+      debugText.setText(String.format(
+          Locale.ENGLISH,
+          "%.1f fps | %d ms | %d try harder",
+          values[0] * 1000f / elapsed,
+          values[0] > 0 ? values[2] / values[0] : 0,
+          values[1]
+      ));
+      handler.postDelayed(this, 1000);
+    }
+  };
+
+  public void setContinuousScanning(boolean continuous) {
+    if (continuousScanning == continuous) return;
+    continuousScanning = continuous;
+    startScannerIfVisible();
   }
 
   public void toggleTorch() {
@@ -217,7 +300,7 @@ public class EmbeddedFragmentScannerZXing extends EmbeddedFragmentScanner implem
   @Override
   public void onBarcodeResult(BarcodeResult result) {
     if (result.getText().isEmpty()) {
-      startScannerIfVisible();
+      if (!continuousScanning) startScannerIfVisible();
       return;
     }
     barcodeListener.onBarcodeRecognized(result.getText());
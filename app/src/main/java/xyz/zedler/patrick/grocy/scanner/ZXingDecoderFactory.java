@@ -0,0 +1,266 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.scanner;
+
+import android.os.SystemClock;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.NotFoundException;
+import com.google.zxing.Reader;
+import com.google.zxing.Result;
+import com.google.zxing.datamatrix.DataMatrixReader;
+import com.google.zxing.oned.Code128Reader;
+import com.google.zxing.oned.Code39Reader;
+import com.google.zxing.oned.Code93Reader;
+import com.google.zxing.oned.ITFReader;
+import com.google.zxing.oned.MultiFormatUPCEANReader;
+import com.google.zxing.oned.rss.RSS14Reader;
+import com.google.zxing.oned.rss.expanded.RSSExpandedReader;
+import com.google.zxing.pdf417.PDF417Reader;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.journeyapps.barcodescanner.Decoder;
+import com.journeyapps.barcodescanner.DecoderFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates decoders which only run the readers of the enabled formats, one after another in
+ * the order of their recent hits, so the most used format (mostly EAN-13) is tried first.
+ * TRY_HARDER is only used for one frame after a number of frames without result.
+ */
+public class ZXingDecoderFactory implements DecoderFactory {
+
+  private static final int TRY_HARDER_AFTER_FAILED_FRAMES = 10;
+  private static final double HIT_DECAY = 0.9;
+
+  private static final int KIND_UPC_EAN = 0;
+  private static final int KIND_CODE_128 = 1;
+  private static final int KIND_CODE_39 = 2;
+  private static final int KIND_CODE_93 = 3;
+  private static final int KIND_ITF = 4;
+  private static final int KIND_RSS_14 = 5;
+  private static final int KIND_RSS_EXPANDED = 6;
+  private static final int KIND_QR_CODE = 7;
+  private static final int KIND_DATA_MATRIX = 8;
+  private static final int KIND_PDF_417 = 9;
+  private static final int KIND_COUNT = 10;
+
+  // shared by all scanners, so the order is kept when another page is opened
+  private static final double[] recentHits = new double[KIND_COUNT];
+
+  private final EnumSet<BarcodeFormat> formats;
+  private final Stats stats;
+
+  public ZXingDecoderFactory(Collection<String> formatNames, Stats stats) {
+    formats = EnumSet.noneOf(BarcodeFormat.class);
+    for (String formatName : formatNames) {
+      try {
+        formats.add(BarcodeFormat.valueOf(formatName));
+      } catch (IllegalArgumentException ignored) {
+      }
+    }
+    if (formats.isEmpty()) {
+      formats.addAll(Arrays.asList(
+          BarcodeFormat.EAN_13, BarcodeFormat.EAN_8, BarcodeFormat.UPC_A, BarcodeFormat.UPC_E,
+          BarcodeFormat.CODE_128, BarcodeFormat.CODE_39, BarcodeFormat.CODE_93, BarcodeFormat.ITF,
+          BarcodeFormat.RSS_14, BarcodeFormat.RSS_EXPANDED, BarcodeFormat.QR_CODE,
+          BarcodeFormat.DATA_MATRIX, BarcodeFormat.PDF_417
+      ));
+    }
+    this.stats = stats;
+  }
+
+  @Override
+  public Decoder createDecoder(Map<DecodeHintType, ?> baseHints) {
+    Map<DecodeHintType, Object> hints = new EnumMap<>(DecodeHintType.class);
+    hints.putAll(baseHints);
+    hints.put(DecodeHintType.POSSIBLE_FORMATS, formats);
+    Map<DecodeHintType, Object> hintsTryHarder = new EnumMap<>(hints);
+    hintsTryHarder.put(DecodeHintType.TRY_HARDER, Boolean.TRUE);
+
+    List<Integer> kinds = new ArrayList<>();
+    List<Reader> readers = new ArrayList<>();
+    if (formats.contains(BarcodeFormat.EAN_13) || formats.contains(BarcodeFormat.EAN_8)
+        || formats.contains(BarcodeFormat.UPC_A) || formats.contains(BarcodeFormat.UPC_E)) {
+      addReader(kinds, readers, KIND_UPC_EAN, new MultiFormatUPCEANReader(hints));
+    }
+    if (formats.contains(BarcodeFormat.CODE_128)) {
+      addReader(kinds, readers, KIND_CODE_128, new Code128Reader());
+    }
+    if (formats.contains(BarcodeFormat.CODE_39)) {
+      addReader(kinds, readers, KIND_CODE_39, new Code39Reader());
+    }
+    if (formats.contains(BarcodeFormat.CODE_93)) {
+      addReader(kinds, readers, KIND_CODE_93, new Code93Reader());
+    }
+    if (formats.contains(BarcodeFormat.ITF)) {
+      addReader(kinds, readers, KIND_ITF, new ITFReader());
+    }
+    if (formats.contains(BarcodeFormat.RSS_14)) {
+      addReader(kinds, readers, KIND_RSS_14, new RSS14Reader());
+    }
+    if (formats.contains(BarcodeFormat.RSS_EXPANDED)) {
+      addReader(kinds, readers, KIND_RSS_EXPANDED, new RSSExpandedReader());
+    }
+    if (formats.contains(BarcodeFormat.QR_CODE)) {
+      addReader(kinds, readers, KIND_QR_CODE, new QRCodeReader());
+    }
+    if (formats.contains(BarcodeFormat.DATA_MATRIX)) {
+      addReader(kinds, readers, KIND_DATA_MATRIX, new DataMatrixReader());
+    }
+    if (formats.contains(BarcodeFormat.PDF_417)) {
+      addReader(kinds, readers, KIND_PDF_417, new PDF417Reader());
+    }
+    int[] kindArray = new int[kinds.size()];
+    for (int i = 0; i < kindArray.length; i++) {
+      kindArray[i] = kinds.get(i);
+    }
+    // the base decoder clears its possible result points for every frame, catches all
+    // exceptions of the reader and resets it afterwards
+    return new Decoder(
+        new AdaptiveReader(kindArray, readers.toArray(new Reader[0]), hints, hintsTryHarder)
+    );
+  }
+
+  private static void addReader(List<Integer> kinds, List<Reader> readers, int kind, Reader reader) {
+    kinds.add(kind);
+    readers.add(reader);
+  }
+
+  private class AdaptiveReader implements Reader {
+
+    private final int[] kinds;
+    private final Reader[] readers;
+    private final Integer[] order;
+    private final Map<DecodeHintType, ?> hints;
+    private final Map<DecodeHintType, ?> hintsTryHarder;
+    private int failedFrames;
+
+    AdaptiveReader(
+        int[] kinds,
+        Reader[] readers,
+        Map<DecodeHintType, ?> hints,
+        Map<DecodeHintType, ?> hintsTryHarder
+    ) {
+      this.kinds = kinds;
+      this.readers = readers;
+      this.hints = hints;
+      this.hintsTryHarder = hintsTryHarder;
+      order = new Integer[readers.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      sortOrder();
+    }
+
+    // called on the decoder thread only
+    @Override
+    public Result decode(BinaryBitmap bitmap) throws NotFoundException {
+      long start = SystemClock.elapsedRealtime();
+      boolean tryHarder = failedFrames >= TRY_HARDER_AFTER_FAILED_FRAMES;
+      Result result = null;
+      for (int i = 0; i < order.length && result == null; i++) {
+        Reader reader = readers[order[i]];
+        try {
+          result = reader.decode(bitmap, tryHarder ? hintsTryHarder : hints);
+          onHit(kinds[order[i]]);
+        } catch (Exception ignored) {
+        } finally {
+          reader.reset();
+        }
+      }
+      if (result != null || tryHarder) {
+        failedFrames = 0;
+      } else {
+        failedFrames++;
+      }
+      if (stats != null) {
+        stats.onFrameDecoded(SystemClock.elapsedRealtime() - start, tryHarder);
+      }
+      if (result == null) {
+        throw NotFoundException.getNotFoundInstance();
+      }
+      return result;
+    }
+
+    @Override
+    public Result decode(BinaryBitmap bitmap, Map<DecodeHintType, ?> hints)
+        throws NotFoundException {
+      return decode(bitmap);
+    }
+
+    @Override
+    public void reset() {
+      // the readers are reset after each use
+    }
+
+    private void onHit(int kind) {
+      synchronized (recentHits) {
+        for (int i = 0; i < recentHits.length; i++) {
+          recentHits[i] *= HIT_DECAY;
+        }
+        recentHits[kind] += 1;
+      }
+      sortOrder();
+    }
+
+    private void sortOrder() {
+      double[] hits;
+      synchronized (recentHits) {
+        hits = recentHits.clone();
+      }
+      // stable sort, so the default order is kept for formats without hits
+      Arrays.sort(order, (a, b) -> Double.compare(hits[kinds[b]], hits[kinds[a]]));
+    }
+  }
+
+  /**
+   * Decoded frames and decode time, read once per second by the debug overlay of the scanner.
+   */
+  public static class Stats {
+
+    private int frames;
+    private int framesTryHarder;
+    private long decodeMillis;
+
+    synchronized void onFrameDecoded(long millis, boolean tryHarder) {
+      frames++;
+      if (tryHarder) framesTryHarder++;
+      decodeMillis += millis;
+    }
+
+    /**
+     * Returns frames, frames with TRY_HARDER and summed decode time since the last call.
+     */
+    public synchronized long[] getAndReset() {
+      long[] values = new long[]{frames, framesTryHarder, decodeMillis};
+      frames = 0;
+      framesTryHarder = 0;
+      decodeMillis = 0;
+      return values;
+    }
+  }
+}
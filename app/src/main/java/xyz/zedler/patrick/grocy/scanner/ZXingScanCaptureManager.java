@@ -27,7 +27,7 @@ import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Handler;
-import android.util.Log;
+import android.os.SystemClock;
 import android.view.WindowManager;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
@@ -39,12 +39,14 @@ import com.journeyapps.barcodescanner.CameraPreview;
 import com.journeyapps.barcodescanner.DecoratedBarcodeView;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.util.HapticUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 public class ZXingScanCaptureManager {
 
   private static final String TAG = ZXingScanCaptureManager.class.getSimpleName();
 
   private static int cameraPermissionReqCode = 250;
+  private static final long CONTINUOUS_DEBOUNCE_MS = 1500;
 
   private final Activity activity;
   private final DecoratedBarcodeView barcodeView;
@@ -62,6 +64,9 @@ public class ZXingScanCaptureManager {
 
   private final BarcodeListener barcodeListener;
 
+  private String lastContinuousText;
+  private long lastContinuousTime;
+
   public final BarcodeCallback callback = new BarcodeCallback() {
     @Override
     public void barcodeResult(final BarcodeResult result) {
@@ -72,6 +77,23 @@ public class ZXingScanCaptureManager {
     }
   };
 
+  // camera keeps running, the same code is only reported again if it was out of view for a while
+  private final BarcodeCallback continuousCallback = new BarcodeCallback() {
+    @Override
+    public void barcodeResult(final BarcodeResult result) {
+      String text = result.getText();
+      long now = SystemClock.elapsedRealtime();
+      boolean repeated = text != null && text.equals(lastContinuousText)
+          && now - lastContinuousTime < CONTINUOUS_DEBOUNCE_MS;
+      lastContinuousText = text;
+      lastContinuousTime = now;
+      if (repeated) return;
+      new HapticUtil(activity).tick();
+      inactivityTimer.activity();
+      barcodeListener.onBarcodeResult(result);
+    }
+  };
+
   public interface BarcodeListener {
 
     void onBarcodeResult(BarcodeResult result);
@@ -109,7 +131,7 @@ public class ZXingScanCaptureManager {
           @Override
           public void cameraClosed() {
             if (finishWhenClosed) {
-              Log.d(TAG, "Camera closed; finishing activity");
+              LogUtil.d(TAG, "Camera closed; finishing activity");
               finish();
             }
           }
@@ -119,7 +141,7 @@ public class ZXingScanCaptureManager {
     handler = new Handler();
 
     inactivityTimer = new InactivityTimer(activity, () -> {
-      Log.d(TAG, "Finishing due to inactivity");
+      LogUtil.d(TAG, "Finishing due to inactivity");
       finish();
     });
   }
@@ -131,6 +153,14 @@ public class ZXingScanCaptureManager {
     barcodeView.decodeSingle(callback);
   }
 
+  /**
+   * Start decoding without pausing the camera after each result.
+   */
+  public void decodeContinuous() {
+    lastContinuousText = null;
+    barcodeView.decodeContinuous(continuousCallback);
+  }
+
   /**
    * Call from Activity#onResume().
    */
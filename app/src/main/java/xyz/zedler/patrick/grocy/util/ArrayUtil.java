@@ -124,6 +124,29 @@ public class ArrayUtil {
     return productBarcodeHashMap;
   }
 
+  /**
+   * Index for barcode scans with exact matching; if multiple product barcodes have the same
+   * code, the first one is used like in ProductBarcode.getFromBarcode().
+   */
+  public static HashMap<String, ProductBarcode> getBarcodeHashMap(
+      List<ProductBarcode> productBarcodes
+  ) {
+    HashMap<String, ProductBarcode> barcodeHashMap = new HashMap<>();
+    for (ProductBarcode barcode : productBarcodes) {
+      addToBarcodeHashMap(barcodeHashMap, barcode);
+    }
+    return barcodeHashMap;
+  }
+
+  public static void addToBarcodeHashMap(
+      HashMap<String, ProductBarcode> barcodeHashMap,
+      ProductBarcode barcode
+  ) {
+    if (barcode.getBarcode() != null && !barcodeHashMap.containsKey(barcode.getBarcode())) {
+      barcodeHashMap.put(barcode.getBarcode(), barcode);
+    }
+  }
+
   public static HashMap<Integer, Store> getStoresHashMap(List<Store> stores) {
     HashMap<Integer, Store> hashMap = new HashMap<>();
     for (Store s : stores) {
@@ -20,7 +20,6 @@
 package xyz.zedler.patrick.grocy.util;
 
 import android.content.SharedPreferences;
-import android.util.Log;
 import androidx.annotation.Nullable;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -161,11 +160,11 @@ public class ConfigUtil {
       editor.apply();
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "downloadConfig: " + e);
+        LogUtil.e(TAG, "downloadConfig: " + e);
       }
     }
     if (debug) {
-      Log.i(TAG, "downloadConfig: config = " + response);
+      LogUtil.i(TAG, "downloadConfig: config = " + response);
     }
   }
 
@@ -257,11 +256,11 @@ public class ConfigUtil {
       editor.apply();
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "downloadUserSettings: " + e);
+        LogUtil.e(TAG, "downloadUserSettings: " + e);
       }
     }
     if (debug) {
-      Log.i(TAG, "downloadUserSettings: settings = " + response);
+      LogUtil.i(TAG, "downloadUserSettings: settings = " + response);
     }
   }
 
@@ -289,7 +288,7 @@ public class ConfigUtil {
         return prefs != null ? prefs.getBoolean(settingKey, settingDefault) : settingDefault;
       }
     } catch (JSONException e) {
-      Log.e(TAG, "downloadUserSettings: getBoolean: settingKey="
+      LogUtil.e(TAG, "downloadUserSettings: getBoolean: settingKey="
           + settingKey + " Exception:" + e);
       try {
         return prefs != null ? prefs.getBoolean(settingKey, settingDefault) : settingDefault;
@@ -313,11 +312,11 @@ public class ConfigUtil {
               ).getString("Version")
           ).apply();
       if (debug) {
-        Log.i(TAG, "downloadSystemInfo: " + response);
+        LogUtil.i(TAG, "downloadSystemInfo: " + response);
       }
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "downloadSystemInfo: " + e);
+        LogUtil.e(TAG, "downloadSystemInfo: " + e);
       }
     }
   }
@@ -339,7 +338,7 @@ public class ConfigUtil {
             uuid,
             response -> {
               if (dlHelper.debug) {
-                Log.i(
+                LogUtil.i(
                     dlHelper.tag,
                     "download StringData from " + url + " : " + response
                 );
@@ -353,7 +352,7 @@ public class ConfigUtil {
             },
             error -> {
               if (dlHelper.debug) {
-                Log.e(dlHelper.tag, "download StringData: " + error);
+                LogUtil.e(dlHelper.tag, "download StringData: " + error);
               }
               if (errorListener != null) {
                 errorListener.onError(error);
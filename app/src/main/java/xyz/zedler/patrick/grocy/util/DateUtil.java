@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.util;
 
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.util.Log;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.DayOfWeek;
@@ -70,7 +69,7 @@ public class DateUtil {
           ? DATE_FORMAT_WITH_TIME.parse(dateString)
           : DATE_FORMAT.parse(dateString);
     } catch (ParseException e) {
-      Log.e(TAG, "getDate: ");
+      LogUtil.e(TAG, "getDate: ");
     }
     return date;
   }
@@ -137,7 +136,7 @@ public class DateUtil {
     try {
       askedDateWithTime = DATE_FORMAT_WITH_TIME.parse(dateWithTimeStr);
     } catch (ParseException e) {
-      Log.e(TAG, "isTimeMoreThanOneMinuteAway: " + e);
+      LogUtil.e(TAG, "isTimeMoreThanOneMinuteAway: " + e);
     }
     if (askedDateWithTime == null) {
       return true;
@@ -160,7 +159,7 @@ public class DateUtil {
           ? DATE_FORMAT_WITH_TIME.parse(dateString)
           : DATE_FORMAT.parse(dateString);
     } catch (ParseException e) {
-      Log.e(TAG, "getLocalizedDate: " + e);
+      LogUtil.e(TAG, "getLocalizedDate: " + e);
     }
     if (date == null) {
       return "";
@@ -191,7 +190,7 @@ public class DateUtil {
     try {
       date = TIME_FORMAT.parse(timeString);
     } catch (ParseException e) {
-      Log.e(TAG, "getLocalizedTime: " + e);
+      LogUtil.e(TAG, "getLocalizedTime: " + e);
     }
     if (date == null) {
       return "";
@@ -274,7 +273,7 @@ public class DateUtil {
             calendarNever.setTime(dateNever);
           }
         } catch (ParseException e) {
-          Log.i(TAG, "getHumanDuration: " + e);
+          LogUtil.i(TAG, "getHumanDuration: " + e);
         }
         long msDiff = calendarNever.getTime().getTime() - getCurrentDate().getTime();
         long daysToNever = TimeUnit.DAYS.convert(msDiff, TimeUnit.MILLISECONDS);
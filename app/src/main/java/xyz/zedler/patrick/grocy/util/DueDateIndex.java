@@ -0,0 +1,133 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.content.SharedPreferences;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
+import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
+import xyz.zedler.patrick.grocy.model.StockItem;
+
+/**
+ * Next due dates of all stock items, sorted by epoch day. Classifies products as due soon,
+ * overdue or expired by binary search for any date and any number of due soon days, so the
+ * status doesn't depend on the last download of the volatile stock from the server.
+ * The classification is the same as for the volatile items: due soon and overdue only for
+ * products with a best before date, expired only for products with an expiration date.
+ */
+public class DueDateIndex {
+
+  private static final String NEVER_OVERDUE = "2999-12-31";
+
+  private final long[] epochDays;
+  private final int[] productIds;
+  private final int[] dueTypes;
+
+  public DueDateIndex(List<StockItem> stockItems) {
+    // pack epoch day and list index into one long, so that sorting needs no boxing
+    long[] packed = new long[stockItems.size()];
+    int size = 0;
+    for (int i = 0; i < stockItems.size(); i++) {
+      String date = stockItems.get(i).getBestBeforeDate();
+      if (date == null || date.isEmpty() || date.compareTo(NEVER_OVERDUE) > 0) continue;
+      long epochDay;
+      try {
+        epochDay = LocalDate.parse(date).toEpochDay();
+      } catch (DateTimeParseException e) {
+        continue;
+      }
+      packed[size++] = epochDay << 32 | i;
+    }
+    Arrays.sort(packed, 0, size);
+
+    epochDays = new long[size];
+    productIds = new int[size];
+    dueTypes = new int[size];
+    for (int i = 0; i < size; i++) {
+      StockItem stockItem = stockItems.get((int) (packed[i] & 0xffffffffL));
+      epochDays[i] = packed[i] >> 32;
+      productIds[i] = stockItem.getProductId();
+      dueTypes[i] = stockItem.getDueTypeInt();
+    }
+  }
+
+  public static int getDueSoonDays(SharedPreferences sharedPrefs) {
+    String days = sharedPrefs.getString(STOCK.DUE_SOON_DAYS, SETTINGS_DEFAULT.STOCK.DUE_SOON_DAYS);
+    if (NumUtil.isStringInt(days)) {
+      return Integer.parseInt(days);
+    } else {
+      return Integer.parseInt(SETTINGS_DEFAULT.STOCK.DUE_SOON_DAYS);
+    }
+  }
+
+  /**
+   * Products with a best before date from today until today + days (both included)
+   */
+  public int[] getDueSoonProductIds(int days) {
+    long today = LocalDate.now().toEpochDay();
+    return getProductIds(lowerBound(today), lowerBound(today + days + 1),
+        StockItem.DUE_TYPE_BEST_BEFORE);
+  }
+
+  /**
+   * Products with a best before date before today
+   */
+  public int[] getOverdueProductIds() {
+    return getProductIds(0, lowerBound(LocalDate.now().toEpochDay()),
+        StockItem.DUE_TYPE_BEST_BEFORE);
+  }
+
+  /**
+   * Products with an expiration date before today
+   */
+  public int[] getExpiredProductIds() {
+    return getProductIds(0, lowerBound(LocalDate.now().toEpochDay()),
+        StockItem.DUE_TYPE_EXPIRATION);
+  }
+
+  private int[] getProductIds(int from, int to, int dueType) {
+    int[] result = new int[to - from];
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      if (dueTypes[i] == dueType) {
+        result[count++] = productIds[i];
+      }
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+
+  // index of the first date which is not before the given epoch day
+  private int lowerBound(long epochDay) {
+    int low = 0;
+    int high = epochDays.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (epochDays[mid] < epochDay) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
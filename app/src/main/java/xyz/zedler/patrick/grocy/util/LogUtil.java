@@ -0,0 +1,185 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Passes log calls of the app to logcat and keeps the latest entries in a bounded in-memory
+ * ring buffer, which is displayed by the LogFragment. Writers only claim a sequence number and
+ * replace one slot, so logging never blocks. Entries which are logged while a network response
+ * is delivered get the id of this request.
+ */
+public class LogUtil {
+
+  public static final int ERROR = Log.ERROR;
+  public static final int WARN = Log.WARN;
+  public static final int INFO = Log.INFO;
+  public static final int DEBUG = Log.DEBUG;
+
+  // power of two, so the slot is just the lowest bits of the sequence number
+  public static final int CAPACITY = 1024;
+  private static final int MASK = CAPACITY - 1;
+
+  private static final AtomicLong nextSequence = new AtomicLong();
+  private static final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(CAPACITY);
+  private static final ThreadLocal<String> requestId = new ThreadLocal<>();
+
+  public static void e(String tag, String msg) {
+    Log.e(tag, msg);
+    add(ERROR, tag, msg, null);
+  }
+
+  public static void e(String tag, String msg, Throwable tr) {
+    Log.e(tag, msg, tr);
+    add(ERROR, tag, msg, tr);
+  }
+
+  public static void w(String tag, String msg) {
+    Log.w(tag, msg);
+    add(WARN, tag, msg, null);
+  }
+
+  public static void i(String tag, String msg) {
+    Log.i(tag, msg);
+    add(INFO, tag, msg, null);
+  }
+
+  public static void d(String tag, String msg) {
+    Log.d(tag, msg);
+    add(DEBUG, tag, msg, null);
+  }
+
+  /**
+   * Sets the request id for all entries which are logged on the current thread until it is
+   * reset with null.
+   */
+  public static void setRequestId(@Nullable String id) {
+    if (id != null) {
+      requestId.set(id);
+    } else {
+      requestId.remove();
+    }
+  }
+
+  private static void add(int level, String tag, String msg, @Nullable Throwable tr) {
+    long sequence = nextSequence.getAndIncrement();
+    entries.set((int) (sequence & MASK), new Entry(
+        sequence,
+        System.currentTimeMillis(),
+        level,
+        tag,
+        tr != null ? msg + '\n' + Log.getStackTraceString(tr) : msg,
+        requestId.get()
+    ));
+  }
+
+  /**
+   * Entries with a sequence number from the given one on, oldest first. Entries which are
+   * overwritten while reading are skipped. Reading stops at the first slot which is claimed but
+   * not written yet, so the entry is returned by the next call instead of being lost.
+   */
+  @NonNull
+  public static List<Entry> getEntriesSince(long sequence) {
+    long end = nextSequence.get();
+    long start = Math.max(sequence, end - CAPACITY);
+    List<Entry> result = new ArrayList<>((int) Math.max(0, end - start));
+    for (long i = start; i < end; i++) {
+      Entry entry = entries.get((int) (i & MASK));
+      if (entry == null || entry.getSequence() < i) {
+        break;
+      } else if (entry.getSequence() == i) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  public static class Entry {
+
+    private final long sequence;
+    private final long time;
+    private final int level;
+    private final String tag;
+    private final String message;
+    private final String requestId;
+
+    Entry(
+        long sequence,
+        long time,
+        int level,
+        String tag,
+        String message,
+        @Nullable String requestId
+    ) {
+      this.sequence = sequence;
+      this.time = time;
+      this.level = level;
+      this.tag = tag;
+      this.message = message;
+      this.requestId = requestId;
+    }
+
+    public long getSequence() {
+      return sequence;
+    }
+
+    public long getTime() {
+      return time;
+    }
+
+    public int getLevel() {
+      return level;
+    }
+
+    public char getLevelChar() {
+      switch (level) {
+        case ERROR:
+          return 'E';
+        case WARN:
+          return 'W';
+        case INFO:
+          return 'I';
+        default:
+          return 'D';
+      }
+    }
+
+    public String getTag() {
+      return tag;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+
+    @Nullable
+    public String getRequestId() {
+      return requestId;
+    }
+  }
+}
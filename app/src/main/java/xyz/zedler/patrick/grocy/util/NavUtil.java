@@ -24,7 +24,6 @@ import android.net.Uri;
 import android.os.Build.VERSION;
 import android.os.Build.VERSION_CODES;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -113,37 +112,37 @@ public class NavUtil {
 
   public void navigate(NavDirections directions) {
     if (navController == null || directions == null) {
-      Log.e(TAG, "navigate: controller or direction is null");
+      LogUtil.e(TAG, "navigate: controller or direction is null");
       return;
     }
     try {
       navController.navigate(directions);
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigate: " + directions, e);
+      LogUtil.e(TAG, "navigate: " + directions, e);
     }
   }
 
   public void navigate(NavDirections directions, @NonNull NavOptions navOptions) {
     if (navController == null || directions == null) {
-      Log.e(TAG, "navigate: controller or direction is null");
+      LogUtil.e(TAG, "navigate: controller or direction is null");
       return;
     }
     try {
       navController.navigate(directions, navOptions);
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigate: " + directions, e);
+      LogUtil.e(TAG, "navigate: " + directions, e);
     }
   }
 
   public void navigate(NavDirections directions, @NonNull Navigator.Extras navigatorExtras) {
     if (navController == null || directions == null) {
-      Log.e(TAG, "navigate: controller or direction is null");
+      LogUtil.e(TAG, "navigate: controller or direction is null");
       return;
     }
     try {
       navController.navigate(directions, navigatorExtras);
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigate: " + directions, e);
+      LogUtil.e(TAG, "navigate: " + directions, e);
     }
   }
 
@@ -166,7 +165,7 @@ public class NavUtil {
 
   public void navigateFragment(@IdRes int destination, @Nullable Bundle arguments) {
     if (navController == null ) {
-      Log.e(TAG, "navigateFragment: controller is null");
+      LogUtil.e(TAG, "navigateFragment: controller is null");
       return;
     }
     try {
@@ -174,13 +173,13 @@ public class NavUtil {
           destination, arguments, getNavOptionsBuilderFragmentFadeOrSlide().build()
       );
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigateFragment: ", e);
+      LogUtil.e(TAG, "navigateFragment: ", e);
     }
   }
 
   public void navigateFragment(NavDirections directions) {
     if (navController == null || directions == null) {
-      Log.e(TAG, "navigateFragment: controller or direction is null");
+      LogUtil.e(TAG, "navigateFragment: controller or direction is null");
       return;
     }
     try {
@@ -188,43 +187,43 @@ public class NavUtil {
           directions, getNavOptionsBuilderFragmentFadeOrSlide().build()
       );
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigateFragment: " + directions, e);
+      LogUtil.e(TAG, "navigateFragment: " + directions, e);
     }
   }
 
   public void navigateFragment(@IdRes int destination, @NonNull NavOptions navOptions) {
     if (navController == null ) {
-      Log.e(TAG, "navigateFragment: controller is null");
+      LogUtil.e(TAG, "navigateFragment: controller is null");
       return;
     }
     try {
       navController.navigate(destination, null, navOptions);
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigateFragment: ", e);
+      LogUtil.e(TAG, "navigateFragment: ", e);
     }
   }
 
   public void navigateDeepLink(@NonNull Uri uri) {
     if (navController == null ) {
-      Log.e(TAG, "navigateDeepLink: controller is null");
+      LogUtil.e(TAG, "navigateDeepLink: controller is null");
       return;
     }
     try {
       navController.navigate(uri, getNavOptionsBuilderFragmentFadeOrSlide().build());
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigateDeepLink: ", e);
+      LogUtil.e(TAG, "navigateDeepLink: ", e);
     }
   }
 
   public void navigateDeepLink(@NonNull Uri uri, @NonNull NavOptions navOptions) {
     if (navController == null ) {
-      Log.e(TAG, "navigateDeepLink: controller is null");
+      LogUtil.e(TAG, "navigateDeepLink: controller is null");
       return;
     }
     try {
       navController.navigate(uri, navOptions);
     } catch (IllegalArgumentException e) {
-      Log.e(TAG, "navigateDeepLink: ", e);
+      LogUtil.e(TAG, "navigateDeepLink: ", e);
     }
   }
 
@@ -27,7 +27,6 @@ import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
 import android.net.Uri;
 import android.os.Handler;
-import android.util.Log;
 import androidx.browser.customtabs.CustomTabsIntent;
 import dev.gustavoavila.websocketclient.WebSocketClient;
 import java.net.URI;
@@ -76,25 +75,22 @@ public class NetUtil {
 
   public void insertConscrypt() {
     Security.insertProviderAt(Conscrypt.newProvider(), 1);
+  }
 
+  public void logTlsInfo() {
+    if (!debug) return;
     try {
       Conscrypt.Version version = Conscrypt.version();
-      if (debug) {
-        Log.i(TAG, "insertConscrypt: Using Conscrypt/" + version.major() + "."
-            + version.minor() + "." + version.patch() + " for TLS");
-      }
+      LogUtil.i(TAG, "insertConscrypt: Using Conscrypt/" + version.major() + "."
+          + version.minor() + "." + version.patch() + " for TLS");
       SSLEngine engine = SSLContext.getDefault().createSSLEngine();
-      if (debug) {
-        Log.i(TAG, "Enabled protocols: "
-            + Arrays.toString(engine.getEnabledProtocols()) + " }");
-      }
-      if (debug) {
-        Log.i(TAG, "Enabled ciphers: "
-            + Arrays.toString(engine.getEnabledCipherSuites()) + " }");
-      }
+      LogUtil.i(TAG, "Enabled protocols: "
+          + Arrays.toString(engine.getEnabledProtocols()) + " }");
+      LogUtil.i(TAG, "Enabled ciphers: "
+          + Arrays.toString(engine.getEnabledCipherSuites()) + " }");
     } catch (NoSuchAlgorithmException e) {
-      Log.e(TAG, "insertConscrypt: NoSuchAlgorithmException");
-      Log.e(TAG, e.getMessage() != null ? e.getMessage() : e.toString());
+      LogUtil.e(TAG, "insertConscrypt: NoSuchAlgorithmException");
+      LogUtil.e(TAG, e.getMessage() != null ? e.getMessage() : e.toString());
     }
   }
 
@@ -145,7 +141,7 @@ public class NetUtil {
             jsonObject.put("access_token", hassLongLivedAccessToken);
             webSocketClient.send(jsonObject.toString());
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
           }
         } else if (message.contains("auth_ok")) {
           try {
@@ -157,7 +153,7 @@ public class NetUtil {
             webSocketClient.send(jsonObject.toString());
             hassWebsocketIdCounter++;
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
           }
         } else if (message.contains("result")) {
           try {
@@ -170,29 +166,29 @@ public class NetUtil {
                     jsonObject.getJSONObject("result").getString("session")
                 ).apply();
               } else {
-                if (debug) Log.i(TAG, "onTextReceived: " + message);
+                if (debug) LogUtil.i(TAG, "onTextReceived: " + message);
               }
             } else {
-              Log.e(TAG, "createWebSocketClient: onTextReceived: " + message);
+              LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + message);
             }
 
 
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
           }
         } else {
-          if (debug) Log.i(TAG, "createWebSocketClient: onTextReceived: " + message);
+          if (debug) LogUtil.i(TAG, "createWebSocketClient: onTextReceived: " + message);
         }
       }
 
       @Override
       public void onException(Exception e) {
-        Log.e(TAG, "createWebSocketClient: onException: " + e.getMessage());
+        LogUtil.e(TAG, "createWebSocketClient: onException: " + e.getMessage());
       }
 
       @Override
       public void onCloseReceived(int reason, String description) {
-        if (debug) Log.i(TAG, "createWebSocketClient: onCloseReceived: " + description);
+        if (debug) LogUtil.i(TAG, "createWebSocketClient: onCloseReceived: " + description);
         new Handler().postDelayed(() -> webSocketClient.connect(), 5000);
       }
     };
@@ -217,7 +213,7 @@ public class NetUtil {
       @Override
       public void run() {
         if (debug) {
-          Log.i(TAG, "Home Assistant session: validate session token");
+          LogUtil.i(TAG, "Home Assistant session: validate session token");
         }
         if (webSocketClient != null) {
           String sessionToken = sharedPrefs
@@ -234,7 +230,7 @@ public class NetUtil {
             webSocketClient.send(jsonObject.toString());
             hassWebsocketIdCounter++;
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
           }
         }
       }
@@ -20,9 +20,24 @@
 package xyz.zedler.patrick.grocy.util;
 
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.util.Locale;
 
 public class NumUtil {
 
+  private static final int MAX_CACHED_DECIMAL_PLACES = 10;
+  // doubles below this magnitude are exact integers if they have no fractional part
+  private static final double MAX_FAST_INTEGRAL = 1e15;
+
+  // DecimalFormat is not thread-safe, so every thread gets its own formatters and buffer
+  private static final ThreadLocal<Formatters> formatters = new ThreadLocal<Formatters>() {
+    @Override
+    protected Formatters initialValue() {
+      return new Formatters();
+    }
+  };
+
   public static String outputSpoilRate(double value) {
     // server cuts off to 0 decimal places
     return String.valueOf(Math.round(value));
@@ -30,28 +45,77 @@ public class NumUtil {
 
   public static String trimAmount(double value, int decimalPlaces) {
     // also is applied to servings, qu factors and calories
+    if (isFastIntegral(value)) {
+      return Long.toString((long) value);
+    }
+    Formatters formatters = NumUtil.formatters.get();
+    return formatters.format(formatters.getAmountFormat(decimalPlaces), value);
+  }
 
-    StringBuilder formatPattern = new StringBuilder("#");
-    if (decimalPlaces > 0) {
-      formatPattern.append(".");
-      for (int i=0; i<=decimalPlaces-1; i++) {
-        formatPattern.append("#");
+  public static String trimPrice(double value, int decimalPlaces) {
+    Formatters formatters = NumUtil.formatters.get();
+    if (isFastIntegral(value)) {
+      StringBuffer buffer = formatters.buffer;
+      buffer.setLength(0);
+      buffer.append((long) value);
+      if (decimalPlaces > 0) {
+        buffer.append('.');
+        for (int i = 0; i < decimalPlaces; i++) {
+          buffer.append('0');
+        }
       }
+      return buffer.toString();
     }
-    DecimalFormat decimalFormat = new DecimalFormat(formatPattern.toString());
-    return decimalFormat.format(value).replace(",", ".");
+    return formatters.format(formatters.getPriceFormat(decimalPlaces), value);
   }
 
-  public static String trimPrice(double value, int decimalPlaces) {
-    StringBuilder formatPattern = new StringBuilder("0");
-    if (decimalPlaces > 0) {
-      formatPattern.append(".");
-      for (int i=0; i<=decimalPlaces-1; i++) {
-        formatPattern.append("0");
+  private static boolean isFastIntegral(double value) {
+    // negative zero is formatted as "-0" by DecimalFormat
+    return value == Math.rint(value) && Math.abs(value) < MAX_FAST_INTEGRAL
+        && (value != 0 || Double.doubleToRawLongBits(value) == 0);
+  }
+
+  private static class Formatters {
+
+    private final DecimalFormat[] amountFormats = new DecimalFormat[MAX_CACHED_DECIMAL_PLACES + 1];
+    private final DecimalFormat[] priceFormats = new DecimalFormat[MAX_CACHED_DECIMAL_PLACES + 1];
+    private final StringBuffer buffer = new StringBuffer(32);
+    private final FieldPosition fieldPosition = new FieldPosition(0);
+
+    private DecimalFormat getAmountFormat(int decimalPlaces) {
+      return getFormat(amountFormats, '#', decimalPlaces);
+    }
+
+    private DecimalFormat getPriceFormat(int decimalPlaces) {
+      return getFormat(priceFormats, '0', decimalPlaces);
+    }
+
+    private static DecimalFormat getFormat(DecimalFormat[] cache, char digit, int decimalPlaces) {
+      decimalPlaces = Math.max(0, decimalPlaces);
+      if (decimalPlaces <= MAX_CACHED_DECIMAL_PLACES && cache[decimalPlaces] != null) {
+        return cache[decimalPlaces];
       }
+      StringBuilder formatPattern = new StringBuilder().append(digit);
+      if (decimalPlaces > 0) {
+        formatPattern.append(".");
+        for (int i = 0; i < decimalPlaces; i++) {
+          formatPattern.append(digit);
+        }
+      }
+      // english symbols, so the output is always with dot and ASCII digits
+      DecimalFormat decimalFormat = new DecimalFormat(
+          formatPattern.toString(), DecimalFormatSymbols.getInstance(Locale.ENGLISH)
+      );
+      if (decimalPlaces <= MAX_CACHED_DECIMAL_PLACES) {
+        cache[decimalPlaces] = decimalFormat;
+      }
+      return decimalFormat;
+    }
+
+    private String format(DecimalFormat decimalFormat, double value) {
+      buffer.setLength(0);
+      return decimalFormat.format(value, buffer, fieldPosition).toString();
     }
-    DecimalFormat decimalFormat = new DecimalFormat(formatPattern.toString());
-    return decimalFormat.format(value).replace(",", ".");
   }
 
   public static int getDecimalPlacesCount(String input) {
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.graphics.drawable.Drawable;
+import android.widget.ImageView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.RecyclerView.OnScrollListener;
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.ListPreloader.PreloadModelProvider;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.integration.recyclerview.RecyclerViewPreloader;
+import com.bumptech.glide.load.model.Headers;
+import com.bumptech.glide.util.ViewPreloadSizeProvider;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Loads the pictures of the next rows while scrolling, in the size of the picture views, so
+ * they are already in the memory cache when the rows are bound. The adapter provides the
+ * picture URL for each position and passes every bound picture view to setView.
+ * Glide's preloader needs a LinearLayoutManager, with other layout managers nothing is preloaded.
+ */
+public class PicturePreloader implements PreloadModelProvider<String> {
+
+  private static final int MAX_PRELOAD = 8;
+
+  public interface PictureUrlProvider {
+    @Nullable String getPictureUrl(int position);
+  }
+
+  private final PictureUrlProvider pictureUrlProvider;
+  private final Headers grocyAuthHeaders;
+  private final ViewPreloadSizeProvider<String> sizeProvider;
+  private RequestManager requestManager;
+  private RecyclerViewPreloader<String> preloader;
+  private final OnScrollListener scrollListener = new OnScrollListener() {
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+      // checked on every scroll because the layout manager can be replaced at any time
+      // and the preloader casts it to LinearLayoutManager
+      if (preloader != null && recyclerView.getLayoutManager() instanceof LinearLayoutManager) {
+        preloader.onScrolled(recyclerView, dx, dy);
+      }
+    }
+  };
+
+  public PicturePreloader(PictureUrlProvider pictureUrlProvider, Headers grocyAuthHeaders) {
+    this.pictureUrlProvider = pictureUrlProvider;
+    this.grocyAuthHeaders = grocyAuthHeaders;
+    this.sizeProvider = new ViewPreloadSizeProvider<>();
+  }
+
+  public void attach(RecyclerView recyclerView) {
+    requestManager = Glide.with(recyclerView);
+    preloader = new RecyclerViewPreloader<>(requestManager, this, sizeProvider, MAX_PRELOAD);
+    recyclerView.addOnScrollListener(scrollListener);
+  }
+
+  public void detach(RecyclerView recyclerView) {
+    recyclerView.removeOnScrollListener(scrollListener);
+    preloader = null;
+  }
+
+  public void setView(ImageView picture) {
+    // only the first view is used, the size of all picture views in a list is the same
+    sizeProvider.setView(picture);
+  }
+
+  @NonNull
+  @Override
+  public List<String> getPreloadItems(int position) {
+    String pictureUrl = pictureUrlProvider.getPictureUrl(position);
+    return pictureUrl != null ? Collections.singletonList(pictureUrl) : Collections.emptyList();
+  }
+
+  @Nullable
+  @Override
+  public RequestBuilder<Drawable> getPreloadRequestBuilder(@NonNull String pictureUrl) {
+    if (requestManager == null) return null;
+    return PictureUtil.getPictureRequest(requestManager, pictureUrl, grocyAuthHeaders);
+  }
+}
@@ -28,6 +28,7 @@ import androidx.annotation.Nullable;
 import androidx.cardview.widget.CardView;
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
 import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.GlideException;
 import com.bumptech.glide.load.model.GlideUrl;
@@ -36,13 +37,18 @@ import com.bumptech.glide.load.resource.bitmap.CenterCrop;
 import com.bumptech.glide.load.resource.drawable.DrawableTransitionOptions;
 import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.target.Target;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class PictureUtil {
 
+  private static final int MAX_UPLOAD_WIDTH = 1280;
+  private static final int MAX_UPLOAD_HEIGHT = 800;
+
   public static void loadPicture(ImageView imageView, @Nullable CardView frame, String pictureUrl) {
     Glide.with(imageView.getContext())
         .load(new GlideUrl(
@@ -73,13 +79,12 @@ public class PictureUtil {
       Headers grocyAuthHeaders,
       boolean keepAspectRatio
   ) {
-    RequestBuilder<Drawable> requestBuilder = Glide.with(picture.getContext())
-        .load(new GlideUrl(pictureUrl, grocyAuthHeaders));
-    requestBuilder = requestBuilder
-        .transform(new CenterCrop())
-        .transition(DrawableTransitionOptions.withCrossFade());
+    RequestBuilder<Drawable> requestBuilder = getPictureRequest(
+        Glide.with(picture.getContext()), pictureUrl, grocyAuthHeaders
+    ).transition(DrawableTransitionOptions.withCrossFade());
     if (keepAspectRatio) {
-      requestBuilder = requestBuilder.override(Target.SIZE_ORIGINAL, Target.SIZE_ORIGINAL);
+      // scale to the view width instead of decoding the original size
+      requestBuilder = requestBuilder.fitCenter();
     }
     requestBuilder.listener(new RequestListener<>() {
       @Override
@@ -105,37 +110,72 @@ public class PictureUtil {
     }).into(picture);
   }
 
+  /**
+   * Request without target size, so that the size of the view or the preload size is used.
+   * Requests for preloading must be built with this too, otherwise the cache keys differ.
+   */
+  public static RequestBuilder<Drawable> getPictureRequest(
+      RequestManager requestManager,
+      String pictureUrl,
+      Headers grocyAuthHeaders
+  ) {
+    return requestManager
+        .load(new GlideUrl(pictureUrl, grocyAuthHeaders))
+        .transform(new CenterCrop());
+  }
+
   public static Bitmap scaleBitmap(String imagePath) {
-    int maxWidth = 1280;
-    int maxHeight = 800;
     BitmapFactory.Options options = new BitmapFactory.Options();
     options.inJustDecodeBounds = true;
     BitmapFactory.decodeFile(imagePath, options);
-    int imageHeight = options.outHeight;
-    int imageWidth = options.outWidth;
-    int scaleFactor = Math.min(imageWidth / maxWidth, imageHeight / maxHeight);
     options.inJustDecodeBounds = false;
-    options.inSampleSize = scaleFactor;
-    return BitmapFactory.decodeFile(imagePath, options);
+    options.inSampleSize = calculateInSampleSize(
+        options.outWidth, options.outHeight, MAX_UPLOAD_WIDTH, MAX_UPLOAD_HEIGHT
+    );
+    Bitmap sampledBitmap = BitmapFactory.decodeFile(imagePath, options);
+    if (sampledBitmap == null) return null;
+    if (sampledBitmap.getWidth() <= MAX_UPLOAD_WIDTH
+        && sampledBitmap.getHeight() <= MAX_UPLOAD_HEIGHT) {
+      return sampledBitmap;
+    }
+    Bitmap scaledBitmap = scaleBitmap(sampledBitmap);
+    if (scaledBitmap != sampledBitmap) sampledBitmap.recycle();
+    return scaledBitmap;
   }
 
   public static Bitmap scaleBitmap(Bitmap bitmap) {
-    int maxWidth = 1280;
-    int maxHeight = 800;
     float scale = Math.min(
-        ((float)maxWidth / bitmap.getWidth()),
-        ((float)maxHeight / bitmap.getHeight())
+        ((float) MAX_UPLOAD_WIDTH / bitmap.getWidth()),
+        ((float) MAX_UPLOAD_HEIGHT / bitmap.getHeight())
     );
     int newWidth = Math.round(bitmap.getWidth() * scale);
     int newHeight = Math.round(bitmap.getHeight() * scale);
     return Bitmap.createScaledBitmap(bitmap, newWidth, newHeight, true);
   }
 
-  public static byte[] convertBitmapToByteArray(Bitmap bitmap) {
-    if (bitmap == null) return null;
-    ByteArrayOutputStream stream = new ByteArrayOutputStream();
-    bitmap.compress(Bitmap.CompressFormat.JPEG, 80, stream);
-    return stream.toByteArray();
+  /**
+   * Largest power of two which keeps the side limiting the scale at least as large as its bound,
+   * so the decoder does most of the scaling without losing quality.
+   */
+  public static int calculateInSampleSize(int width, int height, int maxWidth, int maxHeight) {
+    int inSampleSize = 1;
+    if (width <= 0 || height <= 0) return inSampleSize;
+    while (width / (inSampleSize * 2) >= maxWidth || height / (inSampleSize * 2) >= maxHeight) {
+      inSampleSize *= 2;
+    }
+    return inSampleSize;
+  }
+
+  /**
+   * Compresses the bitmap straight into the file, must not be called on the main thread.
+   */
+  public static boolean writeBitmapToFile(Bitmap bitmap, File file) {
+    if (bitmap == null) return false;
+    try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+      return bitmap.compress(Bitmap.CompressFormat.JPEG, 80, stream);
+    } catch (IOException e) {
+      return false;
+    }
   }
 
   public static File createImageFile(File storageDir) throws IOException {
@@ -24,7 +24,6 @@ import android.content.Intent;
 import android.content.SharedPreferences;
 import android.net.Uri;
 import android.os.Handler;
-import android.util.Log;
 import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.fragment.app.Fragment;
@@ -37,6 +36,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -111,7 +111,11 @@ public class PrefsUtil {
   private void exportToFile(Uri uri, Runnable onSuccess, Runnable onError) {
     try (OutputStream stream = fragment.requireActivity().getContentResolver().openOutputStream(uri);
         OutputStreamWriter writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
-      Map<String, ?> allPrefs = sharedPreferences.getAll();
+      Map<String, Object> allPrefs = new HashMap<>(sharedPreferences.getAll());
+      // credentials and sync state of the inactive server profiles
+      allPrefs.putAll(
+          ServerUtil.getParkedPreferences(fragment.requireContext(), sharedPreferences)
+      );
       for (String key : allPrefs.keySet()) {
         Object value = allPrefs.get(key);
         if (value == null) continue;
@@ -120,7 +124,7 @@ public class PrefsUtil {
       }
       onSuccess.run();
     } catch (IOException e) {
-      Log.e("PrefsUtil", "Error exporting prefs", e);
+      LogUtil.e("PrefsUtil", "Error exporting prefs", e);
       onError.run();
     }
   }
@@ -130,47 +134,65 @@ public class PrefsUtil {
         BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
 
       // Clear all existing preferences
+      Context context = fragment.requireContext();
+      ServerUtil.clearParkedPreferences(context, sharedPreferences);
       SharedPreferences.Editor editor = sharedPreferences.edit();
       editor.clear();
       editor.apply();
 
       editor = sharedPreferences.edit();
+      HashMap<String, SharedPreferences.Editor> parkedEditors = new HashMap<>();
       String line;
       while ((line = reader.readLine()) != null) {
         String[] keyValue = line.split("=", 2);
         if (keyValue.length == 2) {
           String[] valueAndType = keyValue[1].split(";", 2);
           if (valueAndType.length == 2) {
+            String key = keyValue[0];
             String value = valueAndType[0];
             String type = valueAndType[1];
+            SharedPreferences.Editor target = editor;
+            String parkedPrefsName = ServerUtil.getParkedPrefsName(key);
+            if (parkedPrefsName != null) {
+              target = parkedEditors.get(parkedPrefsName);
+              if (target == null) {
+                target = context.getSharedPreferences(parkedPrefsName, Context.MODE_PRIVATE)
+                    .edit();
+                parkedEditors.put(parkedPrefsName, target);
+              }
+              key = key.substring(parkedPrefsName.length() + 1);
+            }
             switch (type) {
               case "Integer":
-                editor.putInt(keyValue[0], Integer.parseInt(value));
+                target.putInt(key, Integer.parseInt(value));
                 break;
               case "Long":
-                editor.putLong(keyValue[0], Long.parseLong(value));
+                target.putLong(key, Long.parseLong(value));
                 break;
               case "Float":
-                editor.putFloat(keyValue[0], Float.parseFloat(value));
+                target.putFloat(key, Float.parseFloat(value));
                 break;
               case "Boolean":
-                editor.putBoolean(keyValue[0], Boolean.parseBoolean(value));
+                target.putBoolean(key, Boolean.parseBoolean(value));
                 break;
               case "String":
-                editor.putString(keyValue[0], value);
+                target.putString(key, value);
                 break;
               case "HashSet":
                 Set<String> stringSet = new HashSet<>(Arrays.asList(value.split(",")));
-                editor.putStringSet(keyValue[0], stringSet);
+                target.putStringSet(key, stringSet);
                 break;
             }
           }
         }
       }
+      for (SharedPreferences.Editor parkedEditor : parkedEditors.values()) {
+        parkedEditor.apply();
+      }
       editor.apply();
       onSuccess.run();
     } catch (IOException e) {
-      Log.e("PrefsUtil", "Error importing prefs", e);
+      LogUtil.e("PrefsUtil", "Error importing prefs", e);
       onError.run();
     }
   }
@@ -213,38 +235,44 @@ public class PrefsUtil {
     }
   }
 
+  public static final String[] CACHING_RELATED_KEYS = new String[]{
+      PREF.DB_LAST_TIME_STOCK_ITEMS,
+      PREF.DB_LAST_TIME_STOCK_ENTRIES,
+      PREF.DB_LAST_TIME_STORES,
+      PREF.DB_LAST_TIME_LOCATIONS,
+      PREF.DB_LAST_TIME_STOCK_LOCATIONS,
+      PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+      PREF.DB_LAST_TIME_SHOPPING_LISTS,
+      PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+      PREF.DB_LAST_TIME_QUANTITY_UNITS,
+      PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS,
+      PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+      PREF.DB_LAST_TIME_PRODUCTS,
+      PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED,
+      PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE,
+      PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+      PREF.DB_LAST_TIME_VOLATILE,
+      PREF.DB_LAST_TIME_VOLATILE_MISSING,
+      PREF.DB_LAST_TIME_TASKS,
+      PREF.DB_LAST_TIME_TASK_CATEGORIES,
+      PREF.DB_LAST_TIME_CHORES,
+      PREF.DB_LAST_TIME_CHORE_ENTRIES,
+      PREF.DB_LAST_TIME_USERS,
+      PREF.DB_LAST_TIME_RECIPES,
+      PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS,
+      PREF.DB_LAST_TIME_RECIPE_POSITIONS,
+      PREF.DB_LAST_TIME_RECIPE_POSITIONS_RESOLVED,
+      PREF.DB_LAST_TIME_RECIPE_NESTINGS,
+      PREF.DB_LAST_TIME_USERFIELDS,
+      PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES,
+      PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS
+  };
+
   public static void clearCachingRelatedSharedPreferences(SharedPreferences sharedPrefs) {
     SharedPreferences.Editor editPrefs = sharedPrefs.edit();
-    editPrefs.remove(PREF.DB_LAST_TIME_STOCK_ITEMS);
-    editPrefs.remove(PREF.DB_LAST_TIME_STOCK_ENTRIES);
-    editPrefs.remove(PREF.DB_LAST_TIME_STORES);
-    editPrefs.remove(PREF.DB_LAST_TIME_LOCATIONS);
-    editPrefs.remove(PREF.DB_LAST_TIME_STOCK_LOCATIONS);
-    editPrefs.remove(PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS);
-    editPrefs.remove(PREF.DB_LAST_TIME_SHOPPING_LISTS);
-    editPrefs.remove(PREF.DB_LAST_TIME_PRODUCT_GROUPS);
-    editPrefs.remove(PREF.DB_LAST_TIME_QUANTITY_UNITS);
-    editPrefs.remove(PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS);
-    editPrefs.remove(PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED);
-    editPrefs.remove(PREF.DB_LAST_TIME_PRODUCTS);
-    editPrefs.remove(PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED);
-    editPrefs.remove(PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE);
-    editPrefs.remove(PREF.DB_LAST_TIME_PRODUCT_BARCODES);
-    editPrefs.remove(PREF.DB_LAST_TIME_VOLATILE);
-    editPrefs.remove(PREF.DB_LAST_TIME_VOLATILE_MISSING);
-    editPrefs.remove(PREF.DB_LAST_TIME_TASKS);
-    editPrefs.remove(PREF.DB_LAST_TIME_TASK_CATEGORIES);
-    editPrefs.remove(PREF.DB_LAST_TIME_CHORES);
-    editPrefs.remove(PREF.DB_LAST_TIME_CHORE_ENTRIES);
-    editPrefs.remove(PREF.DB_LAST_TIME_USERS);
-    editPrefs.remove(PREF.DB_LAST_TIME_RECIPES);
-    editPrefs.remove(PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS);
-    editPrefs.remove(PREF.DB_LAST_TIME_RECIPE_POSITIONS);
-    editPrefs.remove(PREF.DB_LAST_TIME_RECIPE_POSITIONS_RESOLVED);
-    editPrefs.remove(PREF.DB_LAST_TIME_RECIPE_NESTINGS);
-    editPrefs.remove(PREF.DB_LAST_TIME_USERFIELDS);
-    editPrefs.remove(PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES);
-    editPrefs.remove(PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS);
+    for (String key : CACHING_RELATED_KEYS) {
+      editPrefs.remove(key);
+    }
     editPrefs.apply();
   }
 
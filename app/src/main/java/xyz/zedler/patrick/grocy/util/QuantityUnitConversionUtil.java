@@ -19,14 +19,21 @@
 
 package xyz.zedler.patrick.grocy.util;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
 
 public class QuantityUnitConversionUtil {
+  private static List<QuantityUnitConversionResolved> indexedConversions;
+  private static ConversionIndex conversionIndex;
+
   public static HashMap<QuantityUnit, Double> getUnitFactors(
       HashMap<Integer, QuantityUnit> quantityUnitHashMap,
       List<QuantityUnitConversionResolved> unitConversions,
@@ -38,15 +45,17 @@ public class QuantityUnitConversionUtil {
     // calculated (see QuantityUnitConversionResolved class). For easier version compatibility
     // changes of this app in future versions, the QuantityUnitConversionsResolved table of this app
     // contains with earlier server versions just the simple conversions from the Grocy
-    // server (not resolved). If 4.0.0 is the min. server version requirement, this behavior
+    // server (not resolved), which are resolved transitively on the device per product.
+    // If 4.0.0 is the min. server version requirement, this behavior
     // can simply be removed and not all pages have to be edited.
+    ConversionIndex index = getConversionIndex(unitConversions);
     if (!useResolvedConversions) {
-      return getUnitFactors(quantityUnitHashMap, unitConversions, product);
+      return getUnitFactors(quantityUnitHashMap, index, product);
     }
     HashMap<QuantityUnit, Double> unitFactors = new HashMap<>();
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (conversion.getProductIdInt() != product.getId()) continue;
-
+    ConversionIndex.Entries entries = index.productConversions.get(product.getId());
+    if (entries == null) return unitFactors;
+    for (int i = 0; i < entries.size; i++) {
       // We need this check because unitConversions list can contain multiple entry for the same "to" QU.
       //
       // Example:
@@ -55,18 +64,18 @@ public class QuantityUnitConversionUtil {
       // Bottle -> Bottle | 1.0
       //
       // Without this check the output map will contain 0.01 for Bottle key
-      if (conversion.getFromQuId() != product.getQuIdStockInt()) continue;
+      if (entries.fromQuIds[i] != product.getQuIdStockInt()) continue;
 
-      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
+      QuantityUnit unit = quantityUnitHashMap.get(entries.toQuIds[i]);
       if (unit == null || unitFactors.containsKey(unit)) continue;
-      unitFactors.put(unit, conversion.getFactor());
+      unitFactors.put(unit, entries.factors[i]);
     }
     return unitFactors;
   }
 
   private static HashMap<QuantityUnit, Double> getUnitFactors(
       HashMap<Integer, QuantityUnit> quantityUnitHashMap,
-      List<QuantityUnitConversionResolved> unitConversions,
+      ConversionIndex index,
       Product product
   ) {
     QuantityUnit stockUnit = quantityUnitHashMap.get(product.getQuIdStockInt());
@@ -76,36 +85,210 @@ public class QuantityUnitConversionUtil {
     if (stockUnit == null || purchaseUnit == null) {
       return unitFactors;
     }
-    unitFactors.put(stockUnit, (double) 1);
-    if (!unitFactors.containsKey(purchaseUnit)) {
-      unitFactors.put(purchaseUnit, 1 / product.getQuFactorPurchaseToStockDouble());
-    }
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (!NumUtil.isStringInt(conversion.getProductId())
-          || product.getId() != conversion.getProductIdInt()) {
-        continue;
-      }
-      // Only add product specific conversions
-      // ("overriding" standard conversions which are added in the next step)
-      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
+    ProductFactors productFactors = index.getTransitiveFactors(product);
+    for (int i = 0; i < productFactors.quIds.length; i++) {
+      QuantityUnit unit = quantityUnitHashMap.get(productFactors.quIds[i]);
       if (unit == null || unitFactors.containsKey(unit)) {
         continue;
       }
-      unitFactors.put(unit, conversion.getFactor());
+      unitFactors.put(unit, productFactors.factors[i]);
     }
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (NumUtil.isStringInt(conversion.getProductId())
-          || stockUnit.getId() != conversion.getFromQuId()) {
-        continue;
+    return unitFactors;
+  }
+
+  /**
+   * Returns the index for the given conversion list, building it only if the list changed since
+   * the last call. The list loaded from the database stays the same until the next sync, so all
+   * forms and adapter rows share one index instead of scanning all conversions per product.
+   */
+  public static synchronized ConversionIndex getConversionIndex(
+      List<QuantityUnitConversionResolved> unitConversions
+  ) {
+    if (conversionIndex == null || indexedConversions != unitConversions
+        || conversionIndex.conversionCount != unitConversions.size()) {
+      conversionIndex = new ConversionIndex(unitConversions);
+      indexedConversions = unitConversions;
+    }
+    return conversionIndex;
+  }
+
+  public static synchronized void invalidateConversionIndex() {
+    conversionIndex = null;
+    indexedConversions = null;
+  }
+
+  /**
+   * Resolved unit factors of one product, together with the product fields they depend on.
+   */
+  private static class ProductFactors {
+
+    private final int quIdStock;
+    private final int quIdPurchase;
+    private final double quFactorPurchaseToStock;
+    private final int[] quIds;
+    private final double[] factors;
+
+    private ProductFactors(Product product, LinkedHashMap<Integer, Double> factorMap) {
+      quIdStock = product.getQuIdStockInt();
+      quIdPurchase = product.getQuIdPurchaseInt();
+      quFactorPurchaseToStock = product.getQuFactorPurchaseToStockDouble();
+      quIds = new int[factorMap.size()];
+      factors = new double[factorMap.size()];
+      int i = 0;
+      for (Map.Entry<Integer, Double> entry : factorMap.entrySet()) {
+        quIds[i] = entry.getKey();
+        factors[i] = entry.getValue();
+        i++;
       }
-      // Only add standard unit conversions
-      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
-      if (unit == null || unitFactors.containsKey(unit)) {
-        continue;
+    }
+
+    private boolean isValidFor(Product product) {
+      return quIdStock == product.getQuIdStockInt()
+          && quIdPurchase == product.getQuIdPurchaseInt()
+          && quFactorPurchaseToStock == product.getQuFactorPurchaseToStockDouble();
+    }
+  }
+
+  public static class ConversionIndex {
+
+    // product specific conversions by product id
+    private final HashMap<Integer, Entries> productConversions = new HashMap<>();
+    // standard conversions (without product) by from_qu_id
+    private final HashMap<Integer, Entries> standardConversions = new HashMap<>();
+    // standard conversions (without product) by to_qu_id, for inverse edges
+    private final HashMap<Integer, Entries> standardConversionsByTo = new HashMap<>();
+    // transitive factors for servers below 4.0.0 by product id, resolved on first lookup
+    private final HashMap<Integer, ProductFactors> transitiveFactors = new HashMap<>();
+    private final int conversionCount;
+
+    private ConversionIndex(List<QuantityUnitConversionResolved> unitConversions) {
+      conversionCount = unitConversions.size();
+      for (QuantityUnitConversion conversion : unitConversions) {
+        if (NumUtil.isStringInt(conversion.getProductId())) {
+          getOrCreate(productConversions, conversion.getProductIdInt()).add(conversion);
+        } else {
+          getOrCreate(standardConversions, conversion.getFromQuId()).add(conversion);
+          getOrCreate(standardConversionsByTo, conversion.getToQuId()).add(conversion);
+        }
+      }
+    }
+
+    /**
+     * Resolves the factors (amount in unit per one stock unit) of all units reachable from the
+     * product's stock unit. Servers below 4.0.0 only deliver plain conversions, so the direct
+     * conversions are taken first in the same precedence as before (stock, purchase, product
+     * specific, standard) and further units are then reached with a breadth-first search over
+     * product specific and standard conversions and their inverses.
+     */
+    private synchronized ProductFactors getTransitiveFactors(Product product) {
+      ProductFactors cached = transitiveFactors.get(product.getId());
+      if (cached != null && cached.isValidFor(product)) {
+        return cached;
+      }
+
+      LinkedHashMap<Integer, Double> factors = new LinkedHashMap<>();
+      int stockQuId = product.getQuIdStockInt();
+      factors.put(stockQuId, (double) 1);
+      if (!factors.containsKey(product.getQuIdPurchaseInt())) {
+        factors.put(product.getQuIdPurchaseInt(), 1 / product.getQuFactorPurchaseToStockDouble());
+      }
+      Entries productEntries = productConversions.get(product.getId());
+      if (productEntries != null) {
+        for (int i = 0; i < productEntries.size; i++) {
+          if (!factors.containsKey(productEntries.toQuIds[i])) {
+            factors.put(productEntries.toQuIds[i], productEntries.factors[i]);
+          }
+        }
+      }
+      Entries stockEntries = standardConversions.get(stockQuId);
+      if (stockEntries != null) {
+        for (int i = 0; i < stockEntries.size; i++) {
+          if (!factors.containsKey(stockEntries.toQuIds[i])) {
+            factors.put(stockEntries.toQuIds[i], stockEntries.factors[i]);
+          }
+        }
+      }
+
+      ArrayDeque<Integer> queue = new ArrayDeque<>(factors.keySet());
+      while (!queue.isEmpty()) {
+        int quId = queue.poll();
+        Double factor = factors.get(quId);
+        if (factor == null || factor <= 0) continue;
+        if (productEntries != null) {
+          for (int i = 0; i < productEntries.size; i++) {
+            if (productEntries.fromQuIds[i] == quId) {
+              visit(factors, queue, productEntries.toQuIds[i], factor * productEntries.factors[i]);
+            }
+          }
+          for (int i = 0; i < productEntries.size; i++) {
+            if (productEntries.toQuIds[i] == quId && productEntries.factors[i] != 0) {
+              visit(factors, queue, productEntries.fromQuIds[i], factor / productEntries.factors[i]);
+            }
+          }
+        }
+        Entries fromEntries = standardConversions.get(quId);
+        if (fromEntries != null) {
+          for (int i = 0; i < fromEntries.size; i++) {
+            visit(factors, queue, fromEntries.toQuIds[i], factor * fromEntries.factors[i]);
+          }
+        }
+        Entries toEntries = standardConversionsByTo.get(quId);
+        if (toEntries != null) {
+          for (int i = 0; i < toEntries.size; i++) {
+            if (toEntries.factors[i] == 0) continue;
+            visit(factors, queue, toEntries.fromQuIds[i], factor / toEntries.factors[i]);
+          }
+        }
+      }
+
+      ProductFactors productFactors = new ProductFactors(product, factors);
+      transitiveFactors.put(product.getId(), productFactors);
+      return productFactors;
+    }
+
+    private static void visit(
+        LinkedHashMap<Integer, Double> factors,
+        ArrayDeque<Integer> queue,
+        int quId,
+        double factor
+    ) {
+      if (factors.containsKey(quId)) return;
+      factors.put(quId, factor);
+      queue.add(quId);
+    }
+
+    private static Entries getOrCreate(HashMap<Integer, Entries> map, int key) {
+      Entries entries = map.get(key);
+      if (entries == null) {
+        entries = new Entries();
+        map.put(key, entries);
+      }
+      return entries;
+    }
+
+    /**
+     * Conversions of one product or one standard "from" unit in original list order, stored in
+     * parallel primitive arrays.
+     */
+    private static class Entries {
+
+      private int[] fromQuIds = new int[4];
+      private int[] toQuIds = new int[4];
+      private double[] factors = new double[4];
+      private int size;
+
+      private void add(QuantityUnitConversion conversion) {
+        if (size == factors.length) {
+          fromQuIds = Arrays.copyOf(fromQuIds, size * 2);
+          toQuIds = Arrays.copyOf(toQuIds, size * 2);
+          factors = Arrays.copyOf(factors, size * 2);
+        }
+        fromQuIds[size] = conversion.getFromQuId();
+        toQuIds[size] = conversion.getToQuId();
+        factors[size] = conversion.getFactor();
+        size++;
       }
-      unitFactors.put(unit, conversion.getFactor());
     }
-    return unitFactors;
   }
 
   public static String getAmountStock(
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
+import xyz.zedler.patrick.grocy.model.RecipePositionResolved;
+import xyz.zedler.patrick.grocy.model.StockItem;
+
+public class RecipeFulfillmentUtil {
+
+  /**
+   * Updates the fulfillments downloaded from the server with the current local stock.
+   * The stock table is often synced more recently than the fulfillments (e.g. after a stock
+   * action on another page or while offline), so every resolved recipe position whose stock
+   * amount differs from the local stock marks its recipe as changed. Only these recipes are
+   * recomputed in the same way the server aggregates its recipe positions, all other
+   * fulfillments are returned unchanged. Costs, calories and due score don't depend on the
+   * stock amount and are taken from the server values.
+   */
+  public static List<RecipeFulfillment> getFulfillmentsWithCurrentStock(
+      List<RecipeFulfillment> recipeFulfillments,
+      List<RecipePositionResolved> recipePositionsResolved,
+      List<StockItem> stockItems
+  ) {
+    if (recipeFulfillments == null || recipePositionsResolved == null || stockItems == null) {
+      return recipeFulfillments;
+    }
+    HashMap<Integer, StockItem> stockItemHashMap = ArrayUtil.getStockItemHashMap(stockItems);
+
+    HashSet<Integer> changedRecipeIds = new HashSet<>();
+    for (RecipePositionResolved position : recipePositionsResolved) {
+      if (changedRecipeIds.contains(position.getRecipeId())) continue;
+      double stockAmount = getStockAmount(stockItemHashMap, position.getProductId());
+      if (stockAmount != position.getStockAmount()) {
+        changedRecipeIds.add(position.getRecipeId());
+      }
+    }
+    if (changedRecipeIds.isEmpty()) {
+      return recipeFulfillments;
+    }
+
+    HashMap<Integer, RecipeFulfillment> changedFulfillments = new HashMap<>();
+    for (RecipePositionResolved position : recipePositionsResolved) {
+      if (!changedRecipeIds.contains(position.getRecipeId())) continue;
+      RecipeFulfillment fulfillment = changedFulfillments.get(position.getRecipeId());
+      if (fulfillment == null) {
+        fulfillment = new RecipeFulfillment();
+        fulfillment.setRecipeId(position.getRecipeId());
+        fulfillment.setNeedFulfilled(true);
+        fulfillment.setNeedFulfilledWithShoppingList(true);
+        changedFulfillments.put(position.getRecipeId(), fulfillment);
+      }
+      double stockAmount = getStockAmount(stockItemHashMap, position.getProductId());
+      boolean needFulfilled = isNeedFulfilled(position, stockAmount);
+      boolean needFulfilledWithShoppingList = needFulfilled || isNeedFulfilled(
+          position, stockAmount + position.getAmountOnShoppingList()
+      );
+      if (!needFulfilled) {
+        fulfillment.setNeedFulfilled(false);
+        fulfillment.setMissingProductsCount(fulfillment.getMissingProductsCount() + 1);
+      }
+      if (!needFulfilledWithShoppingList) {
+        fulfillment.setNeedFulfilledWithShoppingList(false);
+      }
+    }
+
+    List<RecipeFulfillment> updatedFulfillments = new ArrayList<>(recipeFulfillments.size());
+    for (RecipeFulfillment fulfillment : recipeFulfillments) {
+      RecipeFulfillment changed = changedFulfillments.get(fulfillment.getRecipeId());
+      if (changed == null) {
+        updatedFulfillments.add(fulfillment);
+        continue;
+      }
+      changed.setCosts(fulfillment.getCosts());
+      changed.setCostsPerServing(fulfillment.getCostsPerServing());
+      changed.setCalories(fulfillment.getCalories());
+      changed.setDueScore(fulfillment.getDueScore());
+      changed.setProductNamesCommaSeparated(fulfillment.getProductNamesCommaSeparated());
+      updatedFulfillments.add(changed);
+    }
+    return updatedFulfillments;
+  }
+
+  private static boolean isNeedFulfilled(RecipePositionResolved position, double stockAmount) {
+    if (position.isNotCheckStockFulfillment()) {
+      return true;
+    } else if (position.isOnlyCheckSingleUnitInStock()) {
+      return stockAmount > 0;
+    }
+    return stockAmount >= position.getRecipeAmount();
+  }
+
+  private static double getStockAmount(HashMap<Integer, StockItem> stockItemHashMap, int productId) {
+    StockItem stockItem = stockItemHashMap.get(productId);
+    return stockItem != null ? stockItem.getAmountAggregatedDouble() : 0;
+  }
+}
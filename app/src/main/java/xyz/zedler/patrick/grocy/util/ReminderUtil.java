@@ -139,30 +139,6 @@ public class ReminderUtil {
     }
   }
 
-  public void scheduleAgainIn10Minutes(
-      int reminderId,
-      Class<? extends BroadcastReceiver> receiverClass
-  ) {
-    Calendar calendar = Calendar.getInstance();
-    calendar.setTimeInMillis(System.currentTimeMillis());
-    calendar.add(Calendar.MINUTE, 10);
-
-    PendingIntent pendingIntent = PendingIntent.getBroadcast(
-        context,
-        reminderId,
-        new Intent(context, receiverClass),
-        getPendingIntentFlags()
-    );
-
-    if (notificationManager != null) {
-      notificationManager.cancel(reminderId);
-    }
-    if (alarmManager != null) {
-      alarmManager.cancel(pendingIntent);
-      alarmManager.set(AlarmManager.RTC_WAKEUP, calendar.getTimeInMillis(), pendingIntent);
-    }
-  }
-
   public void setReminderEnabled(String reminderType, boolean enabled) {
     int reminderId;
     String reminderTime;
@@ -43,6 +43,18 @@ public class RestartUtil {
     Runtime.getRuntime().exit(0);
   }
 
+  /**
+   * Starts the main activity again in a new task without restarting the process, so all screens
+   * and their view models are created again, while the request queue and the opened databases
+   * are kept.
+   */
+  public static void restartActivity(Activity activity) {
+    Intent intent = new Intent(activity, MainActivity.class);
+    intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+    activity.startActivity(intent);
+    activity.overridePendingTransition(R.anim.fade_in_restart, R.anim.fade_out_restart);
+  }
+
   public static void restartToApply(MainActivity activity, long delay, @NonNull Bundle bundle) {
     new Handler(Looper.getMainLooper()).postDelayed(() -> {
       activity.saveInstanceState(bundle);
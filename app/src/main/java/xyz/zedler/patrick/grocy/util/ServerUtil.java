@@ -0,0 +1,349 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import androidx.annotation.Nullable;
+import com.android.volley.RequestQueue;
+import com.android.volley.toolbox.ClearCacheRequest;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.model.Server;
+import xyz.zedler.patrick.grocy.web.RequestQueueSingleton;
+
+/**
+ * Server profiles: every server the user has logged in to keeps its own Room database and its
+ * own server related preferences (credentials, config and sync timestamps). The preferences of
+ * the active server live in the default preferences as before, the ones of inactive servers are
+ * parked in a private preferences file per server. Switching only swaps them and the database
+ * instance, and the main activity is started again without restarting the process. The screens
+ * show the offline data of the server right away and only sync what changed since it was active.
+ */
+public class ServerUtil {
+
+  private final static String TAG = ServerUtil.class.getSimpleName();
+
+  private final static String DATABASE_NAME = "app_database";
+  private final static String PREFS_NAME_PREFIX = "server_";
+  private final static char PARKED_KEY_SEPARATOR = '/';
+
+  private final static String[] SERVER_KEYS = new String[]{
+      PREF.SERVER_URL,
+      PREF.API_KEY,
+      PREF.HOME_ASSISTANT_SERVER_URL,
+      PREF.HOME_ASSISTANT_LONG_LIVED_TOKEN,
+      PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY,
+      PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY_TIME,
+      PREF.GROCY_VERSION,
+      PREF.CURRENT_USER_ID,
+      PREF.SHOPPING_LIST_LAST_ID,
+      PREF.CURRENCY,
+      PREF.ENERGY_UNIT,
+      PREF.CALENDAR_FIRST_DAY_OF_WEEK,
+      PREF.MEAL_PLAN_FIRST_DAY_OF_WEEK,
+      PREF.FEATURE_STOCK,
+      PREF.FEATURE_SHOPPING_LIST,
+      PREF.FEATURE_STOCK_PRICE_TRACKING,
+      PREF.FEATURE_STOCK_LOCATION_TRACKING,
+      PREF.FEATURE_STOCK_BBD_TRACKING,
+      PREF.FEATURE_STOCK_FREEZING_TRACKING,
+      PREF.FEATURE_STOCK_OPENED_TRACKING,
+      PREF.FEATURE_MULTIPLE_SHOPPING_LISTS,
+      PREF.FEATURE_RECIPES,
+      PREF.FEATURE_TASKS,
+      PREF.FEATURE_CHORES,
+      PREF.FEATURE_CHORES_ASSIGNMENTS,
+      PREF.FEATURE_LABEL_PRINTER
+  };
+
+  private final static Gson gson = new Gson();
+  private final static Type serverListType = new TypeToken<List<Server>>(){}.getType();
+
+  public static int getActiveServerId(SharedPreferences sharedPrefs) {
+    return sharedPrefs.getInt(PREF.ACTIVE_SERVER_ID, 0);
+  }
+
+  /**
+   * The first server keeps the database name from before profiles existed, so its offline data
+   * survives the update.
+   */
+  public static String getDatabaseName(int serverId) {
+    return serverId == 0 ? DATABASE_NAME : DATABASE_NAME + "_" + serverId;
+  }
+
+  public static List<Server> getServers(SharedPreferences sharedPrefs) {
+    String json = sharedPrefs.getString(PREF.SERVERS, null);
+    List<Server> servers = null;
+    if (json != null) {
+      try {
+        servers = gson.fromJson(json, serverListType);
+      } catch (JsonParseException e) {
+        LogUtil.e(TAG, "getServers: " + e);
+      }
+    }
+    return servers != null ? servers : new ArrayList<>();
+  }
+
+  private static void putServers(SharedPreferences.Editor editor, List<Server> servers) {
+    editor.putString(PREF.SERVERS, gson.toJson(servers, serverListType));
+  }
+
+  @Nullable
+  private static Server findServer(List<Server> servers, int serverId) {
+    for (Server server : servers) {
+      if (server.getId() == serverId) return server;
+    }
+    return null;
+  }
+
+  /**
+   * Adds the logged in server to the profiles or updates its credentials.
+   * Has to be called after a successful login.
+   */
+  public static void registerActiveServer(SharedPreferences sharedPrefs) {
+    if (PrefsUtil.isServerUrlEmpty(sharedPrefs)) return;
+    SharedPreferences.Editor editor = sharedPrefs.edit();
+    putServers(editor, getServersWithActive(sharedPrefs));
+    editor.apply();
+  }
+
+  private static List<Server> getServersWithActive(SharedPreferences sharedPrefs) {
+    List<Server> servers = getServers(sharedPrefs);
+    if (PrefsUtil.isServerUrlEmpty(sharedPrefs)) {
+      return servers;
+    }
+    int activeId = getActiveServerId(sharedPrefs);
+    Server server = findServer(servers, activeId);
+    if (server == null) {
+      server = new Server();
+      server.setId(activeId);
+      servers.add(server);
+    }
+    String serverUrl = sharedPrefs.getString(PREF.SERVER_URL, null);
+    String homeAssistantServerUrl = sharedPrefs.getString(PREF.HOME_ASSISTANT_SERVER_URL, null);
+    String host = Uri.parse(homeAssistantServerUrl != null
+        ? homeAssistantServerUrl : serverUrl).getHost();
+    server.setAlias(host != null ? host : serverUrl);
+    server.setGrocyServerUrl(serverUrl);
+    server.setGrocyApiKey(sharedPrefs.getString(PREF.API_KEY, null));
+    server.setHomeAssistantServerUrl(homeAssistantServerUrl);
+    server.setHomeAssistantToken(
+        sharedPrefs.getString(PREF.HOME_ASSISTANT_LONG_LIVED_TOKEN, null)
+    );
+    return servers;
+  }
+
+  /**
+   * Parks the preferences of the active server and activates the one with the given id.
+   * The main activity has to be started again afterwards with RestartUtil.restartActivity,
+   * because the screens still reference the database of the old server.
+   */
+  public static void switchServer(Context context, SharedPreferences sharedPrefs, int serverId) {
+    if (serverId == getActiveServerId(sharedPrefs)) return;
+    List<Server> servers = getServersWithActive(sharedPrefs);
+    parkActiveServer(context, sharedPrefs);
+    activateServer(context, sharedPrefs, servers, serverId);
+    releaseServer(context);
+  }
+
+  /**
+   * Parks the preferences of the active server and activates an empty profile,
+   * so that the login flow starts with a fresh database.
+   * The main activity has to be started again afterwards, like after switchServer.
+   */
+  public static void addServer(Context context, SharedPreferences sharedPrefs) {
+    List<Server> servers = getServersWithActive(sharedPrefs);
+    parkActiveServer(context, sharedPrefs);
+    activateServer(context, sharedPrefs, servers, getUnusedServerId(servers));
+    releaseServer(context);
+  }
+
+  /**
+   * Parked preferences of all inactive servers for the settings backup. The keys are prefixed
+   * with the name of the preferences file, see getParkedPrefsName.
+   */
+  public static Map<String, Object> getParkedPreferences(
+      Context context,
+      SharedPreferences sharedPrefs
+  ) {
+    Map<String, Object> values = new HashMap<>();
+    int activeId = getActiveServerId(sharedPrefs);
+    for (Server server : getServers(sharedPrefs)) {
+      if (server.getId() == activeId) continue;
+      String prefsName = PREFS_NAME_PREFIX + server.getId();
+      Map<String, ?> parked = getServerPrefs(context, server.getId()).getAll();
+      for (Map.Entry<String, ?> entry : parked.entrySet()) {
+        values.put(prefsName + PARKED_KEY_SEPARATOR + entry.getKey(), entry.getValue());
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Returns the name of the preferences file if the key of a backup belongs to parked
+   * preferences, or null if it belongs to the default preferences.
+   */
+  @Nullable
+  public static String getParkedPrefsName(String key) {
+    int separator = key.indexOf(PARKED_KEY_SEPARATOR);
+    if (!key.startsWith(PREFS_NAME_PREFIX) || separator <= PREFS_NAME_PREFIX.length()) {
+      return null;
+    }
+    String prefsName = key.substring(0, separator);
+    return NumUtil.isStringInt(prefsName.substring(PREFS_NAME_PREFIX.length()))
+        ? prefsName : null;
+  }
+
+  /**
+   * Clears the parked preferences of all inactive servers before a backup is restored.
+   */
+  public static void clearParkedPreferences(Context context, SharedPreferences sharedPrefs) {
+    int activeId = getActiveServerId(sharedPrefs);
+    for (Server server : getServers(sharedPrefs)) {
+      if (server.getId() == activeId) continue;
+      getServerPrefs(context, server.getId()).edit().clear().commit();
+    }
+  }
+
+  /**
+   * Removes the active server from the profiles after logout and activates the next one if
+   * there is any. Its database tables have to be cleared by the caller.
+   */
+  public static void removeActiveServer(Context context, SharedPreferences sharedPrefs) {
+    int activeId = getActiveServerId(sharedPrefs);
+    List<Server> servers = getServers(sharedPrefs);
+    Server active = findServer(servers, activeId);
+    if (active != null) {
+      servers.remove(active);
+    }
+    getServerPrefs(context, activeId).edit().clear().commit();
+    int nextId = servers.isEmpty() ? activeId : servers.get(0).getId();
+    activateServer(context, sharedPrefs, servers, nextId);
+  }
+
+  /**
+   * Clears the sync timestamps of all inactive servers, so that they download everything again
+   * when they are activated, like the active server does after an app or database update.
+   */
+  public static void clearParkedCachingPreferences(Context context, SharedPreferences sharedPrefs) {
+    int activeId = getActiveServerId(sharedPrefs);
+    for (Server server : getServers(sharedPrefs)) {
+      if (server.getId() == activeId) continue;
+      SharedPreferences.Editor parked = getServerPrefs(context, server.getId()).edit();
+      for (String key : PrefsUtil.CACHING_RELATED_KEYS) {
+        parked.remove(key);
+      }
+      parked.apply();
+    }
+  }
+
+  /**
+   * Returns the lowest id which is not used by a profile, so the database of a removed server
+   * is reused instead of leaving an orphaned file behind.
+   */
+  private static int getUnusedServerId(List<Server> servers) {
+    int serverId = 0;
+    while (findServer(servers, serverId) != null) {
+      serverId++;
+    }
+    return serverId;
+  }
+
+  /**
+   * Makes the database and the network cache of the previous server unreachable for the next
+   * screens. Its database stays open in the background, see AppDatabase.destroyInstance.
+   */
+  private static void releaseServer(Context context) {
+    AppDatabase.destroyInstance();
+    // responses are cached by URL, which is the same for two profiles of one server
+    RequestQueue requestQueue = RequestQueueSingleton.getInstance(context).getRequestQueue();
+    requestQueue.add(new ClearCacheRequest(requestQueue.getCache(), null));
+  }
+
+  private static void parkActiveServer(Context context, SharedPreferences sharedPrefs) {
+    SharedPreferences.Editor parked = getServerPrefs(
+        context, getActiveServerId(sharedPrefs)
+    ).edit().clear();
+    Map<String, ?> values = sharedPrefs.getAll();
+    for (String key : SERVER_KEYS) {
+      putValue(parked, key, values.get(key));
+    }
+    for (String key : PrefsUtil.CACHING_RELATED_KEYS) {
+      putValue(parked, key, values.get(key));
+    }
+    parked.commit();
+  }
+
+  private static void activateServer(
+      Context context,
+      SharedPreferences sharedPrefs,
+      List<Server> servers,
+      int serverId
+  ) {
+    // committed synchronously because the app or the activity is restarted right after this
+    SharedPreferences.Editor editor = sharedPrefs.edit();
+    for (String key : SERVER_KEYS) {
+      editor.remove(key);
+    }
+    for (String key : PrefsUtil.CACHING_RELATED_KEYS) {
+      editor.remove(key);
+    }
+    Map<String, ?> parked = getServerPrefs(context, serverId).getAll();
+    for (Map.Entry<String, ?> entry : parked.entrySet()) {
+      putValue(editor, entry.getKey(), entry.getValue());
+    }
+    putServers(editor, servers);
+    editor.putInt(PREF.ACTIVE_SERVER_ID, serverId);
+    editor.commit();
+  }
+
+  private static SharedPreferences getServerPrefs(Context context, int serverId) {
+    return context.getSharedPreferences(PREFS_NAME_PREFIX + serverId, Context.MODE_PRIVATE);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void putValue(SharedPreferences.Editor editor, String key, Object value) {
+    if (value instanceof Boolean) {
+      editor.putBoolean(key, (Boolean) value);
+    } else if (value instanceof Float) {
+      editor.putFloat(key, (Float) value);
+    } else if (value instanceof Integer) {
+      editor.putInt(key, (Integer) value);
+    } else if (value instanceof Long) {
+      editor.putLong(key, (Long) value);
+    } else if (value instanceof String) {
+      editor.putString(key, (String) value);
+    } else if (value instanceof Set) {
+      editor.putStringSet(key, (Set<String>) value);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.app.Activity;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timeline of the app start, relative to the process start (or to the first mark below API 24).
+ * Only the first time a step is reached in the process is recorded, so recreations of the
+ * activity neither grow the timeline nor show up as cold starts.
+ * Work which is not needed for the first frame can be deferred with runAfterFirstDraw.
+ */
+public class StartupUtil {
+
+  public static final String ON_CREATE = "onCreate";
+  public static final String ON_CREATE_END = "onCreate end";
+  public static final String FIRST_DRAW = "first draw";
+  public static final String DEFERRED_INIT = "deferred init";
+
+  private static final List<String> names = new ArrayList<>();
+  private static final List<Long> times = new ArrayList<>();
+  private static long startTime = -1;
+
+  public static synchronized void mark(String name) {
+    if (names.contains(name)) return;
+    long now = SystemClock.elapsedRealtime();
+    if (startTime < 0) {
+      startTime = Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+          ? Process.getStartElapsedRealtime() : now;
+    }
+    names.add(name);
+    times.add(now - startTime);
+  }
+
+  /**
+   * Returns the time of the step relative to the process start, or -1 if it was not reached yet.
+   */
+  public static synchronized long getTime(String name) {
+    int index = names.indexOf(name);
+    return index >= 0 ? times.get(index) : -1;
+  }
+
+  public static synchronized String getTimeline() {
+    StringBuilder timeline = new StringBuilder();
+    for (int i = 0; i < names.size(); i++) {
+      if (i > 0) timeline.append(", ");
+      timeline.append(names.get(i)).append(" ").append(times.get(i)).append(" ms");
+    }
+    return timeline.toString();
+  }
+
+  /**
+   * Runs the runnable on the main thread after the first frame of the activity has been drawn.
+   */
+  public static void runAfterFirstDraw(Activity activity, Runnable runnable) {
+    View decorView = activity.getWindow().getDecorView();
+    Handler handler = new Handler(Looper.getMainLooper());
+    ViewTreeObserver.OnDrawListener drawListener = new ViewTreeObserver.OnDrawListener() {
+      private boolean drawn = false;
+
+      @Override
+      public void onDraw() {
+        if (drawn) return;
+        drawn = true;
+        // listeners can't be removed while they are dispatched, and the runnable should only
+        // start after the frame has been drawn completely
+        ViewTreeObserver.OnDrawListener listener = this;
+        handler.post(() -> {
+          if (decorView.getViewTreeObserver().isAlive()) {
+            decorView.getViewTreeObserver().removeOnDrawListener(listener);
+          }
+          runnable.run();
+        });
+      }
+    };
+    decorView.getViewTreeObserver().addOnDrawListener(drawListener);
+  }
+}
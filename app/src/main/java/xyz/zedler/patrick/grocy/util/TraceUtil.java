@@ -0,0 +1,233 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.util;
+
+import android.app.Activity;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Trace;
+import android.view.FrameMetrics;
+import android.view.Window;
+import android.view.Window.OnFrameMetricsAvailableListener;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Marks hot paths as android.os.Trace sections, so they show up in system traces. If enabled
+ * (together with debugging), main thread sections which take longer than a frame are kept in a
+ * ring buffer, and the frame durations of every screen are collected with FrameMetrics.
+ */
+public class TraceUtil {
+
+  private static final long LONG_TASK_MILLIS = 16;
+  private static final int LONG_TASK_COUNT = 100;
+  // frame durations in 1 ms steps, the last bucket contains all longer frames
+  private static final int FRAME_BUCKET_COUNT = 251;
+  private static final int MAX_TRACE_NAME_LENGTH = 127;
+
+  private static volatile boolean enabled;
+  private static volatile String screen = "";
+
+  private static final LongTask[] longTasks = new LongTask[LONG_TASK_COUNT];
+  private static int longTaskNext;
+  private static int longTaskSize;
+  private static final Map<String, int[]> frameHistograms = new LinkedHashMap<>();
+
+  private static HandlerThread frameMetricsThread;
+  private static Object frameMetricsListener;
+
+  public static void setEnabled(boolean enabled) {
+    TraceUtil.enabled = enabled;
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  public static void setScreen(CharSequence screen) {
+    TraceUtil.screen = screen != null ? screen.toString() : "";
+  }
+
+  /**
+   * Returns the start time which has to be passed to endSection on the same thread.
+   */
+  public static long beginSection(@NonNull String name) {
+    Trace.beginSection(name.length() > MAX_TRACE_NAME_LENGTH
+        ? name.substring(0, MAX_TRACE_NAME_LENGTH) : name);
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  public static void endSection(@NonNull String name, long startNanos) {
+    Trace.endSection();
+    if (!enabled || startNanos == 0 || Looper.myLooper() != Looper.getMainLooper()) return;
+    long millis = (System.nanoTime() - startNanos) / 1_000_000;
+    if (millis < LONG_TASK_MILLIS) return;
+    synchronized (longTasks) {
+      longTasks[longTaskNext] = new LongTask(System.currentTimeMillis(), screen, name, millis);
+      longTaskNext = (longTaskNext + 1) % LONG_TASK_COUNT;
+      if (longTaskSize < LONG_TASK_COUNT) longTaskSize++;
+    }
+  }
+
+  public static void startFrameMetrics(Activity activity) {
+    if (!enabled || Build.VERSION.SDK_INT < Build.VERSION_CODES.N) return;
+    stopFrameMetrics(activity);
+    addFrameMetricsListener(activity.getWindow());
+  }
+
+  @RequiresApi(api = Build.VERSION_CODES.N)
+  private static void addFrameMetricsListener(Window window) {
+    if (frameMetricsThread == null) {
+      frameMetricsThread = new HandlerThread("FrameMetrics");
+      frameMetricsThread.start();
+    }
+    OnFrameMetricsAvailableListener listener = (w, frameMetrics, dropCount) -> {
+      long nanos = frameMetrics.getMetric(FrameMetrics.TOTAL_DURATION);
+      addFrame((int) Math.min(nanos / 1_000_000, FRAME_BUCKET_COUNT - 1));
+    };
+    window.addOnFrameMetricsAvailableListener(listener, new Handler(frameMetricsThread.getLooper()));
+    frameMetricsListener = listener;
+  }
+
+  public static void stopFrameMetrics(Activity activity) {
+    if (frameMetricsListener == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.N) return;
+    removeFrameMetricsListener(activity.getWindow());
+    frameMetricsListener = null;
+  }
+
+  @RequiresApi(api = Build.VERSION_CODES.N)
+  private static void removeFrameMetricsListener(Window window) {
+    try {
+      window.removeOnFrameMetricsAvailableListener(
+          (OnFrameMetricsAvailableListener) frameMetricsListener
+      );
+    } catch (IllegalArgumentException ignored) {
+      // listener was registered at another window
+    }
+  }
+
+  private static void addFrame(int millis) {
+    synchronized (frameHistograms) {
+      int[] histogram = frameHistograms.get(screen);
+      if (histogram == null) {
+        histogram = new int[FRAME_BUCKET_COUNT];
+        frameHistograms.put(screen, histogram);
+      }
+      histogram[millis]++;
+    }
+  }
+
+  public static void clear() {
+    synchronized (longTasks) {
+      longTaskNext = 0;
+      longTaskSize = 0;
+    }
+    synchronized (frameHistograms) {
+      frameHistograms.clear();
+    }
+  }
+
+  public static boolean isEmpty() {
+    synchronized (longTasks) {
+      if (longTaskSize > 0) return false;
+    }
+    synchronized (frameHistograms) {
+      return frameHistograms.isEmpty();
+    }
+  }
+
+  public static String getReport() {
+    StringBuilder report = new StringBuilder();
+    synchronized (frameHistograms) {
+      for (Map.Entry<String, int[]> entry : frameHistograms.entrySet()) {
+        int[] histogram = entry.getValue();
+        int count = 0;
+        int slowCount = 0;
+        for (int i = 0; i < histogram.length; i++) {
+          count += histogram[i];
+          if (i > LONG_TASK_MILLIS) slowCount += histogram[i];
+        }
+        report.append(entry.getKey()).append('\n');
+        report.append("  ").append(count).append(" frames, ")
+            .append(slowCount).append(" slower than ").append(LONG_TASK_MILLIS).append(" ms\n");
+        report.append("  p50 ").append(formatFrameMillis(getPercentile(histogram, count, 50)))
+            .append(", p95 ").append(formatFrameMillis(getPercentile(histogram, count, 95)))
+            .append(", p99 ").append(formatFrameMillis(getPercentile(histogram, count, 99)))
+            .append("\n\n");
+      }
+    }
+    List<LongTask> tasks = new ArrayList<>();
+    synchronized (longTasks) {
+      // newest task first
+      for (int i = 1; i <= longTaskSize; i++) {
+        tasks.add(longTasks[(longTaskNext - i + LONG_TASK_COUNT) % LONG_TASK_COUNT]);
+      }
+    }
+    if (!tasks.isEmpty()) {
+      report.append("Long main thread tasks\n");
+      SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss.SSS", Locale.ENGLISH);
+      for (LongTask task : tasks) {
+        report.append("  ").append(dateFormat.format(new Date(task.time))).append(' ')
+            .append(task.millis).append(" ms ").append(task.name)
+            .append(" (").append(task.screen).append(")\n");
+      }
+    }
+    return report.toString().trim();
+  }
+
+  private static int getPercentile(int[] histogram, int count, int percentile) {
+    int rank = (int) Math.ceil(percentile / 100.0 * count);
+    int seen = 0;
+    for (int i = 0; i < histogram.length; i++) {
+      seen += histogram[i];
+      if (seen >= rank) return i;
+    }
+    return histogram.length - 1;
+  }
+
+  private static String formatFrameMillis(int millis) {
+    return (millis == FRAME_BUCKET_COUNT - 1 ? ">=" : "") + millis + " ms";
+  }
+
+  private static class LongTask {
+
+    private final long time;
+    private final String screen;
+    private final String name;
+    private final long millis;
+
+    LongTask(long time, String screen, String name, long millis) {
+      this.time = time;
+      this.screen = screen;
+      this.name = name;
+      this.millis = millis;
+    }
+  }
+}
@@ -37,7 +37,6 @@ import android.os.Build.VERSION_CODES;
 import android.os.Handler;
 import android.os.Looper;
 import android.provider.Settings.Global;
-import android.util.Log;
 import android.util.TypedValue;
 import android.view.Display;
 import android.view.Menu;
@@ -120,17 +119,17 @@ public class UiUtil {
         if (objectBottomAppBar != null && objectBottomAppBar.getClass().getSuperclass() != null) {
           fieldBottomInset = objectBottomAppBar.getClass().getDeclaredField("bottomInset");
         } else {
-          Log.e(TAG, "onCreate: reflection for bottomInset not working");
+          LogUtil.e(TAG, "onCreate: reflection for bottomInset not working");
         }
       } catch (NoSuchFieldException e) {
-        Log.e(TAG, "onCreate: ", e);
+        LogUtil.e(TAG, "onCreate: ", e);
       }
       if (fieldBottomInset != null) {
         fieldBottomInset.setAccessible(true);
         try {
           fieldBottomInset.set(objectBottomAppBar, bottomInset);
         } catch (IllegalAccessException e) {
-          Log.e(TAG, "onCreate: ", e);
+          LogUtil.e(TAG, "onCreate: ", e);
         }
       }
       // Calculate initial FAB y position for restoring after shifted by keyboard
@@ -34,7 +34,6 @@ import android.graphics.drawable.shapes.RoundRectShape;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.SystemClock;
-import android.util.Log;
 import android.view.Gravity;
 import android.view.MenuItem;
 import android.view.MotionEvent;
@@ -220,7 +219,7 @@ public class ViewUtil {
     try {
       ((Animatable) drawable).start();
     } catch (ClassCastException e) {
-      Log.e(TAG, "icon animation requires AnimVectorDrawable");
+      LogUtil.e(TAG, "icon animation requires AnimVectorDrawable");
     }
   }
 
@@ -243,7 +242,7 @@ public class ViewUtil {
       imageView.setImageDrawable(null);
       imageView.setImageDrawable((Drawable) animatable);
     } catch (ClassCastException e) {
-      Log.e(TAG, "resetting animated icon requires AnimVectorDrawable");
+      LogUtil.e(TAG, "resetting animated icon requires AnimVectorDrawable");
     }
   }
 
@@ -27,7 +27,6 @@ import android.os.Parcel;
 import android.os.Parcelable;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
-import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
@@ -57,6 +56,7 @@ import androidx.core.view.NestedScrollingParentHelper;
 import androidx.core.view.ViewCompat;
 import androidx.core.widget.ListViewCompat;
 import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 
 public class CustomSwipeRefreshLayout extends ViewGroup implements NestedScrollingParent3,
@@ -758,7 +758,7 @@ public class CustomSwipeRefreshLayout extends ViewGroup implements NestedScrolli
 
       case MotionEvent.ACTION_MOVE:
         if (mActivePointerId == INVALID_POINTER) {
-          Log.e(LOG_TAG, "Got ACTION_MOVE event but don't have an active pointer id.");
+          LogUtil.e(LOG_TAG, "Got ACTION_MOVE event but don't have an active pointer id.");
           return false;
         }
 
@@ -1226,7 +1226,7 @@ public class CustomSwipeRefreshLayout extends ViewGroup implements NestedScrolli
       case MotionEvent.ACTION_MOVE: {
         pointerIndex = ev.findPointerIndex(mActivePointerId);
         if (pointerIndex < 0) {
-          Log.e(LOG_TAG, "Got ACTION_MOVE event but have an invalid active pointer id.");
+          LogUtil.e(LOG_TAG, "Got ACTION_MOVE event but have an invalid active pointer id.");
           return false;
         }
 
@@ -1249,7 +1249,7 @@ public class CustomSwipeRefreshLayout extends ViewGroup implements NestedScrolli
       case MotionEvent.ACTION_POINTER_DOWN: {
         pointerIndex = ev.getActionIndex();
         if (pointerIndex < 0) {
-          Log.e(LOG_TAG,
+          LogUtil.e(LOG_TAG,
               "Got ACTION_POINTER_DOWN event but have an invalid action index.");
           return false;
         }
@@ -1264,7 +1264,7 @@ public class CustomSwipeRefreshLayout extends ViewGroup implements NestedScrolli
       case MotionEvent.ACTION_UP: {
         pointerIndex = ev.findPointerIndex(mActivePointerId);
         if (pointerIndex < 0) {
-          Log.e(LOG_TAG, "Got ACTION_UP event but don't have an active pointer id.");
+          LogUtil.e(LOG_TAG, "Got ACTION_UP event but don't have an active pointer id.");
           return false;
         }
 
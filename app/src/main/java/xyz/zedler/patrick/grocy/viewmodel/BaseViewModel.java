@@ -29,7 +29,6 @@ import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.database.sqlite.SQLiteBlobTooBigException;
 import android.os.Bundle;
-import android.util.Log;
 import android.widget.Button;
 import android.widget.Toast;
 import androidx.annotation.NonNull;
@@ -54,6 +53,7 @@ import xyz.zedler.patrick.grocy.model.BottomSheetEvent;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.SnackbarMessage;
 import xyz.zedler.patrick.grocy.util.LocaleUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 
 public class BaseViewModel extends AndroidViewModel {
@@ -116,13 +116,13 @@ public class BaseViewModel extends AndroidViewModel {
 
   public void onError(Object error, String TAG) {
     if (error instanceof VolleyError) {
-      Log.e(TAG, "onError: VolleyError: " + error);
+      LogUtil.e(TAG, "onError: VolleyError: " + error);
       showNetworkErrorMessage((VolleyError) error);
     } else if (error instanceof JSONException) {
-      Log.e(TAG, "onError: JSONException: " + error);
+      LogUtil.e(TAG, "onError: JSONException: " + error);
       showJSONErrorMessage((JSONException) error);
     } else if (error instanceof Throwable) {
-      Log.e(TAG, "onError: Throwable: " + error);
+      LogUtil.e(TAG, "onError: Throwable: " + error);
       showThrowableErrorMessage((Throwable) error);
     }
   }
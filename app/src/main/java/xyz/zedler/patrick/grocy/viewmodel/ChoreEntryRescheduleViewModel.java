@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
@@ -47,6 +46,7 @@ import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.repository.ChoresRepository;
 import xyz.zedler.patrick.grocy.util.DateUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 
@@ -170,7 +170,7 @@ public class ChoreEntryRescheduleViewModel extends BaseViewModel {
       jsonObject.put("rescheduled_next_execution_assigned_to_user_id", userId);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "rescheduleChore: " + e);
+        LogUtil.e(TAG, "rescheduleChore: " + e);
       }
     }
 
@@ -181,7 +181,7 @@ public class ChoreEntryRescheduleViewModel extends BaseViewModel {
         error -> {
           showErrorMessage();
           if (debug) {
-            Log.e(TAG, "rescheduleChore: " + error);
+            LogUtil.e(TAG, "rescheduleChore: " + error);
           }
         }
     );
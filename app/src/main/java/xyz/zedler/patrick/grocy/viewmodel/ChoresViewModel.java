@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 
 import android.app.Application;
 import android.content.SharedPreferences;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -53,6 +52,7 @@ import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.repository.ChoresRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.DateUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
@@ -259,7 +259,7 @@ public class ChoresViewModel extends BaseViewModel {
       body.put("tracked_time", trackedTime);
     } catch (JSONException e) {
       if (debug) {
-        Log.i(TAG, "executeChore: " + e);
+        LogUtil.i(TAG, "executeChore: " + e);
       }
       showErrorMessage();
       return;
@@ -271,13 +271,13 @@ public class ChoresViewModel extends BaseViewModel {
           showMessage(getApplication().getString(R.string.msg_chore_executed));
           downloadData(false);
           if (debug) {
-            Log.i(TAG, "executeChore: " + response);
+            LogUtil.i(TAG, "executeChore: " + response);
           }
         },
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "executeChore: " + error);
+            LogUtil.i(TAG, "executeChore: " + error);
           }
           downloadData(false);
         }
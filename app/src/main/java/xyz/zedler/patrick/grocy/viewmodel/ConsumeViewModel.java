@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
@@ -65,6 +64,7 @@ import xyz.zedler.patrick.grocy.repository.InventoryRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -84,6 +84,7 @@ public class ConsumeViewModel extends BaseViewModel {
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
   private List<ProductBarcode> barcodes;
+  private HashMap<String, ProductBarcode> barcodeHashMap;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
 
   private final MutableLiveData<Boolean> isLoadingLive;
@@ -125,6 +126,7 @@ public class ConsumeViewModel extends BaseViewModel {
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
     barcodes = new ArrayList<>();
+    barcodeHashMap = new HashMap<>();
   }
 
   public FormDataConsume getFormData() {
@@ -135,6 +137,7 @@ public class ConsumeViewModel extends BaseViewModel {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
       this.barcodes = data.getBarcodes();
+      barcodeHashMap = ArrayUtil.getBarcodeHashMap(barcodes);
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
       formData.getProductsLive().setValue(Product.getActiveProductsOnly(products));
@@ -309,7 +312,7 @@ public class ConsumeViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeHashMap.get(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -332,7 +335,7 @@ public class ConsumeViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeHashMap.get(barcode);
       product = productBarcode != null
           ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
     }
@@ -430,10 +433,10 @@ public class ConsumeViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug)
-              Log.e(TAG, "consumeProduct: " + e);
+              LogUtil.e(TAG, "consumeProduct: " + e);
           }
           if (debug)
-            Log.i(TAG, "consumeProduct: transaction successful");
+            LogUtil.i(TAG, "consumeProduct: transaction successful");
 
           SnackbarMessage snackbarMessage = new SnackbarMessage(
               formData.getTransactionSuccessMsg(isActionOpen, amountConsumed)
@@ -454,7 +457,7 @@ public class ConsumeViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "consumeProduct: " + error);
+            LogUtil.i(TAG, "consumeProduct: " + error);
           }
         }
     );
@@ -466,7 +469,7 @@ public class ConsumeViewModel extends BaseViewModel {
         success -> {
           showMessage(getString(R.string.msg_undone_transaction));
           if (debug) {
-            Log.i(TAG, "undoTransaction: undone");
+            LogUtil.i(TAG, "undoTransaction: undone");
           }
         },
         this::showNetworkErrorMessage
@@ -479,6 +482,7 @@ public class ConsumeViewModel extends BaseViewModel {
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
       barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      ArrayUtil.addToBarcodeHashMap(barcodeHashMap, productBarcode);
       if (onSuccess != null) {
         onSuccess.run();
       }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
@@ -66,6 +65,7 @@ import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -85,6 +85,7 @@ public class InventoryViewModel extends BaseViewModel {
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
   private List<ProductBarcode> barcodes;
+  private HashMap<String, ProductBarcode> barcodeHashMap;
   private List<Store> stores;
   private List<Location> locations;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
@@ -131,6 +132,7 @@ public class InventoryViewModel extends BaseViewModel {
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
     barcodes = new ArrayList<>();
+    barcodeHashMap = new HashMap<>();
   }
 
   public FormDataInventory getFormData() {
@@ -141,6 +143,7 @@ public class InventoryViewModel extends BaseViewModel {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
       this.barcodes = data.getBarcodes();
+      barcodeHashMap = ArrayUtil.getBarcodeHashMap(barcodes);
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
       this.stores = data.getStores();
@@ -274,7 +277,7 @@ public class InventoryViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeHashMap.get(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -295,7 +298,7 @@ public class InventoryViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeHashMap.get(barcode);
       product = productBarcode != null
           ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
     }
@@ -387,10 +390,10 @@ public class InventoryViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug)
-              Log.e(TAG, "inventoryProduct: " + e);
+              LogUtil.e(TAG, "inventoryProduct: " + e);
           }
           if (debug)
-            Log.i(TAG, "inventoryProduct: transaction successful");
+            LogUtil.i(TAG, "inventoryProduct: transaction successful");
 
           SnackbarMessage snackbarMessage = new SnackbarMessage(
               formData.getTransactionSuccessMsg(amountDiff)
@@ -411,7 +414,7 @@ public class InventoryViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
             if (debug) {
-                Log.i(TAG, "inventoryProduct: " + error);
+                LogUtil.i(TAG, "inventoryProduct: " + error);
             }
         }
     );
@@ -423,7 +426,7 @@ public class InventoryViewModel extends BaseViewModel {
         success -> {
           showMessage(getString(R.string.msg_undone_transaction));
             if (debug) {
-                Log.i(TAG, "undoTransaction: undone");
+                LogUtil.i(TAG, "undoTransaction: undone");
             }
         },
         this::showNetworkErrorMessage
@@ -441,6 +444,7 @@ public class InventoryViewModel extends BaseViewModel {
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
       barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      ArrayUtil.addToBarcodeHashMap(barcodeHashMap, productBarcode);
         if (onSuccess != null) {
             onSuccess.run();
         }
@@ -25,7 +25,6 @@ import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -56,7 +55,9 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.util.ConfigUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.util.ServerUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
 public class LoginRequestViewModel extends BaseViewModel {
@@ -151,7 +152,7 @@ public class LoginRequestViewModel extends BaseViewModel {
               return;
             }
           } catch (JSONException e) {
-            Log.e(TAG, "requestLogin: " + e);
+            LogUtil.e(TAG, "requestLogin: " + e);
             appendHassLog(" Error.\nFailed to parse system info response.\n");
             loginErrorOccurred.setValue(true);
             loginErrorMsg.setValue(getString(R.string.error_not_grocy_instance));
@@ -159,7 +160,7 @@ public class LoginRequestViewModel extends BaseViewModel {
           }
 
           if (debug) {
-            Log.i(TAG, "requestLogin: successfully logged in");
+            LogUtil.i(TAG, "requestLogin: successfully logged in");
           }
           sharedPrefs.edit()
               .putString(Constants.PREF.SERVER_URL, serverUrl)
@@ -182,21 +183,11 @@ public class LoginRequestViewModel extends BaseViewModel {
                 ).putString(Constants.PREF.API_KEY, apiKey)
                 .apply();
           }
-          // TODO: Feature needs migrations for database
-          /*Server server = new Server();
-          server.setGrocyServerUrl(serverUrl);
-          server.setGrocyApiKey(apiKey);
-          server.setHomeAssistantServerUrl(homeAssistantServerUrl);
-          server.setHomeAssistantToken(homeAssistantLongLivedToken);
-          appDatabase.serverDao().insertServer(server)
-              .subscribeOn(Schedulers.io())
-              .observeOn(AndroidSchedulers.mainThread())
-              .doFinally(this::loadInfoAndFinish)
-              .subscribe();*/
+          ServerUtil.registerActiveServer(sharedPrefs);
           loadInfoAndFinish();
         },
         error -> {
-          Log.e(TAG, "requestLogin: VolleyError: " + error);
+          LogUtil.e(TAG, "requestLogin: VolleyError: " + error);
           loginErrorOccurred.setValue(true);
           if (error instanceof AuthFailureError) {
             loginErrorExactMsg.setValue(error.toString());
@@ -292,7 +283,7 @@ public class LoginRequestViewModel extends BaseViewModel {
 
       @Override
       public void onTextReceived(String message) {
-        if (debug) Log.i(TAG, "createWebSocketClient: onTextReceived: " + message);
+        if (debug) LogUtil.i(TAG, "createWebSocketClient: onTextReceived: " + message);
         if (message.contains("auth_required")) {
           appendHassLog("Received auth_required message. Sending HA token...");
           try {
@@ -302,7 +293,7 @@ public class LoginRequestViewModel extends BaseViewModel {
             webSocketClient.send(jsonObject.toString());
             appendHassLog(" Done.\n");
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
             appendHassLog("Error: " + e + "\n");
           }
         } else if (message.contains("auth_ok")) {
@@ -316,7 +307,7 @@ public class LoginRequestViewModel extends BaseViewModel {
             webSocketClient.send(jsonObject.toString());
             appendHassLog(" Done.\n");
           } catch (JSONException e) {
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
             appendHassLog("Error: " + e + "\n");
           }
         } else if (message.contains("auth_invalid")) {
@@ -336,11 +327,11 @@ public class LoginRequestViewModel extends BaseViewModel {
               new Handler(getApplication().getMainLooper()).post(() -> login(true));
             } else {
               appendHassLog(" Error: " + message + "\n");
-              Log.e(TAG, "createWebSocketClient: onTextReceived: " + message);
+              LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + message);
             }
           } catch (JSONException e) {
             appendHassLog(" Error: " + e + "\n");
-            Log.e(TAG, "createWebSocketClient: onTextReceived: " + e);
+            LogUtil.e(TAG, "createWebSocketClient: onTextReceived: " + e);
           }
         }
       }
@@ -348,13 +339,13 @@ public class LoginRequestViewModel extends BaseViewModel {
       @Override
       public void onException(Exception e) {
         appendHassLog("Error: " + e + "\n");
-        Log.e(TAG, "createWebSocketClient: onException: " + e.getMessage());
+        LogUtil.e(TAG, "createWebSocketClient: onException: " + e.getMessage());
       }
 
       @Override
       public void onCloseReceived(int reason, String description) {
         appendHassLog("Connection was closed.");
-        if (debug) Log.i(TAG, "createWebSocketClient: onCloseReceived: " + description);
+        if (debug) LogUtil.i(TAG, "createWebSocketClient: onCloseReceived: " + description);
         new Handler().postDelayed(() -> {
           appendHassLog(" Reconnecting...\n");
           webSocketClient.connect();
@@ -460,7 +451,7 @@ public class LoginRequestViewModel extends BaseViewModel {
             uuid,
             response -> {
               if (dlHelper.debug) {
-                Log.i(dlHelper.tag, "get systemInfo: " + response);
+                LogUtil.i(dlHelper.tag, "get systemInfo: " + response);
               }
               if (onResponseListener != null) {
                 onResponseListener.onResponse(response);
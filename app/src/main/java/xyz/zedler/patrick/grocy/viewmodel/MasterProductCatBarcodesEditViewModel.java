@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
@@ -53,6 +52,7 @@ import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.repository.MasterProductRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -166,7 +166,7 @@ public class MasterProductCatBarcodesEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveItem: " + error);
+              LogUtil.e(TAG, "saveItem: " + error);
             }
           }
       );
@@ -178,7 +178,7 @@ public class MasterProductCatBarcodesEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveItem: " + error);
+              LogUtil.e(TAG, "saveItem: " + error);
             }
           }
       );
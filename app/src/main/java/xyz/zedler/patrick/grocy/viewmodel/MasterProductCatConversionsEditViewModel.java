@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
@@ -46,6 +45,7 @@ import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
 import xyz.zedler.patrick.grocy.repository.MasterProductRepository;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 
@@ -149,7 +149,7 @@ public class MasterProductCatConversionsEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveItem: " + error);
+              LogUtil.e(TAG, "saveItem: " + error);
             }
           }
       );
@@ -161,7 +161,7 @@ public class MasterProductCatConversionsEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveItem: " + error);
+              LogUtil.e(TAG, "saveItem: " + error);
             }
           }
       );
@@ -73,6 +73,7 @@ public class MasterProductCatOptionalViewModel extends BaseViewModel {
   private final MasterProductCatOptionalFragmentArgs args;
 
   private final MutableLiveData<Boolean> isLoadingLive;
+  private final MutableLiveData<Integer> uploadProgressLive; // percent, null without upload
   private final MutableLiveData<InfoFullscreen> infoFullscreenLive;
 
   private List<Product> products;
@@ -90,6 +91,7 @@ public class MasterProductCatOptionalViewModel extends BaseViewModel {
     super(application);
 
     isLoadingLive = new MutableLiveData<>(false);
+    uploadProgressLive = new MutableLiveData<>();
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(application);
     repository = new MasterProductRepository(application);
@@ -226,29 +228,44 @@ public class MasterProductCatOptionalViewModel extends BaseViewModel {
       Bitmap scaledBitmap = filePath != null
           ? PictureUtil.scaleBitmap(filePath)
           : PictureUtil.scaleBitmap(image);
-      byte[] imageArray = PictureUtil.convertBitmapToByteArray(scaledBitmap);
+      File pictureFile;
+      try {
+        pictureFile = File.createTempFile("upload", ".jpg", getApplication().getCacheDir());
+      } catch (IOException e) {
+        pictureFile = null;
+      }
+      if (pictureFile != null && !PictureUtil.writeBitmapToFile(scaledBitmap, pictureFile)) {
+        pictureFile.delete();
+        pictureFile = null;
+      }
+      if (scaledBitmap != null && scaledBitmap != image) scaledBitmap.recycle();
+      File uploadFile = pictureFile;
       new Handler(Looper.getMainLooper()).post(() -> {
-        uploadPicture(imageArray);
+        uploadPicture(uploadFile);
         executor.shutdown();
       });
     });
   }
 
-  public void uploadPicture(byte[] pictureData) {
-    if (pictureData == null) {
+  public void uploadPicture(@Nullable File pictureFile) {
+    if (pictureFile == null) {
       showErrorMessage();
       isLoadingLive.setValue(false);
       return;
     }
     String filename = PictureUtil.createImageFilename();
+    uploadProgressLive.setValue(0);
     dlHelper.putFile(
         grocyApi.getProductPicture(filename),
-        pictureData,
+        pictureFile,
+        uploadProgressLive::setValue,
         () -> {
+          uploadProgressLive.setValue(null);
           deleteCurrentPicture(filename);
           formData.getPictureFilenameLive().setValue(filename);
         },
         error -> {
+          uploadProgressLive.setValue(null);
           isLoadingLive.setValue(false);
           showNetworkErrorMessage(error);
         }
@@ -307,6 +324,10 @@ public class MasterProductCatOptionalViewModel extends BaseViewModel {
     return isLoadingLive;
   }
 
+  public MutableLiveData<Integer> getUploadProgressLive() {
+    return uploadProgressLive;
+  }
+
   @NonNull
   public MutableLiveData<InfoFullscreen> getInfoFullscreenLive() {
     return infoFullscreenLive;
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -48,6 +47,7 @@ import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.ProductDetails;
 import xyz.zedler.patrick.grocy.repository.MasterProductRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
@@ -262,7 +262,7 @@ public class MasterProductViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveProduct: " + error);
+              LogUtil.e(TAG, "saveProduct: " + error);
             }
           }
       );
@@ -274,10 +274,10 @@ public class MasterProductViewModel extends BaseViewModel {
             int objectId = -1;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveProduct: " + objectId);
+              LogUtil.i(TAG, "saveProduct: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveProduct: " + e);
+                LogUtil.e(TAG, "saveProduct: " + e);
               }
             }
             if (withClosing) {
@@ -300,7 +300,7 @@ public class MasterProductViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveProduct: " + error);
+              LogUtil.e(TAG, "saveProduct: " + error);
             }
           }
       );
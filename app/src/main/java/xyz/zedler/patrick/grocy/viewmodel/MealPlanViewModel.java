@@ -31,7 +31,11 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
@@ -50,6 +54,7 @@ import xyz.zedler.patrick.grocy.model.ProductLastPurchased;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
+import xyz.zedler.patrick.grocy.model.RecipePositionResolved;
 import xyz.zedler.patrick.grocy.model.StockItem;
 import xyz.zedler.patrick.grocy.model.Userfield;
 import xyz.zedler.patrick.grocy.repository.MealPlanRepository;
@@ -58,6 +63,7 @@ import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.util.RecipeFulfillmentUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
@@ -74,6 +80,9 @@ public class MealPlanViewModel extends BaseViewModel {
   public final static String FIELD_AMOUNT = "field_amount";
   public final static String FIELD_DAY_SUMMARY = "field_day_summary";
 
+  // weeks which are loaded before and after the selected week
+  private final static int WINDOW_WEEKS = 2;
+
   private final SharedPreferences sharedPrefs;
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
@@ -93,6 +102,10 @@ public class MealPlanViewModel extends BaseViewModel {
   private final MutableLiveData<HashMap<String, List<MealPlanEntry>>> mealPlanEntriesLive;
 
   private List<MealPlanEntry> mealPlanEntries;
+  private LocalDate loadedWeekStart;
+  private boolean fullLoadPending;
+  private boolean downloadAfterLoading;
+  private List<StockItem> stockItems;
   private List<MealPlanSection> mealPlanSections;
   private List<Recipe> shadowRecipes;
   private HashMap<Integer, Recipe> recipeHashMap;
@@ -159,34 +172,115 @@ public class MealPlanViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
-      quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
-      productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
-      productLastPurchasedHashMap = ArrayUtil
-          .getProductLastPurchasedHashMap(data.getProductsLastPurchased());
-      shadowRecipes = ArrayUtil.getShadowRecipes(data.getRecipes());
-      recipeHashMap = ArrayUtil.getRecipesHashMap(data.getRecipes());
-      recipeResolvedFulfillmentHashMap = ArrayUtil.getRecipeResolvedFulfillmentForMealplanHashMap(
-          ArrayUtil.getRecipeFulfillmentHashMap(data.getRecipeFulfillments()), data.getRecipes()
-      );
-      weekCostsTextLive.setValue(getWeekCostsText());
-      stockItemHashMap = ArrayUtil.getStockItemHashMap(data.getStockItems());
-      userfieldHashMap = ArrayUtil.getUserfieldHashMap(data.getUserfields());
-      this.mealPlanSections = data.getMealPlanSections();
-      SortUtil.sortMealPlanSections(this.mealPlanSections);
-      this.mealPlanEntries = data.getMealPlanEntries();
-      mealPlanEntriesLive.setValue(ArrayUtil.getMealPlanEntriesForDayHashMap(
-          data.getMealPlanEntries()
-      ));
-      filterChipLiveDataEntriesFields.setUserfields(
-          data.getUserfields(),
-          DISPLAYED_USERFIELD_ENTITIES
-      );
-
-      if (downloadAfterLoading) {
-        downloadData(false);
-      }
-    }, error -> onError(error, TAG));
+    // a load which is replaced by a newer one for another week still has to download
+    this.downloadAfterLoading |= downloadAfterLoading;
+    fullLoadPending = true;
+    // only a window around the selected week is loaded, see loadFromDatabaseIfWeekChanged
+    LocalDate weekStart = getSelectedWeekStart();
+    LocalDate windowStart = weekStart.minusWeeks(WINDOW_WEEKS);
+    LocalDate windowEnd = weekStart.plusWeeks(WINDOW_WEEKS + 1);
+    loadedWeekStart = weekStart;
+    repository.loadFromDatabase(
+        windowStart.format(dateFormatter),
+        windowEnd.format(dateFormatter),
+        getWeekNames(windowStart, windowEnd),
+        data -> {
+          // a newer load for another week was started in the meantime
+          if (!weekStart.equals(loadedWeekStart)) return;
+          fullLoadPending = false;
+          quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
+          productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
+          productLastPurchasedHashMap = ArrayUtil
+              .getProductLastPurchasedHashMap(data.getProductsLastPurchased());
+          stockItems = data.getStockItems();
+          stockItemHashMap = ArrayUtil.getStockItemHashMap(data.getStockItems());
+          userfieldHashMap = ArrayUtil.getUserfieldHashMap(data.getUserfields());
+          this.mealPlanSections = data.getMealPlanSections();
+          SortUtil.sortMealPlanSections(this.mealPlanSections);
+          setWindowData(
+              data.getRecipes(),
+              data.getRecipeFulfillments(),
+              data.getRecipePositionsResolved(),
+              data.getMealPlanEntries()
+          );
+          filterChipLiveDataEntriesFields.setUserfields(
+              data.getUserfields(),
+              DISPLAYED_USERFIELD_ENTITIES
+          );
+
+          if (this.downloadAfterLoading) {
+            this.downloadAfterLoading = false;
+            downloadData(false);
+          }
+        },
+        error -> onError(error, TAG)
+    );
+  }
+
+  /**
+   * Moves the loaded window if the selected week or one of its neighbours, which the pager shows
+   * while swiping, is not in it anymore. Only the entries and their recipes are loaded again.
+   */
+  public void loadFromDatabaseIfWeekChanged() {
+    if (loadedWeekStart == null) return;
+    LocalDate weekStart = getSelectedWeekStart();
+    long weeksFromLoaded = ChronoUnit.WEEKS.between(loadedWeekStart, weekStart);
+    if (Math.abs(weeksFromLoaded) < WINDOW_WEEKS) return;
+    if (fullLoadPending) {
+      // the master data of the pending load would be dropped with its result
+      loadFromDatabase(false);
+      return;
+    }
+    LocalDate windowStart = weekStart.minusWeeks(WINDOW_WEEKS);
+    LocalDate windowEnd = weekStart.plusWeeks(WINDOW_WEEKS + 1);
+    loadedWeekStart = weekStart;
+    repository.loadWindowFromDatabase(
+        windowStart.format(dateFormatter),
+        windowEnd.format(dateFormatter),
+        getWeekNames(windowStart, windowEnd),
+        data -> {
+          if (!weekStart.equals(loadedWeekStart)) return;
+          setWindowData(
+              data.getRecipes(),
+              data.getRecipeFulfillments(),
+              data.getRecipePositionsResolved(),
+              data.getMealPlanEntries()
+          );
+        },
+        error -> onError(error, TAG)
+    );
+  }
+
+  private void setWindowData(
+      List<Recipe> recipes,
+      List<RecipeFulfillment> recipeFulfillments,
+      List<RecipePositionResolved> recipePositionsResolved,
+      List<MealPlanEntry> mealPlanEntries
+  ) {
+    shadowRecipes = ArrayUtil.getShadowRecipes(recipes);
+    recipeHashMap = ArrayUtil.getRecipesHashMap(recipes);
+    recipeResolvedFulfillmentHashMap = ArrayUtil.getRecipeResolvedFulfillmentForMealplanHashMap(
+        ArrayUtil.getRecipeFulfillmentHashMap(RecipeFulfillmentUtil.getFulfillmentsWithCurrentStock(
+            recipeFulfillments,
+            recipePositionsResolved,
+            stockItems
+        )), recipes
+    );
+    weekCostsTextLive.setValue(getWeekCostsText());
+    this.mealPlanEntries = mealPlanEntries;
+    mealPlanEntriesLive.setValue(ArrayUtil.getMealPlanEntriesForDayHashMap(mealPlanEntries));
+  }
+
+  private List<String> getWeekNames(LocalDate windowStart, LocalDate windowEnd) {
+    HashSet<String> weekNames = new HashSet<>();
+    for (LocalDate date = windowStart; date.isBefore(windowEnd); date = date.plusDays(1)) {
+      weekNames.add(date.format(weekFormatter));
+    }
+    return new ArrayList<>(weekNames);
+  }
+
+  private LocalDate getSelectedWeekStart() {
+    return getSelectedDate().with(TemporalAdjusters.previousOrSame(getFirstDayOfWeek()));
   }
 
   public void downloadData(boolean forceUpdate) {
@@ -206,6 +300,7 @@ public class MealPlanViewModel extends BaseViewModel {
         MealPlanSection.class,
         Recipe.class,
         RecipeFulfillment.class,
+        RecipePositionResolved.class,
         Product.class,
         StockItem.class,
         Userfield.class
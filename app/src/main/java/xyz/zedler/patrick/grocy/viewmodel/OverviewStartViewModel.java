@@ -28,8 +28,6 @@ import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.Transformations;
 import androidx.preference.PreferenceManager;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
@@ -38,7 +36,7 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
-import xyz.zedler.patrick.grocy.model.MissingItem;
+import xyz.zedler.patrick.grocy.model.OverviewStartAggregates;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
@@ -48,8 +46,7 @@ import xyz.zedler.patrick.grocy.model.Task;
 import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.model.VolatileItem;
 import xyz.zedler.patrick.grocy.repository.OverviewStartRepository;
-import xyz.zedler.patrick.grocy.util.ArrayUtil;
-import xyz.zedler.patrick.grocy.util.DateUtil;
+import xyz.zedler.patrick.grocy.util.DueDateIndex;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 
 public class OverviewStartViewModel extends BaseViewModel {
@@ -61,12 +58,11 @@ public class OverviewStartViewModel extends BaseViewModel {
   private final OverviewStartRepository repository;
 
   private final MutableLiveData<Boolean> isLoadingLive;
-  private final MutableLiveData<List<StockItem>> stockItemsLive;
-  private final MutableLiveData<List<ShoppingListItem>> shoppingListItemsLive;
-  private final MutableLiveData<List<Product>> productsLive;
-  private final MutableLiveData<List<Recipe>> recipesLive;
-  private final MutableLiveData<List<Task>> tasksLive;
-  private final MutableLiveData<List<ChoreEntry>> choreEntriesLive;
+  private final MutableLiveData<Integer> shoppingListItemsCountLive;
+  private final MutableLiveData<Integer> productsCountLive;
+  private final MutableLiveData<Integer> recipesCountLive;
+  private final MutableLiveData<Integer> tasksUndoneCountLive;
+  private final MutableLiveData<Integer> tasksAssignedCountLive;
   private final MutableLiveData<Integer> itemsDueNextCountLive;
   private final MutableLiveData<Integer> itemsOverdueCountLive;
   private final MutableLiveData<Integer> itemsExpiredCountLive;
@@ -111,7 +107,6 @@ public class OverviewStartViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     repository = new OverviewStartRepository(application);
 
-    stockItemsLive = new MutableLiveData<>();
     itemsDueNextCountLive = new MutableLiveData<>();
     itemsOverdueCountLive = new MutableLiveData<>();
     itemsExpiredCountLive = new MutableLiveData<>();
@@ -120,15 +115,15 @@ public class OverviewStartViewModel extends BaseViewModel {
     itemsInStockCountLive = new MutableLiveData<>();
     stockValueLive = new MutableLiveData<>();
     storedPurchasesOnDevice = new MutableLiveData<>(false);
-    shoppingListItemsLive = new MutableLiveData<>();
-    productsLive = new MutableLiveData<>();
-    recipesLive = new MutableLiveData<>();
+    shoppingListItemsCountLive = new MutableLiveData<>();
+    productsCountLive = new MutableLiveData<>();
+    recipesCountLive = new MutableLiveData<>();
     choresDueTodayCountLive = new MutableLiveData<>();
     choresDueSoonCountLive = new MutableLiveData<>();
     choresAssignedCountLive = new MutableLiveData<>();
     choresOverdueCountLive = new MutableLiveData<>();
-    choreEntriesLive = new MutableLiveData<>();
-    tasksLive = new MutableLiveData<>();
+    tasksUndoneCountLive = new MutableLiveData<>();
+    tasksAssignedCountLive = new MutableLiveData<>();
     currentUserIdLive = new MutableLiveData<>(sharedPrefs.getInt(PREF.CURRENT_USER_ID, 1));
     alreadyLoadedFromDatabase = false;
 
@@ -247,12 +242,11 @@ public class OverviewStartViewModel extends BaseViewModel {
         }
     );
     shoppingListDescriptionTextLive = Transformations.map(
-        shoppingListItemsLive,
-        shoppingListItems -> {
-          if (shoppingListItems == null) {
+        shoppingListItemsCountLive,
+        size -> {
+          if (size == null) {
             return null;
           }
-          int size = shoppingListItems.size();
           if (shoppingLists == null || shoppingLists.size() > 1) {
             return getResources().getQuantityString(
                 R.plurals.description_overview_shopping_list_multi, size, size
@@ -265,12 +259,11 @@ public class OverviewStartViewModel extends BaseViewModel {
         }
     );
     recipesDescriptionTextLive = Transformations.map(
-        recipesLive,
-        recipes -> {
-          if (recipes == null) {
+        recipesCountLive,
+        size -> {
+          if (size == null) {
             return null;
           }
-          int size = recipes.size();
           return getResources().getQuantityString(
               R.plurals.description_overview_recipes, size, size
           );
@@ -335,36 +328,31 @@ public class OverviewStartViewModel extends BaseViewModel {
         }
     );
     tasksDescriptionTextLive = Transformations.map(
-        tasksLive,
-        tasks -> {
-          if (tasks == null) {
+        tasksUndoneCountLive,
+        undoneTasksCount -> {
+          if (undoneTasksCount == null) {
             return null;
           }
-          int undoneTasksCount = Task.getUndoneTasksCount(tasks);
           return getResources().getQuantityString(
               R.plurals.description_overview_tasks, undoneTasksCount, undoneTasksCount
           );
         }
     );
     tasksUserDescriptionTextLive = Transformations.map(
-        tasksLive,
-        tasks -> {
-          if (tasks == null) return null;
-          int currentUserId = currentUserIdLive.getValue() != null ? currentUserIdLive.getValue() : 1;
-          int assignedTasksCount = Task
-              .getAssignedTasksCount(Task.getUndoneTasksOnly(tasks), currentUserId);
+        tasksAssignedCountLive,
+        assignedTasksCount -> {
+          if (assignedTasksCount == null) return null;
           return getResources().getQuantityString(
               R.plurals.description_overview_tasks_user, assignedTasksCount, assignedTasksCount
           );
         }
     );
     masterDataDescriptionTextLive = Transformations.map(
-        productsLive,
-        products -> {
-          if (products == null) {
+        productsCountLive,
+        size -> {
+          if (size == null) {
             return null;
           }
-          int size = products.size();
           return getResources().getQuantityString(
               R.plurals.description_overview_master_data, size, size
           );
@@ -373,113 +361,30 @@ public class OverviewStartViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    int currentUserId = currentUserIdLive.getValue() != null ? currentUserIdLive.getValue() : 1;
+    int dueSoonDays = DueDateIndex.getDueSoonDays(sharedPrefs);
+    repository.loadFromDatabase(currentUserId, dueSoonDays, data -> {
       this.shoppingLists = data.getShoppingLists();
-      this.stockItemsLive.setValue(data.getStockItems());
-      this.shoppingListItemsLive.setValue(data.getShoppingListItems());
-      this.productsLive.setValue(data.getProducts());
-      HashMap<Integer, Product> productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
-      this.storedPurchasesOnDevice.setValue(data.getStoredPurchases().size() > 0);
-      this.recipesLive.setValue(ArrayUtil.getRecipesWithoutShadowRecipes(data.getRecipes()));
-      this.choreEntriesLive.setValue(data.getChoreEntries());
-      this.tasksLive.setValue(data.getTasks());
-
-      ArrayList<Integer> shoppingListItemsProductIds = new ArrayList<>();
-      for (ShoppingListItem item : data.getShoppingListItems()) {
-        if (!item.hasProduct()) {
-          continue;
-        }
-        shoppingListItemsProductIds.add(item.getProductIdInt());
-      }
-
-      int itemsDueCount = 0;
-      int itemsOverdueCount = 0;
-      int itemsExpiredCount = 0;
-      HashMap<Integer, StockItem> stockItemHashMap = ArrayUtil
-          .getStockItemHashMap(data.getStockItems());
-      for (VolatileItem volatileItem : data.getVolatileItems()) {
-        StockItem stockItem = stockItemHashMap.get(volatileItem.getProductId());
-        if (stockItem == null) {
-          continue;
-        }
-        if (volatileItem.getVolatileType() == VolatileItem.TYPE_DUE) {
-          stockItem.setItemDue(true);
-          itemsDueCount++;
-        } else if (volatileItem.getVolatileType() == VolatileItem.TYPE_OVERDUE) {
-          stockItem.setItemOverdue(true);
-          itemsOverdueCount++;
-        } else if (volatileItem.getVolatileType() == VolatileItem.TYPE_EXPIRED) {
-          stockItem.setItemExpired(true);
-          itemsExpiredCount++;
-        }
-      }
-      int itemsMissingCount = 0;
-      int missingItemsOnShoppingListCount = 0;
-      for (MissingItem missingItem : data.getMissingItems()) {
-        itemsMissingCount++;
-        StockItem stockItem = stockItemHashMap.get(missingItem.getId());
-        if (stockItem == null && !missingItem.getIsPartlyInStockBoolean()) {
-          StockItem stockItemMissing = new StockItem(missingItem);
-          if (stockItemsLive.getValue() != null) {
-            stockItemsLive.getValue().add(stockItemMissing);
-          }
-        } else if (stockItem != null) {
-          stockItem.setItemMissing(true);
-          stockItem.setItemMissingAndPartlyInStock(missingItem.getIsPartlyInStockBoolean());
-        }
-        if (shoppingListItemsProductIds.contains(missingItem.getId())) {
-          missingItemsOnShoppingListCount++;
-        }
-      }
-      int itemsInStockCount = 0;
-      double stockValue = 0;
-      for (StockItem stockItem : data.getStockItems()) {
-        Product product = productHashMap.get(stockItem.getProductId());
-        if (product != null && product.getHideOnStockOverviewBoolean()) continue;
-        if (!stockItem.isItemMissing() || stockItem.isItemMissingAndPartlyInStock()) {
-          itemsInStockCount++;
-          stockValue += stockItem.getValueDouble();
-        }
-      }
-
-      itemsDueNextCountLive.setValue(itemsDueCount);
-      itemsOverdueCountLive.setValue(itemsOverdueCount);
-      itemsExpiredCountLive.setValue(itemsExpiredCount);
-      itemsMissingCountLive.setValue(itemsMissingCount);
-      itemsInStockCountLive.setValue(itemsInStockCount);
-      itemsMissingShoppingListCountLive.setValue(missingItemsOnShoppingListCount);
-      stockValueLive.setValue(stockValue);
-
-      int choresDueTodayCount = 0;
-      int choresDueSoonCount = 0;
-      int choresOverdueCount = 0;
-      int choresAssignedCount = 0;
-      for (ChoreEntry choreEntry : data.getChoreEntries()) {
-        if (NumUtil.isStringInt(choreEntry.getNextExecutionAssignedToUserId())
-            && currentUserIdLive.getValue() != null && currentUserIdLive.getValue()
-            == Integer.parseInt(choreEntry.getNextExecutionAssignedToUserId())) {
-          choresAssignedCount++;
-        }
-        if (choreEntry.getNextEstimatedExecutionTime() == null
-            || choreEntry.getNextEstimatedExecutionTime().isEmpty()) {
-          continue;
-        }
-        int daysFromNow = DateUtil
-            .getDaysFromNow(choreEntry.getNextEstimatedExecutionTime());
-        if (daysFromNow < 0) {
-          choresOverdueCount++;
-        }
-        if (daysFromNow == 0) {
-          choresDueTodayCount++;
-        }
-        if (daysFromNow >= 0 && daysFromNow <= 5) {
-          choresDueSoonCount++;
-        }
-      }
-      choresAssignedCountLive.setValue(choresAssignedCount);
-      choresOverdueCountLive.setValue(choresOverdueCount);
-      choresDueSoonCountLive.setValue(choresDueSoonCount);
-      choresDueTodayCountLive.setValue(choresDueTodayCount);
+      OverviewStartAggregates aggregates = data.getAggregates();
+      shoppingListItemsCountLive.setValue(aggregates.getShoppingListItemsCount());
+      productsCountLive.setValue(aggregates.getProductsCount());
+      storedPurchasesOnDevice.setValue(aggregates.isStoredPurchasesOnDevice());
+      recipesCountLive.setValue(aggregates.getRecipesCount());
+      tasksUndoneCountLive.setValue(aggregates.getTasksUndoneCount());
+      tasksAssignedCountLive.setValue(aggregates.getTasksAssignedCount());
+
+      itemsDueNextCountLive.setValue(aggregates.getItemsDueCount());
+      itemsOverdueCountLive.setValue(aggregates.getItemsOverdueCount());
+      itemsExpiredCountLive.setValue(aggregates.getItemsExpiredCount());
+      itemsMissingCountLive.setValue(aggregates.getItemsMissingCount());
+      itemsInStockCountLive.setValue(aggregates.getItemsInStockCount());
+      itemsMissingShoppingListCountLive.setValue(aggregates.getItemsMissingShoppingListCount());
+      stockValueLive.setValue(aggregates.getStockValue());
+
+      choresAssignedCountLive.setValue(aggregates.getChoresAssignedCount());
+      choresOverdueCountLive.setValue(aggregates.getChoresOverdueCount());
+      choresDueSoonCountLive.setValue(aggregates.getChoresDueSoonCount());
+      choresDueTodayCountLive.setValue(aggregates.getChoresDueTodayCount());
 
       alreadyLoadedFromDatabase = true;
       if (downloadAfterLoading) {
@@ -519,18 +424,7 @@ public class OverviewStartViewModel extends BaseViewModel {
         if (id != -1) {
           sharedPrefs.edit().putInt(PREF.CURRENT_USER_ID, id).apply();
           currentUserIdLive.setValue(id);
-          tasksLive.setValue(tasksLive.getValue());  // update descriptions above
-          if (this.choreEntriesLive.getValue() != null) {
-            int choresAssignedCount = 0;
-            for (ChoreEntry choreEntry : this.choreEntriesLive.getValue()) {
-              if (NumUtil.isStringInt(choreEntry.getNextExecutionAssignedToUserId())
-                  && currentUserIdLive.getValue() != null && currentUserIdLive.getValue()
-                  == Integer.parseInt(choreEntry.getNextExecutionAssignedToUserId())) {
-                choresAssignedCount++;
-              }
-            }
-            choresAssignedCountLive.setValue(choresAssignedCount);
-          }
+          loadFromDatabase(false);  // update assigned counts above
         }
       }).perform(
           i -> {},
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
@@ -32,6 +31,7 @@ import androidx.lifecycle.ViewModelProvider;
 import androidx.preference.PreferenceManager;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import org.json.JSONException;
@@ -68,6 +68,7 @@ import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
 import xyz.zedler.patrick.grocy.model.ShoppingListItem;
 import xyz.zedler.patrick.grocy.model.SnackbarMessage;
+import xyz.zedler.patrick.grocy.model.StagedPurchase;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.model.StoredPurchase;
 import xyz.zedler.patrick.grocy.repository.PurchaseRepository;
@@ -76,10 +77,13 @@ import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
+import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
+import xyz.zedler.patrick.grocy.web.NetworkQueue;
 
 public class PurchaseViewModel extends BaseViewModel {
 
@@ -100,6 +104,7 @@ public class PurchaseViewModel extends BaseViewModel {
   private List<QuantityUnitConversionResolved> unitConversions;
   private HashMap<Integer, Double> shoppingListItemAmountsHashMap;
   private List<ProductBarcode> barcodes;
+  private HashMap<String, ProductBarcode> barcodeHashMap;
   private List<PendingProductBarcode> pendingProductBarcodes;
   private List<Store> stores;
   private List<Location> locations;
@@ -110,9 +115,14 @@ public class PurchaseViewModel extends BaseViewModel {
   private final MutableLiveData<Boolean> isLoadingLive;
   private final MutableLiveData<InfoFullscreen> infoFullscreenLive;
   private final MutableLiveData<Boolean> quickModeEnabled;
+  private final MutableLiveData<Boolean> batchScanModeLive;
+  private final MutableLiveData<Integer> stagedPurchasesCountLive;
+  private final LinkedHashMap<Integer, StagedPurchase> stagedPurchases;
+  private final PluralUtil pluralUtil;
 
   private Integer storedPurchaseId;
   private StoredPurchase storedPurchase;
+  private boolean stagedPurchaseRunning;
   private Runnable queueEmptyAction;
   private boolean productWillBeFilled;
   private final int maxDecimalPlacesAmount;
@@ -148,6 +158,11 @@ public class PurchaseViewModel extends BaseViewModel {
       storedPurchaseId = Integer.parseInt(args.getStoredPurchaseId());
     }
 
+    barcodeHashMap = new HashMap<>();
+    stagedPurchases = new LinkedHashMap<>();
+    batchScanModeLive = new MutableLiveData<>(false);
+    stagedPurchasesCountLive = new MutableLiveData<>(0);
+    pluralUtil = new PluralUtil(application);
     infoFullscreenLive = new MutableLiveData<>();
     boolean quickModeStart;
     if (args.getStartWithScanner()) {
@@ -184,6 +199,7 @@ public class PurchaseViewModel extends BaseViewModel {
       productHashMap = ArrayUtil.getProductsHashMap(products);
       this.pendingProductBarcodes = data.getPendingProductBarcodes();
       this.barcodes = appendPendingProductBarcodes(data.getBarcodes(), pendingProductBarcodes);
+      barcodeHashMap = ArrayUtil.getBarcodeHashMap(barcodes);
       this.quantityUnits = data.getQuantityUnits();
       quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(quantityUnits);
       this.unitConversions = data.getQuantityUnitConversionsResolved();
@@ -495,8 +511,12 @@ public class PurchaseViewModel extends BaseViewModel {
   }
 
   public void onBarcodeRecognized(String barcode) {
+    if (isBatchScanModeEnabled()) {
+      stageBarcode(barcode);
+      return;
+    }
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeHashMap.get(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -517,7 +537,7 @@ public class PurchaseViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeHashMap.get(barcode);
       if (productBarcode instanceof PendingProductBarcode) {
         setPendingProduct(productBarcode.getProductIdInt(), (PendingProductBarcode) productBarcode);
         return;
@@ -534,6 +554,131 @@ public class PurchaseViewModel extends BaseViewModel {
     }
   }
 
+  private void stageBarcode(String barcode) {
+    // the purchase requests contain the amounts staged when they were sent, so scans in the
+    // meantime would be removed with the purchased products
+    if (stagedPurchaseRunning) {
+      showMessage(R.string.msg_batch_scan_purchase_running);
+      return;
+    }
+    Product product = null;
+    ProductBarcode productBarcode = null;
+    Grocycode grocycode = GrocycodeUtil.getGrocycode(barcode);
+    if (grocycode != null && grocycode.isProduct()) {
+      product = productHashMap.get(grocycode.getObjectId());
+    } else if (grocycode == null) {
+      productBarcode = barcodeHashMap.get(barcode);
+      // pending products are not on the server, so they can't be purchased in a batch
+      if (productBarcode != null && !(productBarcode instanceof PendingProductBarcode)) {
+        product = productHashMap.get(productBarcode.getProductIdInt());
+      }
+    }
+    if (product == null) {
+      showMessage(getString(R.string.msg_batch_scan_not_found, barcode));
+      return;
+    }
+    Double amountStock = getStagedAmountStock(product, productBarcode);
+    if (product.getNoOwnStockBoolean() || product.getEnableTareWeightHandlingBoolean()
+        || amountStock == null) {
+      showMessage(getString(R.string.msg_batch_scan_not_possible, product.getName()));
+      return;
+    }
+
+    StagedPurchase stagedPurchase = stagedPurchases.get(product.getId());
+    if (stagedPurchase == null) {
+      stagedPurchase = new StagedPurchase(product);
+      stagedPurchases.put(product.getId(), stagedPurchase);
+    }
+    stagedPurchase.addScan(amountStock, productBarcode);
+    stagedPurchasesCountLive.setValue(stagedPurchases.size());
+
+    QuantityUnit stock = quantityUnitHashMap.get(product.getQuIdStockInt());
+    double amountStaged = stagedPurchase.getAmountStock();
+    SnackbarMessage snackbarMessage = new SnackbarMessage(getString(
+        R.string.msg_batch_scan_staged,
+        NumUtil.trimAmount(amountStaged, maxDecimalPlacesAmount),
+        stock != null ? pluralUtil.getQuantityUnitPlural(stock, amountStaged) : "",
+        product.getName()
+    ));
+    StagedPurchase staged = stagedPurchase;
+    snackbarMessage.setAction(getString(R.string.action_undo), v -> {
+      // the staged product may have been purchased or cleared in the meantime
+      if (stagedPurchaseRunning || stagedPurchases.get(staged.getProduct().getId()) != staged
+          || staged.getScanCount() == 0) {
+        return;
+      }
+      staged.removeScan(amountStock);
+      if (staged.getScanCount() == 0) {
+        stagedPurchases.remove(staged.getProduct().getId());
+      }
+      stagedPurchasesCountLive.setValue(stagedPurchases.size());
+    });
+    showSnackbar(snackbarMessage);
+  }
+
+  @Nullable
+  private Double getStagedAmountStock(Product product, @Nullable ProductBarcode barcode) {
+    double amount = barcode != null && barcode.hasAmount() ? barcode.getAmountDouble() : 1;
+    int quId = barcode != null && barcode.hasQuId()
+        ? barcode.getQuIdInt() : product.getQuIdPurchaseInt();
+    if (quId == product.getQuIdStockInt()) {
+      return amount;
+    }
+    HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
+        quantityUnitHashMap,
+        unitConversions,
+        product,
+        VersionUtil.isGrocyServerMin400(sharedPrefs)
+    );
+    QuantityUnit quantityUnit = quantityUnitHashMap.get(quId);
+    Double factor = quantityUnit != null ? unitFactors.get(quantityUnit) : null;
+    if (factor == null || factor == 0) {
+      return null;
+    }
+    return amount / factor;
+  }
+
+  public void purchaseStagedProducts() {
+    if (stagedPurchaseRunning) {
+      showMessage(R.string.msg_batch_scan_purchase_running);
+      return;
+    } else if (stagedPurchases.isEmpty()) {
+      showMessage(R.string.msg_batch_scan_nothing_staged);
+      return;
+    }
+    ArrayList<StagedPurchase> purchased = new ArrayList<>();
+    NetworkQueue queue = dlHelper.newQueue(updated -> {
+      stagedPurchaseRunning = false;
+      showMessage(getApplication().getResources().getQuantityString(
+          R.plurals.msg_batch_scan_purchased, purchased.size(), purchased.size()
+      ));
+    }, error -> {
+      // the other requests of the queue are cancelled
+      stagedPurchaseRunning = false;
+      onError(error, TAG);
+    });
+    boolean withStore = isFeatureEnabled(PREF.FEATURE_STOCK_PRICE_TRACKING);
+    // purchases may still succeed after another one failed, so every purchase unstages its
+    // product itself and a retry only sends the ones which are left
+    for (StagedPurchase stagedPurchase : new ArrayList<>(stagedPurchases.values())) {
+      queue.append(StagedPurchase.purchaseStagedProduct(
+          dlHelper,
+          stagedPurchase,
+          stagedPurchase.getJsonBody(withStore, maxDecimalPlacesAmount),
+          response -> {
+            purchased.add(stagedPurchase);
+            int productId = stagedPurchase.getProduct().getId();
+            if (stagedPurchases.get(productId) == stagedPurchase) {
+              stagedPurchases.remove(productId);
+            }
+            stagedPurchasesCountLive.setValue(stagedPurchases.size());
+          }
+      ));
+    }
+    stagedPurchaseRunning = true;
+    queue.start();
+  }
+
   public void checkProductInput() {
     formData.isProductNameValid();
     String input = formData.getProductNameLive().getValue();
@@ -674,11 +819,11 @@ public class PurchaseViewModel extends BaseViewModel {
         }
       } catch (JSONException e) {
         if (debug) {
-          Log.e(TAG, "purchaseProduct: " + e);
+          LogUtil.e(TAG, "purchaseProduct: " + e);
         }
       }
       if (debug) {
-        Log.i(TAG, "purchaseProduct: transaction successful");
+        LogUtil.i(TAG, "purchaseProduct: transaction successful");
       }
 
       SnackbarMessage snackbarMessage = new SnackbarMessage(
@@ -713,7 +858,7 @@ public class PurchaseViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "purchaseProduct: " + error);
+            LogUtil.i(TAG, "purchaseProduct: " + error);
           }
         }
     );
@@ -726,7 +871,7 @@ public class PurchaseViewModel extends BaseViewModel {
           showMessage(getString(R.string.msg_undone_transaction));
           if (shoppingListItem != null) undoDeleteShoppingListItem(shoppingListItem);
           if (debug) {
-            Log.i(TAG, "undoTransaction: undone");
+            LogUtil.i(TAG, "undoTransaction: undone");
           }
         },
         this::showNetworkErrorMessage
@@ -743,6 +888,7 @@ public class PurchaseViewModel extends BaseViewModel {
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
       barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      ArrayUtil.addToBarcodeHashMap(barcodeHashMap, productBarcode);
       if (onSuccess != null) {
         onSuccess.run();
       }
@@ -777,6 +923,7 @@ public class PurchaseViewModel extends BaseViewModel {
     PendingProductBarcode productBarcode = formData.fillPendingProductBarcode();
     formData.getBarcodeLive().setValue(null);
     barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+    ArrayUtil.addToBarcodeHashMap(barcodeHashMap, productBarcode);
     pendingProductBarcodes.add(productBarcode);
     repository.insertPendingProductBarcode(productBarcode, onSuccess);
   }
@@ -796,7 +943,7 @@ public class PurchaseViewModel extends BaseViewModel {
         response -> onFinish.run(),
         error -> {
           if (debug) {
-            Log.e(TAG, "deleteShoppingListItem: " + error);
+            LogUtil.e(TAG, "deleteShoppingListItem: " + error);
           }
           onFinish.run();
         }
@@ -810,7 +957,7 @@ public class PurchaseViewModel extends BaseViewModel {
         response -> {},
         error -> {
           if (debug) {
-            Log.e(TAG, "undoDeleteShoppingListItem: " + error);
+            LogUtil.e(TAG, "undoDeleteShoppingListItem: " + error);
           }
         }
     );
@@ -1057,6 +1204,34 @@ public class PurchaseViewModel extends BaseViewModel {
     return true;
   }
 
+  public boolean isBatchScanModeEnabled() {
+    return batchScanModeLive.getValue() != null && batchScanModeLive.getValue();
+  }
+
+  public MutableLiveData<Boolean> getBatchScanModeLive() {
+    return batchScanModeLive;
+  }
+
+  public MutableLiveData<Integer> getStagedPurchasesCountLive() {
+    return stagedPurchasesCountLive;
+  }
+
+  public boolean hasStagedPurchases() {
+    return !stagedPurchases.isEmpty();
+  }
+
+  public void toggleBatchScanMode() {
+    if (hasStoredPurchase() || batchShoppingListItemIds != null) return;
+    boolean enabled = !isBatchScanModeEnabled();
+    stagedPurchases.clear();
+    stagedPurchasesCountLive.setValue(0);
+    formData.clearForm();
+    batchScanModeLive.setValue(enabled);
+    if (enabled && !formData.isScannerVisible()) {
+      formData.toggleScannerVisibility();
+    }
+  }
+
   public boolean isTurnOnQuickModeEnabled() {
     return sharedPrefs.getBoolean(
         BEHAVIOR.TURN_ON_QUICK_MODE,
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
@@ -56,6 +55,7 @@ import xyz.zedler.patrick.grocy.model.RecipePosition;
 import xyz.zedler.patrick.grocy.repository.RecipeEditRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -307,7 +307,7 @@ public class RecipeEditIngredientEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveEntry: " + error);
+              LogUtil.e(TAG, "saveEntry: " + error);
             }
           }
       );
@@ -319,7 +319,7 @@ public class RecipeEditIngredientEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveEntry: " + error);
+              LogUtil.e(TAG, "saveEntry: " + error);
             }
           }
       );
@@ -31,7 +31,6 @@ import android.os.Environment;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.Html;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
@@ -66,6 +65,7 @@ import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.repository.RecipeEditRepository;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PictureUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
@@ -82,6 +82,7 @@ public class RecipeEditViewModel extends BaseViewModel {
   private final RecipeEditFragmentArgs args;
 
   private final MutableLiveData<Boolean> isLoadingLive;
+  private final MutableLiveData<Integer> uploadProgressLive; // percent, null without upload
   private final MutableLiveData<InfoFullscreen> infoFullscreenLive;
 
   private List<Product> products;
@@ -107,6 +108,7 @@ public class RecipeEditViewModel extends BaseViewModel {
     );
 
     isLoadingLive = new MutableLiveData<>(false);
+    uploadProgressLive = new MutableLiveData<>();
     dlHelper = new DownloadHelper(application, TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(application);
     repository = new RecipeEditRepository(application);
@@ -256,7 +258,7 @@ public class RecipeEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveEntry: " + error);
+              LogUtil.e(TAG, "saveEntry: " + error);
             }
           }
       );
@@ -269,10 +271,10 @@ public class RecipeEditViewModel extends BaseViewModel {
             int objectId = -1;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveEntry: " + objectId);
+              LogUtil.i(TAG, "saveEntry: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveEntry: " + e);
+                LogUtil.e(TAG, "saveEntry: " + e);
               }
             }
             if (withClosing) {
@@ -292,7 +294,7 @@ public class RecipeEditViewModel extends BaseViewModel {
           error -> {
             showNetworkErrorMessage(error);
             if (debug) {
-              Log.e(TAG, "saveEntry: " + error);
+              LogUtil.e(TAG, "saveEntry: " + error);
             }
           }
       );
@@ -379,29 +381,44 @@ public class RecipeEditViewModel extends BaseViewModel {
       Bitmap scaledBitmap = filePath != null
           ? PictureUtil.scaleBitmap(filePath)
           : PictureUtil.scaleBitmap(image);
-      byte[] imageArray = PictureUtil.convertBitmapToByteArray(scaledBitmap);
+      File pictureFile;
+      try {
+        pictureFile = File.createTempFile("upload", ".jpg", getApplication().getCacheDir());
+      } catch (IOException e) {
+        pictureFile = null;
+      }
+      if (pictureFile != null && !PictureUtil.writeBitmapToFile(scaledBitmap, pictureFile)) {
+        pictureFile.delete();
+        pictureFile = null;
+      }
+      if (scaledBitmap != null && scaledBitmap != image) scaledBitmap.recycle();
+      File uploadFile = pictureFile;
       new Handler(Looper.getMainLooper()).post(() -> {
-        uploadPicture(imageArray);
+        uploadPicture(uploadFile);
         executor.shutdown();
       });
     });
   }
 
-  public void uploadPicture(byte[] pictureData) {
-    if (pictureData == null) {
+  public void uploadPicture(@Nullable File pictureFile) {
+    if (pictureFile == null) {
       showErrorMessage();
       isLoadingLive.setValue(false);
       return;
     }
     String filename = PictureUtil.createImageFilename();
+    uploadProgressLive.setValue(0);
     dlHelper.putFile(
         grocyApi.getRecipePicture(filename),
-        pictureData,
+        pictureFile,
+        uploadProgressLive::setValue,
         () -> {
+          uploadProgressLive.setValue(null);
           deleteCurrentPicture(filename);
           formData.getPictureFilenameLive().setValue(filename);
         },
         error -> {
+          uploadProgressLive.setValue(null);
           isLoadingLive.setValue(false);
           showNetworkErrorMessage(error);
         }
@@ -481,6 +498,10 @@ public class RecipeEditViewModel extends BaseViewModel {
     return isLoadingLive;
   }
 
+  public MutableLiveData<Integer> getUploadProgressLive() {
+    return uploadProgressLive;
+  }
+
   @NonNull
   public MutableLiveData<InfoFullscreen> getInfoFullscreenLive() {
     return infoFullscreenLive;
@@ -47,11 +47,13 @@ import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
 import xyz.zedler.patrick.grocy.model.RecipePosition;
+import xyz.zedler.patrick.grocy.model.RecipePositionResolved;
 import xyz.zedler.patrick.grocy.model.ShoppingListItem;
 import xyz.zedler.patrick.grocy.model.StockItem;
 import xyz.zedler.patrick.grocy.model.Userfield;
 import xyz.zedler.patrick.grocy.repository.RecipesRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.RecipeFulfillmentUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
 
 public class RecipesViewModel extends BaseViewModel {
@@ -133,7 +135,11 @@ public class RecipesViewModel extends BaseViewModel {
   public void loadFromDatabase(boolean downloadAfterLoading) {
     repository.loadFromDatabase(data -> {
       recipes = ArrayUtil.getRecipesWithoutShadowRecipes(data.getRecipes());
-      recipeFulfillments = data.getRecipeFulfillments();
+      recipeFulfillments = RecipeFulfillmentUtil.getFulfillmentsWithCurrentStock(
+          data.getRecipeFulfillments(),
+          data.getRecipePositionsResolved(),
+          data.getStockItems()
+      );
       recipePositions = data.getRecipePositions();
       products = data.getProducts();
       quantityUnits = data.getQuantityUnits();
@@ -160,6 +166,7 @@ public class RecipesViewModel extends BaseViewModel {
         Recipe.class,
         RecipeFulfillment.class,
         RecipePosition.class,
+        RecipePositionResolved.class,
         Product.class,
         QuantityUnit.class,
         QuantityUnitConversionResolved.class,
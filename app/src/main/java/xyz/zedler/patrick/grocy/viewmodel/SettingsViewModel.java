@@ -59,13 +59,17 @@ import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.ProductGroup;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
+import xyz.zedler.patrick.grocy.model.Server;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
 import xyz.zedler.patrick.grocy.repository.MainRepository;
 import xyz.zedler.patrick.grocy.util.ConfigUtil;
+import xyz.zedler.patrick.grocy.util.DueDateIndex;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ReminderUtil;
+import xyz.zedler.patrick.grocy.util.ServerUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class SettingsViewModel extends BaseViewModel {
@@ -264,6 +268,7 @@ public class SettingsViewModel extends BaseViewModel {
   public void setLoggingEnabled(boolean enabled) {
     sharedPrefs.edit()
         .putBoolean(Constants.SETTINGS.DEBUGGING.ENABLE_DEBUGGING, enabled).apply();
+    TraceUtil.setEnabled(enabled);
   }
 
   public boolean getBeginnerModeEnabled() {
@@ -713,13 +718,7 @@ public class SettingsViewModel extends BaseViewModel {
   }
 
   public String getDueSoonDaysText() {
-    String days = sharedPrefs.getString(STOCK.DUE_SOON_DAYS, SETTINGS_DEFAULT.STOCK.DUE_SOON_DAYS);
-    int daysInt;
-    if (NumUtil.isStringInt(days)) {
-      daysInt = Integer.parseInt(days);
-    } else {
-      daysInt = Integer.parseInt(SETTINGS_DEFAULT.STOCK.DUE_SOON_DAYS);
-    }
+    int daysInt = DueDateIndex.getDueSoonDays(sharedPrefs);
     return getApplication().getResources().getQuantityString(R.plurals.date_days, daysInt, daysInt);
   }
 
@@ -1093,6 +1092,28 @@ public class SettingsViewModel extends BaseViewModel {
     PrefsUtil.clearServerRelatedSharedPreferences(sharedPrefs);
   }
 
+  public void removeActiveServer() {
+    ServerUtil.removeActiveServer(getApplication(), sharedPrefs);
+  }
+
+  public List<Server> getServers() {
+    // servers which were logged in before profiles existed are not registered yet
+    ServerUtil.registerActiveServer(sharedPrefs);
+    return ServerUtil.getServers(sharedPrefs);
+  }
+
+  public int getActiveServerId() {
+    return ServerUtil.getActiveServerId(sharedPrefs);
+  }
+
+  public void switchServer(int serverId) {
+    ServerUtil.switchServer(getApplication(), sharedPrefs, serverId);
+  }
+
+  public void addServer() {
+    ServerUtil.addServer(getApplication(), sharedPrefs);
+  }
+
   @Override
   protected void onCleared() {
     dlHelper.destroy();
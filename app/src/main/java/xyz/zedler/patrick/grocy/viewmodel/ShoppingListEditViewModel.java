@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -42,6 +41,7 @@ import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
 import xyz.zedler.patrick.grocy.repository.ShoppingListRepository;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
 
@@ -131,7 +131,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
       jsonObject.put("name", name);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveShoppingList: " + e);
+        LogUtil.e(TAG, "saveShoppingList: " + e);
       }
     }
 
@@ -143,7 +143,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
           error -> {
             showErrorMessage();
             if (debug) {
-              Log.e(TAG, "saveShoppingList: " + error);
+              LogUtil.e(TAG, "saveShoppingList: " + error);
             }
           }
       );
@@ -155,10 +155,10 @@ public class ShoppingListEditViewModel extends BaseViewModel {
             int objectId;
             try {
               objectId = response.getInt("created_object_id");
-              Log.i(TAG, "saveShoppingList: " + objectId);
+              LogUtil.i(TAG, "saveShoppingList: " + objectId);
             } catch (JSONException e) {
               if (debug) {
-                Log.e(TAG, "saveShoppingList: " + e);
+                LogUtil.e(TAG, "saveShoppingList: " + e);
               }
               objectId = 1;
             }
@@ -168,7 +168,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
           error -> {
             showErrorMessage();
             if (debug) {
-              Log.e(TAG, "saveShoppingList: " + error);
+              LogUtil.e(TAG, "saveShoppingList: " + error);
             }
           }
       );
@@ -199,7 +199,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
         error -> {
           showErrorMessage();
           if (debug) {
-            Log.i(TAG, "deleteShoppingList: " + error);
+            LogUtil.i(TAG, "deleteShoppingList: " + error);
           }
           downloadData(false);
         }
@@ -215,7 +215,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
       jsonObject.put("list_id", startupShoppingList.getId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "clearShoppingList: " + e);
+        LogUtil.e(TAG, "clearShoppingList: " + e);
       }
     }
     dlHelper.post(
@@ -229,7 +229,7 @@ public class ShoppingListEditViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(
+            LogUtil.e(
                 TAG, "clearShoppingList: "
                     + startupShoppingList.getName()
                     + ": " + error
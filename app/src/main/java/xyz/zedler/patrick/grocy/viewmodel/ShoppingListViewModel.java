@@ -23,7 +23,6 @@ import android.app.Application;
 import android.content.SharedPreferences;
 import android.text.Html;
 import android.text.Spanned;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -62,7 +61,9 @@ import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.repository.ShoppingListRepository;
 import xyz.zedler.patrick.grocy.util.AmountUtil;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
 
@@ -185,6 +186,7 @@ public class ShoppingListViewModel extends BaseViewModel {
     if (this.shoppingListItems == null) {
       return;
     }
+    long traceStart = TraceUtil.beginSection("ShoppingList.updateFilteredShoppingListItems");
 
     ArrayList<ShoppingListItem> filteredShoppingListItems = new ArrayList<>();
     int itemsMissingCount = 0;
@@ -255,6 +257,7 @@ public class ShoppingListViewModel extends BaseViewModel {
     } else {
       infoFullscreenLive.setValue(null);
     }
+    TraceUtil.endSection("ShoppingList.updateFilteredShoppingListItems", traceStart);
   }
 
   public void updateFilteredShoppingListItemsWithTopScroll() {
@@ -344,7 +347,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         body.put("done", itemToSync.getDoneInt());
       } catch (JSONException e) {
         if (debug) {
-          Log.e(TAG, "syncItems: " + e);
+          LogUtil.e(TAG, "syncItems: " + e);
         }
       }
       queue.append(ShoppingListItem.editShoppingListItem(dlHelper, itemToSync.getId(), body));
@@ -406,7 +409,7 @@ public class ShoppingListViewModel extends BaseViewModel {
       body.put("done", shoppingListItem.getDoneInt());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "toggleDoneStatus: " + e);
+        LogUtil.e(TAG, "toggleDoneStatus: " + e);
       }
     }
     ShoppingListItem.editShoppingListItem(
@@ -417,7 +420,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(TAG, "toggleDoneStatus: " + error);
+            LogUtil.e(TAG, "toggleDoneStatus: " + error);
           }
         }
     ).perform(dlHelper.getUuid());
@@ -441,7 +444,7 @@ public class ShoppingListViewModel extends BaseViewModel {
       jsonObject.put("list_id", getSelectedShoppingListId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "setUpBottomMenu: add missing: " + e);
+        LogUtil.e(TAG, "setUpBottomMenu: add missing: " + e);
       }
     }
     dlHelper.post(
@@ -457,7 +460,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(
+            LogUtil.e(
                 TAG, "setUpBottomMenu: add missing "
                     + shoppingList.getName()
                     + ": " + error
@@ -475,7 +478,7 @@ public class ShoppingListViewModel extends BaseViewModel {
       body.put("description", notesHtml);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveNotes: " + e);
+        LogUtil.e(TAG, "saveNotes: " + e);
       }
     }
     dlHelper.put(
@@ -492,7 +495,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(TAG, "saveNotes: " + error);
+            LogUtil.e(TAG, "saveNotes: " + error);
           }
           downloadData(false, false);
         }
@@ -507,7 +510,7 @@ public class ShoppingListViewModel extends BaseViewModel {
           showMessage(getString(R.string.error_undefined));
           loadFromDatabase(true);
           if (debug) {
-            Log.e(TAG, "deleteItem: " + error);
+            LogUtil.e(TAG, "deleteItem: " + error);
           }
         }
     );
@@ -532,7 +535,7 @@ public class ShoppingListViewModel extends BaseViewModel {
       jsonObject.put("list_id", getSelectedShoppingListId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "deleteShoppingList: delete list: " + e);
+        LogUtil.e(TAG, "deleteShoppingList: delete list: " + e);
       }
     }
     dlHelper.delete(
@@ -556,7 +559,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(
+            LogUtil.e(
                 TAG, "deleteShoppingList: delete "
                     + shoppingList.getName() + ": " + error
             );
@@ -572,7 +575,7 @@ public class ShoppingListViewModel extends BaseViewModel {
       jsonObject.put("list_id", shoppingList.getId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "clearShoppingList: " + e);
+        LogUtil.e(TAG, "clearShoppingList: " + e);
       }
     }
     dlHelper.post(
@@ -592,7 +595,7 @@ public class ShoppingListViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(
+            LogUtil.e(
                 TAG, "clearShoppingList: "
                     + shoppingList.getName()
                     + ": " + error
@@ -23,7 +23,6 @@ import android.app.Application;
 import android.content.SharedPreferences;
 import android.text.Html;
 import android.text.Spanned;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -59,6 +58,7 @@ import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.repository.ShoppingListRepository;
 import xyz.zedler.patrick.grocy.util.AmountUtil;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
@@ -266,7 +266,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
         body.put("done", itemToSync.getDoneInt());
       } catch (JSONException e) {
         if (debug) {
-          Log.e(TAG, "syncItems: " + e);
+          LogUtil.e(TAG, "syncItems: " + e);
         }
       }
       queue.append(ShoppingListItem.editShoppingListItem(dlHelper, itemToSync.getId(), body));
@@ -325,7 +325,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
       body.put("done", shoppingListItem.getDoneInt());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "toggleDoneStatus: " + e);
+        LogUtil.e(TAG, "toggleDoneStatus: " + e);
       }
     }
     ShoppingListItem.editShoppingListItem(
@@ -336,7 +336,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(TAG, "toggleDoneStatus: " + error);
+            LogUtil.e(TAG, "toggleDoneStatus: " + error);
           }
         }
     ).perform(dlHelper.getUuid());
@@ -361,7 +361,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
       body.put("description", notesHtml);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "saveNotes: " + e);
+        LogUtil.e(TAG, "saveNotes: " + e);
       }
     }
     dlHelper.put(
@@ -378,7 +378,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
         error -> {
           showMessage(getString(R.string.error_undefined));
           if (debug) {
-            Log.e(TAG, "saveNotes: " + error);
+            LogUtil.e(TAG, "saveNotes: " + error);
           }
           downloadData(false, false);
         }
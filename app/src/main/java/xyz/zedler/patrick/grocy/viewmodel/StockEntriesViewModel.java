@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.MutableLiveData;
@@ -62,6 +61,7 @@ import xyz.zedler.patrick.grocy.model.StockEntry;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.repository.StockEntriesRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
@@ -287,7 +287,7 @@ public class StockEntriesViewModel extends BaseViewModel {
       body.put("stock_entry_id", stockEntry.getStockId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "consumeEntry: " + e);
+        LogUtil.e(TAG, "consumeEntry: " + e);
       }
     }
     dlHelper.postWithArray(
@@ -304,7 +304,7 @@ public class StockEntriesViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug) {
-              Log.e(TAG, "consumeEntry: " + e);
+              LogUtil.e(TAG, "consumeEntry: " + e);
             }
           }
 
@@ -331,7 +331,7 @@ public class StockEntriesViewModel extends BaseViewModel {
                       Snackbar.LENGTH_SHORT
                   ));
                   if (debug) {
-                    Log.i(TAG, "consumeEntry: undone");
+                    LogUtil.i(TAG, "consumeEntry: undone");
                   }
                 },
                 this::showNetworkErrorMessage
@@ -340,7 +340,7 @@ public class StockEntriesViewModel extends BaseViewModel {
           downloadData(false);
           showSnackbar(snackbarMsg);
           if (debug) {
-            Log.i(
+            LogUtil.i(
                 TAG, "consumeEntry: consumed " + amountConsumed
             );
           }
@@ -348,7 +348,7 @@ public class StockEntriesViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "consumeEntry: " + error);
+            LogUtil.i(TAG, "consumeEntry: " + error);
           }
         }
     );
@@ -361,7 +361,7 @@ public class StockEntriesViewModel extends BaseViewModel {
       body.put("stock_entry_id", stockEntry.getStockId());
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "openEntry: " + e);
+        LogUtil.e(TAG, "openEntry: " + e);
       }
     }
     dlHelper.postWithArray(
@@ -378,7 +378,7 @@ public class StockEntriesViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug) {
-              Log.e(TAG, "openEntry: " + e);
+              LogUtil.e(TAG, "openEntry: " + e);
             }
           }
 
@@ -405,7 +405,7 @@ public class StockEntriesViewModel extends BaseViewModel {
                       Snackbar.LENGTH_SHORT
                   ));
                   if (debug) {
-                    Log.i(TAG, "openEntry: undone");
+                    LogUtil.i(TAG, "openEntry: undone");
                   }
                 },
                 this::showNetworkErrorMessage
@@ -414,7 +414,7 @@ public class StockEntriesViewModel extends BaseViewModel {
           downloadData(false);
           showSnackbar(snackbarMsg);
           if (debug) {
-            Log.i(
+            LogUtil.i(
                 TAG, "openEntry: opened " + amountOpened
             );
           }
@@ -422,7 +422,7 @@ public class StockEntriesViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "openEntry: " + error);
+            LogUtil.i(TAG, "openEntry: " + error);
           }
         }
     );
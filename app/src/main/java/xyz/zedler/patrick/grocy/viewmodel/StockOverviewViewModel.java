@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 
 import android.app.Application;
 import android.content.SharedPreferences;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
@@ -72,11 +71,14 @@ import xyz.zedler.patrick.grocy.model.Userfield;
 import xyz.zedler.patrick.grocy.model.VolatileItem;
 import xyz.zedler.patrick.grocy.repository.StockOverviewRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
+import xyz.zedler.patrick.grocy.util.DueDateIndex;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class StockOverviewViewModel extends BaseViewModel {
@@ -225,21 +227,24 @@ public class StockOverviewViewModel extends BaseViewModel {
       int itemsOverdueCount = 0;
       int itemsExpiredCount = 0;
       HashMap<Integer, StockItem> stockItemHashMap = ArrayUtil.getStockItemHashMap(stockItems);
-      for (VolatileItem volatileItem : data.getVolatileItems()) {
-        StockItem stockItem = stockItemHashMap.get(volatileItem.getProductId());
-        if (stockItem == null) continue;
-        Product product = productHashMap.get(stockItem.getProductId());
-        if (product != null && product.getNoOwnStockBoolean()) continue;
-        if (volatileItem.getVolatileType() == VolatileItem.TYPE_DUE) {
-          stockItem.setItemDue(true);
-          itemsDueCount++;
-        } else if (volatileItem.getVolatileType() == VolatileItem.TYPE_OVERDUE) {
-          stockItem.setItemOverdue(true);
-          itemsOverdueCount++;
-        } else if (volatileItem.getVolatileType() == VolatileItem.TYPE_EXPIRED) {
-          stockItem.setItemExpired(true);
-          itemsExpiredCount++;
-        }
+      DueDateIndex dueDateIndex = new DueDateIndex(stockItems);
+      for (int productId : dueDateIndex.getDueSoonProductIds(getDaysExpriringSoon())) {
+        StockItem stockItem = stockItemHashMap.get(productId);
+        if (stockItem == null || hasNoOwnStock(productId)) continue;
+        stockItem.setItemDue(true);
+        itemsDueCount++;
+      }
+      for (int productId : dueDateIndex.getOverdueProductIds()) {
+        StockItem stockItem = stockItemHashMap.get(productId);
+        if (stockItem == null || hasNoOwnStock(productId)) continue;
+        stockItem.setItemOverdue(true);
+        itemsOverdueCount++;
+      }
+      for (int productId : dueDateIndex.getExpiredProductIds()) {
+        StockItem stockItem = stockItemHashMap.get(productId);
+        if (stockItem == null || hasNoOwnStock(productId)) continue;
+        stockItem.setItemExpired(true);
+        itemsExpiredCount++;
       }
       int itemsMissingCount = 0;
       productIdsMissingItems = new HashMap<>();
@@ -334,6 +339,7 @@ public class StockOverviewViewModel extends BaseViewModel {
   }
 
   public void updateFilteredStockItems() {
+    long traceStart = TraceUtil.beginSection("StockOverview.updateFilteredStockItems");
     ArrayList<StockItem> filteredStockItems = new ArrayList<>();
 
     Product productSearch = null;
@@ -444,6 +450,7 @@ public class StockOverviewViewModel extends BaseViewModel {
     }
 
     filteredStockItemsLive.setValue(filteredStockItems);
+    TraceUtil.endSection("StockOverview.updateFilteredStockItems", traceStart);
   }
 
   public void updateFilteredStockItemsWithTopScroll() {
@@ -486,7 +493,7 @@ public class StockOverviewViewModel extends BaseViewModel {
       body.put("spoiled", spoiled);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "consumeProduct: " + e);
+        LogUtil.e(TAG, "consumeProduct: " + e);
       }
     }
     dlHelper.postWithArray(
@@ -503,7 +510,7 @@ public class StockOverviewViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug) {
-              Log.e(TAG, "consumeProduct: " + e);
+              LogUtil.e(TAG, "consumeProduct: " + e);
             }
           }
 
@@ -530,7 +537,7 @@ public class StockOverviewViewModel extends BaseViewModel {
                       Snackbar.LENGTH_SHORT
                   ));
                   if (debug) {
-                    Log.i(TAG, "consumeProduct: undone");
+                    LogUtil.i(TAG, "consumeProduct: undone");
                   }
                 },
                 this::showNetworkErrorMessage
@@ -539,7 +546,7 @@ public class StockOverviewViewModel extends BaseViewModel {
           downloadData(false);
           showSnackbar(snackbarMsg);
           if (debug) {
-            Log.i(
+            LogUtil.i(
                 TAG, "consumeProduct: consumed " + amountConsumed
             );
           }
@@ -547,7 +554,7 @@ public class StockOverviewViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "consumeProduct: " + error);
+            LogUtil.i(TAG, "consumeProduct: " + error);
           }
         }
     );
@@ -560,7 +567,7 @@ public class StockOverviewViewModel extends BaseViewModel {
       body.put("allow_subproduct_substitution", true);
     } catch (JSONException e) {
       if (debug) {
-        Log.e(TAG, "openProduct: " + e);
+        LogUtil.e(TAG, "openProduct: " + e);
       }
     }
     dlHelper.postWithArray(
@@ -577,7 +584,7 @@ public class StockOverviewViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug) {
-              Log.e(TAG, "openProduct: " + e);
+              LogUtil.e(TAG, "openProduct: " + e);
             }
           }
 
@@ -604,7 +611,7 @@ public class StockOverviewViewModel extends BaseViewModel {
                       Snackbar.LENGTH_SHORT
                   ));
                   if (debug) {
-                    Log.i(TAG, "openProduct: undone");
+                    LogUtil.i(TAG, "openProduct: undone");
                   }
                 },
                 this::showNetworkErrorMessage
@@ -613,7 +620,7 @@ public class StockOverviewViewModel extends BaseViewModel {
           downloadData(false);
           showSnackbar(snackbarMsg);
           if (debug) {
-            Log.i(
+            LogUtil.i(
                 TAG, "openProduct: opened " + amountOpened
             );
           }
@@ -621,7 +628,7 @@ public class StockOverviewViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "openProduct: " + error);
+            LogUtil.i(TAG, "openProduct: " + error);
           }
         }
     );
@@ -776,12 +783,13 @@ public class StockOverviewViewModel extends BaseViewModel {
     return sharedPrefs.getBoolean(pref, true);
   }
 
+  private boolean hasNoOwnStock(int productId) {
+    Product product = productHashMap.get(productId);
+    return product != null && product.getNoOwnStockBoolean();
+  }
+
   public int getDaysExpriringSoon() {
-    String days = sharedPrefs.getString(
-        STOCK.DUE_SOON_DAYS,
-        SETTINGS_DEFAULT.STOCK.DUE_SOON_DAYS
-    );
-    return NumUtil.isStringInt(days) ? Integer.parseInt(days) : 5;
+    return DueDateIndex.getDueSoonDays(sharedPrefs);
   }
 
   public String getCurrency() {
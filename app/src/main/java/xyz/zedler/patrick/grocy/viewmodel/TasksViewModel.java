@@ -21,7 +21,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 
 import android.app.Application;
 import android.content.SharedPreferences;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.MutableLiveData;
 import androidx.preference.PreferenceManager;
@@ -47,6 +46,7 @@ import xyz.zedler.patrick.grocy.model.User;
 import xyz.zedler.patrick.grocy.repository.TasksRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.DateUtil;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
@@ -218,9 +218,9 @@ public class TasksViewModel extends BaseViewModel {
     } catch (JSONException e) {
       if (debug) {
         if (!task.isDone()) {
-          Log.e(TAG, "completeTask: " + e);
+          LogUtil.e(TAG, "completeTask: " + e);
         } else {
-          Log.e(TAG, "undoTask: " + e);
+          LogUtil.e(TAG, "undoTask: " + e);
         }
       }
     }
@@ -235,20 +235,20 @@ public class TasksViewModel extends BaseViewModel {
           downloadData(false);
 
           if (!task.isDone()) {
-            Log.i(
+            LogUtil.i(
                 TAG, "completeTask: completed " + task.getName()
             );
           } else {
-            Log.i(TAG, "undoTask: undone" + task.getName());
+            LogUtil.i(TAG, "undoTask: undone" + task.getName());
           }
         },
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
             if (!task.isDone()) {
-              Log.i(TAG, "completeTask: " + error);
+              LogUtil.i(TAG, "completeTask: " + error);
             } else {
-              Log.i(TAG, "undoTask: " + error);
+              LogUtil.i(TAG, "undoTask: " + error);
             }
           }
         }
@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.viewmodel;
 import android.app.Application;
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
@@ -65,6 +64,7 @@ import xyz.zedler.patrick.grocy.repository.InventoryRepository;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
@@ -84,6 +84,7 @@ public class TransferViewModel extends BaseViewModel {
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
   private List<ProductBarcode> barcodes;
+  private HashMap<String, ProductBarcode> barcodeHashMap;
   private List<Location> locations;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
 
@@ -124,6 +125,7 @@ public class TransferViewModel extends BaseViewModel {
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
     barcodes = new ArrayList<>();
+    barcodeHashMap = new HashMap<>();
   }
 
   public FormDataTransfer getFormData() {
@@ -134,6 +136,7 @@ public class TransferViewModel extends BaseViewModel {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
       this.barcodes = data.getBarcodes();
+      barcodeHashMap = ArrayUtil.getBarcodeHashMap(barcodes);
       this.locations = data.getLocations();
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
@@ -285,7 +288,7 @@ public class TransferViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeHashMap.get(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -308,7 +311,7 @@ public class TransferViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeHashMap.get(barcode);
       product = productBarcode != null
           ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
     }
@@ -416,11 +419,11 @@ public class TransferViewModel extends BaseViewModel {
             }
           } catch (JSONException e) {
             if (debug) {
-              Log.e(TAG, "transferProduct: " + e);
+              LogUtil.e(TAG, "transferProduct: " + e);
             }
           }
           if (debug) {
-            Log.i(TAG, "transferProduct: transaction successful");
+            LogUtil.i(TAG, "transferProduct: transaction successful");
           }
 
           SnackbarMessage snackbarMessage = new SnackbarMessage(
@@ -442,7 +445,7 @@ public class TransferViewModel extends BaseViewModel {
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
-            Log.i(TAG, "transferProduct: " + error);
+            LogUtil.i(TAG, "transferProduct: " + error);
           }
         }
     );
@@ -454,7 +457,7 @@ public class TransferViewModel extends BaseViewModel {
         success -> {
           showMessage(getString(R.string.msg_undone_transaction));
           if (debug) {
-            Log.i(TAG, "undoTransaction: undone");
+            LogUtil.i(TAG, "undoTransaction: undone");
           }
         },
         this::showNetworkErrorMessage
@@ -467,6 +470,7 @@ public class TransferViewModel extends BaseViewModel {
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
       barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      ArrayUtil.addToBarcodeHashMap(barcodeHashMap, productBarcode);
       if (onSuccess != null) {
         onSuccess.run();
       }
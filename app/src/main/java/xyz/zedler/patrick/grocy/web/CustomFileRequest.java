@@ -0,0 +1,127 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.android.volley.Response;
+import com.android.volley.VolleyError;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnProgressListener;
+
+/**
+ * Uploads a file without loading it into memory, the body is streamed by GrocyHurlStack.
+ * The request owns the file and deletes it in the background when the response or error is
+ * delivered or when the request is canceled, retries still read from it.
+ */
+public class CustomFileRequest extends CustomByteArrayRequest {
+
+  private static final int BUFFER_SIZE = 16 * 1024;
+
+  private final File file;
+  private final OnProgressListener progressListener;
+  private final Handler handler;
+
+  public CustomFileRequest(
+      int method,
+      String url,
+      String apiKey,
+      String homeAssistantIngressSessionKey,
+      File file,
+      @Nullable OnProgressListener progressListener,
+      @Nullable Runnable successListener,
+      @Nullable Response.ErrorListener errorListener,
+      int timeoutSeconds,
+      String tag
+  ) {
+    super(
+        method,
+        url,
+        apiKey,
+        homeAssistantIngressSessionKey,
+        null,
+        successListener,
+        errorListener,
+        timeoutSeconds,
+        tag
+    );
+    this.file = file;
+    this.progressListener = progressListener;
+    this.handler = new Handler(Looper.getMainLooper());
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * Called on the network thread, progress is delivered on the main thread in whole percents.
+   * Each retry starts again at 0.
+   */
+  void writeBody(OutputStream outputStream) throws IOException {
+    long length = file.length();
+    long written = 0;
+    int lastPercent = -1;
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream inputStream = new FileInputStream(file); OutputStream out = outputStream) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+        written += read;
+        int percent = length > 0 ? (int) (written * 100 / length) : 100;
+        if (progressListener != null && percent != lastPercent && !isCanceled()) {
+          lastPercent = percent;
+          handler.post(() -> {
+            if (!isCanceled()) progressListener.onProgress(percent);
+          });
+        }
+      }
+    }
+  }
+
+  @Override
+  protected void deliverResponse(byte[] response) {
+    deleteFile();
+    super.deliverResponse(response);
+  }
+
+  @Override
+  public void deliverError(VolleyError error) {
+    deleteFile();
+    super.deliverError(error);
+  }
+
+  @Override
+  public void cancel() {
+    super.cancel();
+    deleteFile();
+  }
+
+  // deliveries and cancellations happen on the main thread, which shouldn't wait for the disk
+  private void deleteFile() {
+    Schedulers.io().scheduleDirect(file::delete);
+  }
+}
@@ -26,6 +26,7 @@ import com.android.volley.NetworkResponse;
 import com.android.volley.ParseError;
 import com.android.volley.Response;
 import com.android.volley.RetryPolicy;
+import com.android.volley.VolleyError;
 import com.android.volley.toolbox.HttpHeaderParser;
 import com.android.volley.toolbox.JsonObjectRequest;
 import java.io.UnsupportedEncodingException;
@@ -35,10 +36,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.json.JSONException;
 import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 
-public class CustomJsonObjectRequest extends JsonObjectRequest {
+public class CustomJsonObjectRequest extends JsonObjectRequest
+    implements NetworkMetrics.MeasuredRequest {
 
   private final String url;
+  private final NetworkMetrics.Timing timing;
   private final String apiKey;
   private final String homeAssistantIngressSessionKey;
   private final String hassLongLivedAccessToken;
@@ -60,6 +65,7 @@ public class CustomJsonObjectRequest extends JsonObjectRequest {
       }
     });
     this.url = url;
+    this.timing = new NetworkMetrics.Timing(url);
     this.apiKey = apiKey;
     this.homeAssistantIngressSessionKey = homeAssistantIngressSessionKey;
     this.hassLongLivedAccessToken = null;
@@ -77,6 +83,8 @@ public class CustomJsonObjectRequest extends JsonObjectRequest {
 
   @Override
   protected Response<JSONObject> parseNetworkResponse(NetworkResponse response) {
+    long startNanos = System.nanoTime();
+    Response<JSONObject> parsed;
     try {
       String jsonString = new String(
           response.data,
@@ -86,10 +94,36 @@ public class CustomJsonObjectRequest extends JsonObjectRequest {
       if (jsonString.length() > 0) {
         result = new JSONObject(jsonString);
       }
-      return Response.success(result, HttpHeaderParser.parseCacheHeaders(response));
+      parsed = Response.success(result, HttpHeaderParser.parseCacheHeaders(response));
     } catch (UnsupportedEncodingException | JSONException e) {
-      return Response.error(new ParseError(e));
+      parsed = Response.error(new ParseError(e));
     }
+    timing.onParsed(response, System.nanoTime() - startNanos);
+    return parsed;
+  }
+
+  @Override
+  protected void deliverResponse(JSONObject response) {
+    long traceStart = TraceUtil.beginSection("Request.deliverResponse");
+    LogUtil.setRequestId(getSequence() + " " + timing.getEndpoint());
+    long startNanos = System.nanoTime();
+    super.deliverResponse(response);
+    timing.onDelivered(System.nanoTime() - startNanos);
+    LogUtil.setRequestId(null);
+    TraceUtil.endSection("Request.deliverResponse " + timing.getEndpoint(), traceStart);
+  }
+
+  @Override
+  public void deliverError(VolleyError error) {
+    timing.onError(error);
+    LogUtil.setRequestId(getSequence() + " " + timing.getEndpoint());
+    super.deliverError(error);
+    LogUtil.setRequestId(null);
+  }
+
+  @Override
+  public NetworkMetrics.Timing getTiming() {
+    return timing;
   }
 
   @Override
@@ -22,8 +22,10 @@ package xyz.zedler.patrick.grocy.web;
 import android.util.Base64;
 import androidx.annotation.Nullable;
 import com.android.volley.DefaultRetryPolicy;
+import com.android.volley.NetworkResponse;
 import com.android.volley.Response;
 import com.android.volley.RetryPolicy;
+import com.android.volley.VolleyError;
 import com.android.volley.toolbox.StringRequest;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,10 +33,14 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.TraceUtil;
 
-public class CustomStringRequest extends StringRequest {
+public class CustomStringRequest extends StringRequest
+    implements NetworkMetrics.MeasuredRequest {
 
   private final String url;
+  private final NetworkMetrics.Timing timing;
   private final String apiKey;
   private final String homeAssistantIngressSessionKey;
   private final String userAgent;
@@ -75,6 +81,7 @@ public class CustomStringRequest extends StringRequest {
         }
     );
     this.url = url;
+    this.timing = new NetworkMetrics.Timing(url);
     this.apiKey = apiKey;
     this.homeAssistantIngressSessionKey = homeAssistantIngressSessionKey;
     this.userAgent = userAgent;
@@ -168,6 +175,38 @@ public class CustomStringRequest extends StringRequest {
     );
   }
 
+  @Override
+  protected Response<String> parseNetworkResponse(NetworkResponse response) {
+    long startNanos = System.nanoTime();
+    Response<String> parsed = super.parseNetworkResponse(response);
+    timing.onParsed(response, System.nanoTime() - startNanos);
+    return parsed;
+  }
+
+  @Override
+  protected void deliverResponse(String response) {
+    long traceStart = TraceUtil.beginSection("Request.deliverResponse");
+    LogUtil.setRequestId(getSequence() + " " + timing.getEndpoint());
+    long startNanos = System.nanoTime();
+    super.deliverResponse(response);
+    timing.onDelivered(System.nanoTime() - startNanos);
+    LogUtil.setRequestId(null);
+    TraceUtil.endSection("Request.deliverResponse " + timing.getEndpoint(), traceStart);
+  }
+
+  @Override
+  public void deliverError(VolleyError error) {
+    timing.onError(error);
+    LogUtil.setRequestId(getSequence() + " " + timing.getEndpoint());
+    super.deliverError(error);
+    LogUtil.setRequestId(null);
+  }
+
+  @Override
+  public NetworkMetrics.Timing getTiming() {
+    return timing;
+  }
+
   @Override
   public Map<String, String> getHeaders() {
     Map<String, String> params = new HashMap<>();
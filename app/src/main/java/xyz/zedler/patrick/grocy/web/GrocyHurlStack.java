@@ -0,0 +1,162 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import androidx.annotation.Nullable;
+import com.android.volley.AuthFailureError;
+import com.android.volley.Header;
+import com.android.volley.Request;
+import com.android.volley.toolbox.HttpResponse;
+import com.android.volley.toolbox.HurlStack;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * HurlStack which streams the body of CustomFileRequests from their file into the connection,
+ * because Volley itself only sends bodies which are completely loaded into memory.
+ * All other requests are executed by the default implementation.
+ * For measured requests it records when the response headers have arrived, see NetworkMetrics.
+ */
+public class GrocyHurlStack extends HurlStack {
+
+  private final SSLSocketFactory sslSocketFactory;
+
+  public GrocyHurlStack() {
+    this(null);
+  }
+
+  public GrocyHurlStack(@Nullable SSLSocketFactory sslSocketFactory) {
+    super(null, sslSocketFactory);
+    this.sslSocketFactory = sslSocketFactory;
+  }
+
+  @Override
+  public HttpResponse executeRequest(Request<?> request, Map<String, String> additionalHeaders)
+      throws IOException, AuthFailureError {
+    NetworkMetrics.Timing timing = request instanceof NetworkMetrics.MeasuredRequest
+        ? ((NetworkMetrics.MeasuredRequest) request).getTiming() : null;
+    if (timing != null) {
+      timing.onRequestStarted();
+    }
+    HttpResponse response;
+    if (request instanceof CustomFileRequest) {
+      response = executeFileRequest((CustomFileRequest) request, additionalHeaders);
+    } else {
+      response = super.executeRequest(request, additionalHeaders);
+    }
+    if (timing != null) {
+      timing.onHeadersReceived();
+    }
+    return response;
+  }
+
+  private HttpResponse executeFileRequest(
+      CustomFileRequest request,
+      Map<String, String> additionalHeaders
+  ) throws IOException, AuthFailureError {
+
+    URL url = new URL(request.getUrl());
+    HttpURLConnection connection = createConnection(url);
+    connection.setConnectTimeout(request.getTimeoutMs());
+    connection.setReadTimeout(request.getTimeoutMs());
+    connection.setUseCaches(false);
+    connection.setDoInput(true);
+    if (sslSocketFactory != null && connection instanceof HttpsURLConnection) {
+      ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+    }
+
+    Map<String, String> headers = new HashMap<>(additionalHeaders);
+    headers.putAll(request.getHeaders());
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      connection.setRequestProperty(header.getKey(), header.getValue());
+    }
+    connection.setRequestProperty("Content-Type", request.getBodyContentType());
+
+    boolean keepConnectionOpen = false;
+    try {
+      connection.setRequestMethod(request.getMethod() == Request.Method.POST ? "POST" : "PUT");
+      connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(request.getFile().length());
+      request.writeBody(connection.getOutputStream());
+
+      int statusCode = connection.getResponseCode();
+      if (statusCode == -1) {
+        throw new IOException("Could not retrieve response code from HttpUrlConnection.");
+      }
+      List<Header> responseHeaders = new ArrayList<>();
+      for (Map.Entry<String, List<String>> entry : connection.getHeaderFields().entrySet()) {
+        if (entry.getKey() == null) continue; // status line
+        for (String value : entry.getValue()) {
+          responseHeaders.add(new Header(entry.getKey(), value));
+        }
+      }
+      if (statusCode == HttpURLConnection.HTTP_NO_CONTENT
+          || statusCode == HttpURLConnection.HTTP_NOT_MODIFIED
+          || statusCode >= 100 && statusCode < 200) {
+        return new HttpResponse(statusCode, responseHeaders);
+      }
+      InputStream inputStream;
+      try {
+        inputStream = connection.getInputStream();
+      } catch (IOException e) {
+        inputStream = connection.getErrorStream();
+      }
+      if (inputStream == null) {
+        return new HttpResponse(statusCode, responseHeaders);
+      }
+      keepConnectionOpen = true;
+      return new HttpResponse(
+          statusCode,
+          responseHeaders,
+          connection.getContentLength(),
+          new DisconnectingInputStream(inputStream, connection)
+      );
+    } finally {
+      if (!keepConnectionOpen) {
+        connection.disconnect();
+      }
+    }
+  }
+
+  private static class DisconnectingInputStream extends FilterInputStream {
+
+    private final HttpURLConnection connection;
+
+    DisconnectingInputStream(InputStream inputStream, HttpURLConnection connection) {
+      super(inputStream);
+      this.connection = connection;
+    }
+
+    @Override
+    public void close() throws IOException {
+      super.close();
+      connection.disconnect();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.android.volley.Request;
+import com.bumptech.glide.integration.volley.VolleyRequestFactory;
+import com.bumptech.glide.integration.volley.VolleyStreamFetcher.GlideRequest;
+import com.bumptech.glide.integration.volley.VolleyUrlLoader;
+import com.bumptech.glide.load.Options;
+import com.bumptech.glide.load.model.GlideUrl;
+import com.bumptech.glide.load.model.ModelLoader;
+import com.bumptech.glide.load.model.ModelLoaderFactory;
+import com.bumptech.glide.load.model.MultiModelLoaderFactory;
+import java.io.InputStream;
+
+/**
+ * Loads pictures through the picture request queue of the app instead of Glide's own
+ * HttpURLConnection fetcher, so they use the same TLS socket factory with the memorizing
+ * trust manager and client certificates, the same proxy or Tor setup and the same connections.
+ * The queue is looked up for every load, as it is replaced if the network settings change.
+ */
+public class GrocyUrlLoader implements ModelLoader<GlideUrl, InputStream> {
+
+  private static final VolleyRequestFactory REQUEST_FACTORY
+      = (url, callback, priority, headers) -> {
+        Request<byte[]> request = new GlideRequest(url, callback, priority, headers);
+        request.setShouldCache(false);
+        return request;
+      };
+
+  private final Context context;
+
+  public GrocyUrlLoader(Context context) {
+    this.context = context.getApplicationContext();
+  }
+
+  @Nullable
+  @Override
+  public LoadData<InputStream> buildLoadData(
+      @NonNull GlideUrl glideUrl,
+      int width,
+      int height,
+      @NonNull Options options
+  ) {
+    return new VolleyUrlLoader(
+        RequestQueueSingleton.getInstance(context).getPictureRequestQueue(), REQUEST_FACTORY
+    ).buildLoadData(glideUrl, width, height, options);
+  }
+
+  @Override
+  public boolean handles(@NonNull GlideUrl glideUrl) {
+    return true;
+  }
+
+  public static class Factory implements ModelLoaderFactory<GlideUrl, InputStream> {
+
+    private final Context context;
+
+    public Factory(Context context) {
+      this.context = context.getApplicationContext();
+    }
+
+    @NonNull
+    @Override
+    public ModelLoader<GlideUrl, InputStream> build(@NonNull MultiModelLoaderFactory factory) {
+      return new GrocyUrlLoader(context);
+    }
+
+    @Override
+    public void teardown() {
+    }
+  }
+}
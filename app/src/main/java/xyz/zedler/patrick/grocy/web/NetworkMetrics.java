@@ -0,0 +1,306 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.web;
+
+import androidx.annotation.NonNull;
+import com.android.volley.NetworkResponse;
+import com.android.volley.VolleyError;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Timings and payload sizes of the latest requests, grouped by endpoint. The custom requests
+ * record when the response headers arrived (wait time, which includes DNS, connect, TLS and the
+ * server), when the body was read (download), how long parsing took and how long the response
+ * listener ran on the main thread (handling, includes Gson decoding of synced entities).
+ */
+public class NetworkMetrics {
+
+  private static final int SAMPLE_COUNT = 50;
+  private static final int MAX_ENDPOINTS = 100;
+  private static final String OTHER_ENDPOINT = "other";
+  private static final Pattern ID_PATTERN = Pattern.compile("/\\d+(?=[/.]|$)");
+
+  private static NetworkMetrics instance;
+
+  private final Map<String, Endpoint> endpoints = new HashMap<>();
+
+  public static synchronized NetworkMetrics getInstance() {
+    if (instance == null) {
+      instance = new NetworkMetrics();
+    }
+    return instance;
+  }
+
+  public synchronized void clear() {
+    endpoints.clear();
+  }
+
+  public synchronized boolean isEmpty() {
+    return endpoints.isEmpty();
+  }
+
+  private synchronized void add(Timing timing, long handlingNanos, boolean failed) {
+    String name = timing.endpoint;
+    Endpoint endpoint = endpoints.get(name);
+    if (endpoint == null) {
+      if (endpoints.size() >= MAX_ENDPOINTS) {
+        name = OTHER_ENDPOINT;
+        endpoint = endpoints.get(name);
+      }
+      if (endpoint == null) {
+        endpoint = new Endpoint(name);
+        endpoints.put(name, endpoint);
+      }
+    }
+    endpoint.add(timing, handlingNanos, failed);
+  }
+
+  // sorted by the sum of the recorded request times, most expensive endpoint first
+  private List<Endpoint> getSortedEndpoints() {
+    List<Endpoint> sorted = new ArrayList<>(endpoints.values());
+    Collections.sort(sorted, (e1, e2) -> Long.compare(e2.totalMicros, e1.totalMicros));
+    return sorted;
+  }
+
+  public synchronized String getReport() {
+    StringBuilder report = new StringBuilder();
+    for (Endpoint endpoint : getSortedEndpoints()) {
+      if (report.length() > 0) report.append("\n\n");
+      endpoint.appendReport(report);
+    }
+    return report.toString();
+  }
+
+  public synchronized JSONObject toJson() throws JSONException {
+    JSONArray array = new JSONArray();
+    for (Endpoint endpoint : getSortedEndpoints()) {
+      array.put(endpoint.toJson());
+    }
+    JSONObject json = new JSONObject();
+    json.put("created", System.currentTimeMillis());
+    json.put("endpoints", array);
+    return json;
+  }
+
+  static String getEndpoint(String url) {
+    int queryIndex = url.indexOf('?');
+    if (queryIndex >= 0) url = url.substring(0, queryIndex);
+    int apiIndex = url.indexOf("/api/");
+    String path;
+    if (apiIndex >= 0) {
+      path = url.substring(apiIndex + "/api/".length());
+    } else {
+      // without scheme and credentials
+      path = url.replaceFirst("^\\w+://([^/@]*@)?", "");
+    }
+    return ID_PATTERN.matcher(path).replaceAll("/{id}");
+  }
+
+  public interface MeasuredRequest {
+
+    Timing getTiming();
+  }
+
+  /**
+   * Timestamps of one request, filled by the HurlStack and the request itself.
+   * A retry of the request starts the measurement again.
+   */
+  public static class Timing {
+
+    private final String endpoint;
+    private long startNanos;
+    private long waitNanos;
+    private long networkMillis;
+    private long parseNanos;
+    private int bytes;
+
+    public Timing(String url) {
+      endpoint = NetworkMetrics.getEndpoint(url);
+    }
+
+    public String getEndpoint() {
+      return endpoint;
+    }
+
+    void onRequestStarted() {
+      startNanos = System.nanoTime();
+      waitNanos = 0;
+    }
+
+    void onHeadersReceived() {
+      waitNanos = System.nanoTime() - startNanos;
+    }
+
+    void onParsed(@NonNull NetworkResponse response, long parseNanos) {
+      this.parseNanos = parseNanos;
+      networkMillis = response.networkTimeMs;
+      bytes = response.data != null ? response.data.length : 0;
+    }
+
+    void onDelivered(long handlingNanos) {
+      getInstance().add(this, handlingNanos, false);
+    }
+
+    void onError(@NonNull VolleyError error) {
+      if (error.networkResponse != null) {
+        networkMillis = error.networkResponse.networkTimeMs;
+        bytes = error.networkResponse.data != null ? error.networkResponse.data.length : 0;
+      } else {
+        networkMillis = error.getNetworkTimeMs();
+      }
+      getInstance().add(this, 0, true);
+    }
+
+    private long getWaitMicros() {
+      return waitNanos / 1000;
+    }
+
+    private long getDownloadMicros() {
+      // network time of Volley is measured from the request start until the body is read
+      return Math.max(0, networkMillis * 1000 - getWaitMicros());
+    }
+  }
+
+  private static class Endpoint {
+
+    private final String name;
+    private final long[] waitMicros = new long[SAMPLE_COUNT];
+    private final long[] downloadMicros = new long[SAMPLE_COUNT];
+    private final long[] parseMicros = new long[SAMPLE_COUNT];
+    private final long[] handlingMicros = new long[SAMPLE_COUNT];
+    private final long[] sampleTotalMicros = new long[SAMPLE_COUNT];
+    private final int[] bytes = new int[SAMPLE_COUNT];
+    private int next;
+    private int size;
+    private int count;
+    private int failedCount;
+    private long totalBytes;
+    private long totalMicros;
+
+    Endpoint(String name) {
+      this.name = name;
+    }
+
+    void add(Timing timing, long handlingNanos, boolean failed) {
+      waitMicros[next] = timing.getWaitMicros();
+      downloadMicros[next] = timing.getDownloadMicros();
+      parseMicros[next] = timing.parseNanos / 1000;
+      handlingMicros[next] = handlingNanos / 1000;
+      sampleTotalMicros[next] = waitMicros[next] + downloadMicros[next]
+          + parseMicros[next] + handlingMicros[next];
+      bytes[next] = timing.bytes;
+      count++;
+      if (failed) failedCount++;
+      totalBytes += timing.bytes;
+      totalMicros += sampleTotalMicros[next];
+      next = (next + 1) % SAMPLE_COUNT;
+      if (size < SAMPLE_COUNT) size++;
+    }
+
+    private long getAverage(long[] samples) {
+      long sum = 0;
+      for (int i = 0; i < size; i++) {
+        sum += samples[i];
+      }
+      return size > 0 ? sum / size : 0;
+    }
+
+    private long getPercentile(long[] samples, int percentile) {
+      if (size == 0) return 0;
+      long[] sorted = Arrays.copyOf(samples, size);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+      return sorted[Math.max(0, index)];
+    }
+
+    private long getAverageBytes() {
+      long sum = 0;
+      for (int i = 0; i < size; i++) {
+        sum += bytes[i];
+      }
+      return size > 0 ? sum / size : 0;
+    }
+
+    void appendReport(StringBuilder report) {
+      report.append(name).append('\n');
+      report.append("  ").append(count).append(" requests");
+      if (failedCount > 0) report.append(", ").append(failedCount).append(" failed");
+      report.append(", ").append(formatBytes(totalBytes)).append(" total, ")
+          .append(formatBytes(getAverageBytes())).append(" avg\n");
+      report.append("  time p50 ").append(formatMicros(getPercentile(sampleTotalMicros, 50)))
+          .append(", p95 ").append(formatMicros(getPercentile(sampleTotalMicros, 95)))
+          .append(", max ").append(formatMicros(getPercentile(sampleTotalMicros, 100)))
+          .append('\n');
+      report.append("  avg wait ").append(formatMicros(getAverage(waitMicros)))
+          .append(", download ").append(formatMicros(getAverage(downloadMicros)))
+          .append(", parse ").append(formatMicros(getAverage(parseMicros)))
+          .append(", handling ").append(formatMicros(getAverage(handlingMicros)));
+    }
+
+    JSONObject toJson() throws JSONException {
+      JSONObject json = new JSONObject();
+      json.put("endpoint", name);
+      json.put("count", count);
+      json.put("failed_count", failedCount);
+      json.put("total_bytes", totalBytes);
+      json.put("total_time_us", totalMicros);
+      JSONArray samples = new JSONArray();
+      // oldest sample first
+      for (int i = 0; i < size; i++) {
+        int index = size < SAMPLE_COUNT ? i : (next + i) % SAMPLE_COUNT;
+        JSONObject sample = new JSONObject();
+        sample.put("wait_us", waitMicros[index]);
+        sample.put("download_us", downloadMicros[index]);
+        sample.put("parse_us", parseMicros[index]);
+        sample.put("handling_us", handlingMicros[index]);
+        sample.put("bytes", bytes[index]);
+        samples.put(sample);
+      }
+      json.put("samples", samples);
+      return json;
+    }
+
+    private static String formatMicros(long micros) {
+      if (micros < 10_000) {
+        return String.format(Locale.ENGLISH, "%.1f ms", micros / 1000.0);
+      }
+      return (micros / 1000) + " ms";
+    }
+
+    private static String formatBytes(long bytes) {
+      if (bytes < 1024) return bytes + " B";
+      if (bytes < 1024 * 1024) {
+        return String.format(Locale.ENGLISH, "%.1f KB", bytes / 1024.0);
+      }
+      return String.format(Locale.ENGLISH, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+  }
+}
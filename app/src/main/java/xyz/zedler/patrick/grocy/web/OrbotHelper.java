@@ -51,7 +51,6 @@ import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.TextUtils;
-import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
@@ -70,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import xyz.zedler.patrick.grocy.util.LogUtil;
 
 /**
  * Utility class to simplify setting up a proxy connection
@@ -226,7 +226,7 @@ public class OrbotHelper {
    */
   public static boolean requestStartTor(Context context) {
     if (OrbotHelper.isOrbotInstalled(context)) {
-      Log.i("OrbotHelper", "requestStartTor " + context.getPackageName());
+      LogUtil.i("OrbotHelper", "requestStartTor " + context.getPackageName());
       Intent intent = getOrbotStartIntent(context);
       context.sendBroadcast(intent);
       return true;
@@ -273,7 +273,7 @@ public class OrbotHelper {
 
     String foundPackageName = null;
     for (ResolveInfo r : resInfos) {
-      Log.i("OrbotHelper", "market: " + r.activityInfo.packageName);
+      LogUtil.i("OrbotHelper", "market: " + r.activityInfo.packageName);
       if (TextUtils.equals(r.activityInfo.packageName, FDROID_PACKAGE_NAME)
           || TextUtils.equals(r.activityInfo.packageName, PLAY_PACKAGE_NAME)) {
         foundPackageName = r.activityInfo.packageName;
@@ -682,7 +682,7 @@ public class OrbotHelper {
                   info.activityInfo.packageName);
         }
       } catch (NoSuchAlgorithmException | NameNotFoundException e) {
-        Log.w("SignatureUtils",
+        LogUtil.w("SignatureUtils",
             "Exception when computing signature hash", e);
       }
     }
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.app.Application;
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.preference.PreferenceManager;
+import androidx.work.Constraints;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.load.model.GlideUrl;
+import com.bumptech.glide.load.model.LazyHeaders;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutionException;
+import xyz.zedler.patrick.grocy.api.GrocyApi;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.Recipe;
+import xyz.zedler.patrick.grocy.util.LogUtil;
+import xyz.zedler.patrick.grocy.util.PrefsUtil;
+
+/**
+ * Downloads the small pictures of all products and recipes into the Glide disk cache, so lists
+ * can show them instantly and while offline. Pictures which are already cached are disk hits
+ * and not downloaded again, the least recently used ones are evicted by the disk cache
+ * (size see GrocyGlideModule). Enqueued by DownloadHelper after products or recipes changed.
+ */
+public class PictureCacheWorker extends Worker {
+
+  private static final String TAG = PictureCacheWorker.class.getSimpleName();
+  private static final String WORK_NAME = "picture_cache";
+  private static final int MAX_PICTURES = 500;
+
+  public PictureCacheWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+    super(context, params);
+  }
+
+  public static void enqueue(Context context) {
+    Constraints constraints = new Constraints.Builder()
+        .setRequiredNetworkType(NetworkType.CONNECTED)
+        .setRequiresBatteryNotLow(true)
+        .build();
+    OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(PictureCacheWorker.class)
+        .setConstraints(constraints)
+        .build();
+    // a running worker may have read the old picture names already
+    WorkManager.getInstance(context).enqueueUniqueWork(
+        WORK_NAME, ExistingWorkPolicy.REPLACE, request
+    );
+  }
+
+  @NonNull
+  @Override
+  public Result doWork() {
+    Context context = getApplicationContext();
+    boolean debug = PrefsUtil.isDebuggingEnabled(
+        PreferenceManager.getDefaultSharedPreferences(context)
+    );
+    AppDatabase appDatabase = AppDatabase.getAppDatabase(context);
+    GrocyApi grocyApi = new GrocyApi((Application) context);
+
+    LinkedHashSet<String> pictureUrls = new LinkedHashSet<>();
+    for (Product product : appDatabase.productDao().getProducts().blockingGet()) {
+      if (pictureUrls.size() >= MAX_PICTURES) break;
+      String pictureFileName = product.getPictureFileName();
+      if (pictureFileName == null || pictureFileName.isEmpty() || !product.isActive()) continue;
+      pictureUrls.add(grocyApi.getProductPictureServeSmall(pictureFileName));
+    }
+    for (Recipe recipe : appDatabase.recipeDao().getRecipes().blockingGet()) {
+      if (pictureUrls.size() >= MAX_PICTURES) break;
+      String pictureFileName = recipe.getPictureFileName();
+      if (pictureFileName == null || pictureFileName.isEmpty() || recipe.getId() < 0) continue;
+      pictureUrls.add(grocyApi.getRecipePictureServeSmall(pictureFileName));
+    }
+
+    LazyHeaders grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(context);
+    int failedCount = 0;
+    for (String pictureUrl : pictureUrls) {
+      if (isStopped()) break;
+      try {
+        Glide.with(context)
+            .downloadOnly()
+            .load(new GlideUrl(pictureUrl, grocyAuthHeaders))
+            .priority(Priority.LOW)
+            .submit()
+            .get();
+      } catch (ExecutionException e) {
+        failedCount++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    if (debug) {
+      LogUtil.i(TAG, "doWork: cached " + (pictureUrls.size() - failedCount) + " of "
+          + pictureUrls.size() + " pictures");
+    }
+    return Result.success();
+  }
+}
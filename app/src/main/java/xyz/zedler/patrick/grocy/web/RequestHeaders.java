@@ -33,6 +33,12 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 
 public class RequestHeaders {
 
+  private static final Pattern SERVER_URL_WITH_CREDENTIALS = Pattern
+      .compile("(http|https)://(\\S+):(\\S+)@(\\S+)");
+
+  private static String glideAuthHeadersKey;
+  private static LazyHeaders glideAuthHeaders;
+
   public static HashMap<String, String> getGrocyAuthHeaders(Application application) {
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(application);
     String serverUrl = sharedPrefs.getString(PREF.SERVER_URL, "");
@@ -41,8 +47,7 @@ public class RequestHeaders {
         .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
 
     HashMap<String, String> params = new HashMap<>();
-    Matcher matcher = Pattern.compile("(http|https)://(\\S+):(\\S+)@(\\S+)")
-        .matcher(serverUrl != null ? serverUrl : "");
+    Matcher matcher = SERVER_URL_WITH_CREDENTIALS.matcher(serverUrl != null ? serverUrl : "");
     if (matcher.matches()) {
       String user = matcher.group(2);
       String password = matcher.group(3);
@@ -59,14 +64,27 @@ public class RequestHeaders {
     return params;
   }
 
-  public static LazyHeaders getGlideGrocyAuthHeaders(Context context) {
+  /**
+   * The headers are only built again if the server, the API key or the ingress session changed,
+   * so all picture requests for one server share the same instance.
+   */
+  public static synchronized LazyHeaders getGlideGrocyAuthHeaders(Context context) {
+    SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
+    String key = sharedPrefs.getString(PREF.SERVER_URL, "") + "\n"
+        + sharedPrefs.getString(Constants.PREF.API_KEY, "") + "\n"
+        + sharedPrefs.getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
+    if (glideAuthHeaders != null && key.equals(glideAuthHeadersKey)) {
+      return glideAuthHeaders;
+    }
     LazyHeaders.Builder headersBuilder = new LazyHeaders.Builder();
     HashMap<String, String> authHeaders = RequestHeaders
         .getGrocyAuthHeaders((Application) context.getApplicationContext());
     for (HashMap.Entry<String, String> entry : authHeaders.entrySet()) {
       headersBuilder.addHeader(entry.getKey(), entry.getValue());
     }
-    return headersBuilder.build();
+    glideAuthHeadersKey = key;
+    glideAuthHeaders = headersBuilder.build();
+    return glideAuthHeaders;
   }
 
 }
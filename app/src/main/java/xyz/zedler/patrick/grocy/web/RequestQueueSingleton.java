@@ -24,10 +24,13 @@ import android.content.SharedPreferences;
 import androidx.preference.PreferenceManager;
 import com.android.volley.Cache;
 import com.android.volley.Network;
+import com.android.volley.Request;
 import com.android.volley.RequestQueue;
+import com.android.volley.RequestQueue.RequestEvent;
+import com.android.volley.RequestQueue.RequestEventListener;
 import com.android.volley.toolbox.BasicNetwork;
 import com.android.volley.toolbox.DiskBasedCache;
-import com.android.volley.toolbox.HurlStack;
+import com.android.volley.toolbox.NoCache;
 
 import de.duenndns.ssl.MemorizingTrustManager;
 import de.ritscher.ssl.InteractiveKeyManager;
@@ -49,8 +52,14 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 
 public class RequestQueueSingleton {
 
+  private static final int THREAD_POOL_SIZE = 6;
+  private static final int PICTURE_THREAD_POOL_SIZE = 2;
+
   private static RequestQueueSingleton instance;
   private RequestQueue requestQueue;
+  private RequestQueue pictureRequestQueue;
+  private QueueStopper requestQueueStopper;
+  private QueueStopper pictureRequestQueueStopper;
   private static Context ctx;
 
   private RequestQueueSingleton(Context context) {
@@ -72,28 +81,93 @@ public class RequestQueueSingleton {
     return requestQueue;
   }
 
-  public void newRequestQueue() {
+  /**
+   * Separate small queue for picture loads on the same network stack, so a list full of
+   * pictures doesn't delay the API requests. Glide caches the pictures itself, so the
+   * responses are not written to the disk cache of Volley.
+   */
+  public RequestQueue getPictureRequestQueue() {
+    if (pictureRequestQueue == null) {
+      newRequestQueue();
+    }
+    return pictureRequestQueue;
+  }
+
+  public synchronized void newRequestQueue() {
     //requestQueue = Volley.newRequestQueue(ctx);
 
+    // the dispatcher threads of the replaced queues would otherwise run until the process dies
+    if (requestQueueStopper != null) requestQueueStopper.retire();
+    if (pictureRequestQueueStopper != null) pictureRequestQueueStopper.retire();
+
     Cache cache = new DiskBasedCache(ctx.getCacheDir(), 1024 * 1024);
 
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(ctx);
     boolean useTor = sharedPrefs.getBoolean(NETWORK.TOR, SETTINGS_DEFAULT.NETWORK.TOR);
     boolean useProxy = sharedPrefs.getBoolean(NETWORK.PROXY, SETTINGS_DEFAULT.NETWORK.PROXY);
 
-    HurlStack stack;
+    GrocyHurlStack stack;
     if (useTor || useProxy) {
       stack = new ProxyHurlStack(sharedPrefs, useTor);
     } else {
       try {
-        stack = new HurlStack(null, new TLSSocketFactory(ctx));
+        stack = new GrocyHurlStack(new TLSSocketFactory(ctx));
       } catch (NoSuchAlgorithmException | KeyManagementException e) {
-        stack = new HurlStack();
+        stack = new GrocyHurlStack();
       }
     }
     Network network = new BasicNetwork(stack);
-    requestQueue = new RequestQueue(cache, network, 6);
+    requestQueue = new RequestQueue(cache, network, THREAD_POOL_SIZE);
     requestQueue.start();
+    requestQueueStopper = new QueueStopper(requestQueue);
+    pictureRequestQueue = new RequestQueue(new NoCache(), network, PICTURE_THREAD_POOL_SIZE);
+    pictureRequestQueue.start();
+    pictureRequestQueueStopper = new QueueStopper(pictureRequestQueue);
+  }
+
+  /**
+   * Stops a replaced queue once all of its requests are finished, so requests which were added
+   * before the replacement still deliver their responses. DownloadHelpers which were created
+   * before the replacement keep adding to their queue, which is then started again until it is
+   * idle again. Canceled requests are finished by the dispatchers as well.
+   */
+  private static class QueueStopper implements RequestEventListener {
+
+    private final RequestQueue queue;
+    private int pendingRequests;
+    private boolean retired;
+    private boolean stopped;
+
+    private QueueStopper(RequestQueue queue) {
+      this.queue = queue;
+      queue.addRequestEventListener(this);
+    }
+
+    @Override
+    public synchronized void onRequestEvent(Request<?> request, int event) {
+      if (event == RequestEvent.REQUEST_QUEUED) {
+        pendingRequests++;
+        if (stopped) {
+          stopped = false;
+          queue.start();
+        }
+      } else if (event == RequestEvent.REQUEST_FINISHED) {
+        pendingRequests--;
+        stopIfIdle();
+      }
+    }
+
+    private synchronized void retire() {
+      retired = true;
+      stopIfIdle();
+    }
+
+    private void stopIfIdle() {
+      if (retired && !stopped && pendingRequests <= 0) {
+        stopped = true;
+        queue.stop();
+      }
+    }
   }
 
   private static class TLSSocketFactory extends SSLSocketFactory {
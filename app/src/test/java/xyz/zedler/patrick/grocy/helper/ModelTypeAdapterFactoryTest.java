@@ -0,0 +1,194 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.junit.Test;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.BadDoubleTypeAdapter;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+import xyz.zedler.patrick.grocy.model.ShoppingListItem;
+import xyz.zedler.patrick.grocy.model.StockEntry;
+import xyz.zedler.patrick.grocy.model.StockItem;
+
+/**
+ * Decodes sample responses with the streaming adapters of ModelTypeAdapterFactory and with the
+ * reflective adapters they replace, and compares the results field by field. The samples mix
+ * the ways servers send values: numbers as strings and the other way around, nulls, booleans,
+ * decimal commas and fields which the app doesn't know.
+ */
+public class ModelTypeAdapterFactoryTest {
+
+  private static final String PRODUCTS = "["
+      + "{\"id\":\"1\",\"name\":\"Milk\",\"description\":\"<p>Fresh</p>\","
+      + "\"product_group_id\":\"2\",\"active\":\"1\",\"location_id\":\"3\","
+      + "\"shopping_location_id\":null,\"qu_id_purchase\":\"4\",\"qu_id_stock\":\"5\","
+      + "\"qu_factor_purchase_to_stock\":\"6.0\",\"qu_id_consume\":\"5\",\"qu_id_price\":\"4\","
+      + "\"min_stock_amount\":\"2\",\"default_best_before_days\":\"7\","
+      + "\"default_best_before_days_after_open\":\"3\","
+      + "\"default_best_before_days_after_freezing\":\"-1\","
+      + "\"default_best_before_days_after_thawing\":\"0\",\"picture_file_name\":\"milk.jpg\","
+      + "\"enable_tare_weight_handling\":\"0\",\"tare_weight\":\"0.0\","
+      + "\"not_check_stock_fulfillment_for_recipes\":\"0\",\"parent_product_id\":null,"
+      + "\"calories\":\"64.5\",\"cumulate_min_stock_amount_of_sub_products\":\"0\","
+      + "\"due_type\":\"1\",\"quick_consume_amount\":\"1\",\"quick_open_amount\":\"1\","
+      + "\"hide_on_stock_overview\":\"0\",\"default_stock_label_type\":\"0\","
+      + "\"auto_reprint_stock_label\":\"0\",\"should_not_be_frozen\":\"0\","
+      + "\"treat_opened_as_out_of_stock\":\"1\",\"no_own_stock\":\"0\","
+      + "\"default_consume_location_id\":null,\"move_on_open\":\"0\","
+      + "\"row_created_timestamp\":\"2023-05-01 12:00:00\","
+      + "\"userfields\":{\"brand\":\"Farm\",\"organic\":\"1\"}},"
+      + "{\"id\":2,\"name\":\"Flour\",\"description\":null,\"product_group_id\":null,"
+      + "\"active\":1,\"location_id\":3,\"qu_id_purchase\":4,\"qu_id_stock\":4,"
+      + "\"qu_factor_purchase_to_stock\":1,\"min_stock_amount\":0.5,"
+      + "\"enable_tare_weight_handling\":true,\"calories\":null,\"userfields\":null,"
+      + "\"new_server_field\":{\"nested\":[1,2]},\"another_one\":[]}"
+      + "]";
+
+  private static final String STOCK_ITEMS = "["
+      + "{\"product_id\":\"1\",\"amount\":\"2\",\"amount_aggregated\":\"2\","
+      + "\"value\":\"3.4567\",\"best_before_date\":\"2024-01-31\",\"amount_opened\":\"1\","
+      + "\"amount_opened_aggregated\":\"1\",\"is_aggregated_amount\":\"0\",\"due_type\":\"1\","
+      + "\"product\":{\"id\":\"1\",\"name\":\"Milk\",\"qu_id_stock\":\"5\","
+      + "\"userfields\":{\"brand\":\"Farm\"}}},"
+      + "{\"product_id\":2,\"amount\":1.5,\"amount_aggregated\":1.5,\"value\":null,"
+      + "\"best_before_date\":\"2999-12-31\",\"amount_opened\":0,"
+      + "\"amount_opened_aggregated\":0,\"is_aggregated_amount\":false,\"due_type\":2,"
+      + "\"product\":null,\"unknown\":\"x\"}"
+      + "]";
+
+  private static final String STOCK_ENTRIES = "["
+      + "{\"id\":\"10\",\"product_id\":\"1\",\"amount\":\"2.5\","
+      + "\"best_before_date\":\"2024-01-31\",\"purchased_date\":\"2024-01-01\","
+      + "\"stock_id\":\"65a1b2c3d4e5f\",\"price\":\"1.29\",\"open\":\"0\","
+      + "\"opened_date\":null,\"row_created_timestamp\":\"2024-01-01 10:00:00\","
+      + "\"location_id\":\"3\",\"shopping_location_id\":\"1\",\"note\":\"Shelf\"},"
+      + "{\"id\":11,\"product_id\":1,\"amount\":1,\"best_before_date\":\"2024-02-28\","
+      + "\"purchased_date\":null,\"stock_id\":\"65a1b2c3d4e60\",\"price\":null,\"open\":1,"
+      + "\"opened_date\":\"2024-02-01\",\"location_id\":3,\"shopping_location_id\":null,"
+      + "\"note\":null},"
+      + "{\"id\":\"12\",\"product_id\":\"2\",\"amount\":\"0,75\",\"open\":null}"
+      + "]";
+
+  private static final String SHOPPING_LIST_ITEMS = "["
+      + "{\"id\":\"1\",\"note\":null,\"amount\":\"3\",\"shopping_list_id\":\"1\","
+      + "\"qu_id\":\"4\",\"done\":\"0\",\"product_id\":\"1\","
+      + "\"row_created_timestamp\":\"2024-01-01 10:00:00\"},"
+      + "{\"id\":2,\"note\":\"Birthday\",\"amount\":0.5,\"shopping_list_id\":2,"
+      + "\"qu_id\":null,\"done\":1,\"product_id\":null,\"userfields\":null}"
+      + "]";
+
+  private static final String PRODUCT_BARCODES = "["
+      + "{\"id\":\"1\",\"product_id\":\"1\",\"barcode\":\"4012345678901\",\"qu_id\":\"4\","
+      + "\"amount\":\"6\",\"shopping_location_id\":null,\"last_price\":\"0.99\","
+      + "\"note\":null,\"row_created_timestamp\":\"2024-01-01 10:00:00\"},"
+      + "{\"id\":2,\"product_id\":2,\"barcode\":\"0042\",\"qu_id\":null,\"amount\":null,"
+      + "\"shopping_location_id\":1,\"last_price\":1.5,\"note\":\"Pack\"}"
+      + "]";
+
+  private final Gson gson = new GsonBuilder()
+      .registerTypeAdapter(Double.class, new BadDoubleTypeAdapter())
+      .registerTypeAdapter(double.class, new BadDoubleTypeAdapter())
+      .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+      .create();
+  // the configuration before the streaming adapters, also used to write both results
+  private final Gson reflectiveGson = new GsonBuilder()
+      .registerTypeAdapter(Double.class, new BadDoubleTypeAdapter())
+      .registerTypeAdapter(double.class, new BadDoubleTypeAdapter())
+      .serializeNulls()
+      .create();
+
+  @Test
+  public void products_matchReflectiveAdapter() {
+    assertSameResult(PRODUCTS, Product.LIST_TYPE);
+  }
+
+  @Test
+  public void stockItems_matchReflectiveAdapter() {
+    assertSameResult(STOCK_ITEMS, StockItem.LIST_TYPE);
+  }
+
+  @Test
+  public void stockEntries_matchReflectiveAdapter() {
+    assertSameResult(STOCK_ENTRIES, StockEntry.LIST_TYPE);
+  }
+
+  @Test
+  public void shoppingListItems_matchReflectiveAdapter() {
+    assertSameResult(SHOPPING_LIST_ITEMS, ShoppingListItem.LIST_TYPE);
+  }
+
+  @Test
+  public void productBarcodes_matchReflectiveAdapter() {
+    assertSameResult(PRODUCT_BARCODES, ProductBarcode.LIST_TYPE);
+  }
+
+  @Test
+  public void stockEntry_decimalComma() {
+    StockEntry stockEntry = gson.fromJson("{\"amount\":\"0,75\"}", StockEntry.class);
+    assertEquals(0.75, stockEntry.getAmount(), 0);
+  }
+
+  @Test
+  public void stockEntry_malformedAmount() {
+    assertThrows(
+        JsonSyntaxException.class,
+        () -> gson.fromJson("{\"id\":1,\"amount\":\"two\"}", StockEntry.class)
+    );
+    assertThrows(
+        JsonSyntaxException.class,
+        () -> gson.fromJson("{\"id\":1,\"amount\":\"\"}", StockEntry.class)
+    );
+    assertThrows(
+        JsonSyntaxException.class,
+        () -> gson.fromJson("{\"id\":1,\"amount\":true}", StockEntry.class)
+    );
+  }
+
+  @Test
+  public void malformedInt() {
+    assertThrows(
+        JsonSyntaxException.class,
+        () -> gson.fromJson("{\"id\":\"1a\"}", Product.class)
+    );
+  }
+
+  private void assertSameResult(String json, Type listType) {
+    List<?> expected = reflectiveGson.fromJson(json, listType);
+    List<?> actual = gson.fromJson(json, listType);
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(
+          "item " + i,
+          JsonParser.parseString(reflectiveGson.toJson(expected.get(i))),
+          JsonParser.parseString(reflectiveGson.toJson(actual.get(i)))
+      );
+    }
+  }
+}
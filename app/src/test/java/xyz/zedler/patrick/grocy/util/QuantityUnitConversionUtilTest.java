@@ -0,0 +1,257 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.QuantityUnit;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
+
+/**
+ * Compares the indexed unit factor lookup with the linear scan over all conversions which it
+ * replaced, for servers from 4.0.0 on (resolved conversions) and for older servers.
+ */
+public class QuantityUnitConversionUtilTest {
+
+  private static final int UNIT_COUNT = 20;
+  private static final int PRODUCT_COUNT = 300;
+
+  private final HashMap<Integer, QuantityUnit> quantityUnitHashMap = new HashMap<>();
+  private final List<Product> products = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    QuantityUnitConversionUtil.invalidateConversionIndex();
+    for (int id = 1; id <= UNIT_COUNT; id++) {
+      QuantityUnit unit = new QuantityUnit();
+      unit.setId(id);
+      unit.setName("Unit " + id);
+      quantityUnitHashMap.put(id, unit);
+    }
+    Random random = new Random(42);
+    for (int id = 1; id <= PRODUCT_COUNT; id++) {
+      Product product = new Product();
+      product.setId(id);
+      product.setName("Product " + id);
+      product.setQuIdStock(1 + random.nextInt(UNIT_COUNT));
+      product.setQuIdPurchase(random.nextBoolean()
+          ? product.getQuIdStockInt() : 1 + random.nextInt(UNIT_COUNT));
+      product.setQuFactorPurchaseToStock(String.valueOf(1 + random.nextInt(24)));
+      products.add(product);
+    }
+  }
+
+  @Test
+  public void resolvedConversions_matchLinearScan() {
+    List<QuantityUnitConversionResolved> conversions = newConversions(true);
+    for (Product product : products) {
+      assertEquals(
+          "product " + product.getId(),
+          getUnitFactorsLinearResolved(conversions, product),
+          QuantityUnitConversionUtil.getUnitFactors(
+              quantityUnitHashMap, conversions, product, true
+          )
+      );
+    }
+  }
+
+  @Test
+  public void plainConversions_containLinearScan() {
+    // the transitive resolution for older servers may add units which are only reachable over
+    // several conversions, but every direct factor has to stay the same
+    List<QuantityUnitConversionResolved> conversions = newConversions(false);
+    for (Product product : products) {
+      HashMap<QuantityUnit, Double> expected = getUnitFactorsLinearPlain(conversions, product);
+      HashMap<QuantityUnit, Double> actual = QuantityUnitConversionUtil.getUnitFactors(
+          quantityUnitHashMap, conversions, product, false
+      );
+      for (Map.Entry<QuantityUnit, Double> entry : expected.entrySet()) {
+        assertEquals(
+            "product " + product.getId() + ", unit " + entry.getKey().getId(),
+            entry.getValue(),
+            actual.get(entry.getKey())
+        );
+      }
+      for (Double factor : actual.values()) {
+        assertTrue("product " + product.getId(), factor > 0);
+      }
+    }
+  }
+
+  @Test
+  public void plainConversions_withoutChains_matchLinearScan() {
+    Product product = products.get(0);
+    product.setQuIdStock(1);
+    product.setQuIdPurchase(2);
+    product.setQuFactorPurchaseToStock("6");
+    List<QuantityUnitConversionResolved> conversions = new ArrayList<>();
+    conversions.add(newConversion(1, String.valueOf(product.getId()), 1, 3, 10));
+    conversions.add(newConversion(2, null, 1, 4, 2));
+    conversions.add(newConversion(3, null, 5, 6, 3));
+
+    assertEquals(
+        getUnitFactorsLinearPlain(conversions, product),
+        QuantityUnitConversionUtil.getUnitFactors(quantityUnitHashMap, conversions, product, false)
+    );
+  }
+
+  @Test
+  public void changedConversionList_rebuildsIndex() {
+    Product product = products.get(0);
+    List<QuantityUnitConversionResolved> conversions = newConversions(true);
+    QuantityUnitConversionUtil.getUnitFactors(quantityUnitHashMap, conversions, product, true);
+
+    // a sync replaces the list, the index must not be reused
+    List<QuantityUnitConversionResolved> synced = new ArrayList<>(conversions);
+    int toQuId = product.getQuIdStockInt() % UNIT_COUNT + 1;
+    synced.add(0, newConversion(
+        Integer.MAX_VALUE, String.valueOf(product.getId()), product.getQuIdStockInt(), toQuId, 7
+    ));
+    assertEquals(
+        getUnitFactorsLinearResolved(synced, product),
+        QuantityUnitConversionUtil.getUnitFactors(quantityUnitHashMap, synced, product, true)
+    );
+    assertEquals(
+        Double.valueOf(7),
+        QuantityUnitConversionUtil.getUnitFactors(
+            quantityUnitHashMap, synced, product, true
+        ).get(quantityUnitHashMap.get(toQuId))
+    );
+  }
+
+  /**
+   * Conversions like in the database: product specific ones in both directions and, with
+   * duplicates for the same target unit, standard ones without product.
+   */
+  private List<QuantityUnitConversionResolved> newConversions(boolean resolved) {
+    Random random = new Random(7);
+    List<QuantityUnitConversionResolved> conversions = new ArrayList<>();
+    int id = 1;
+    for (Product product : products) {
+      String productId = String.valueOf(product.getId());
+      int quIdStock = product.getQuIdStockInt();
+      int quIdPurchase = product.getQuIdPurchaseInt();
+      double factor = product.getQuFactorPurchaseToStockDouble();
+      if (resolved) {
+        conversions.add(newConversion(id++, productId, quIdStock, quIdStock, 1));
+      }
+      if (quIdPurchase != quIdStock) {
+        conversions.add(newConversion(id++, productId, quIdStock, quIdPurchase, 1 / factor));
+        conversions.add(newConversion(id++, productId, quIdPurchase, quIdStock, factor));
+      }
+      int extraCount = random.nextInt(4);
+      for (int i = 0; i < extraCount; i++) {
+        int fromQuId = random.nextBoolean() ? quIdStock : 1 + random.nextInt(UNIT_COUNT);
+        conversions.add(newConversion(
+            id++, productId, fromQuId, 1 + random.nextInt(UNIT_COUNT), 1 + random.nextInt(1000)
+        ));
+      }
+    }
+    for (int i = 0; i < UNIT_COUNT * 3; i++) {
+      conversions.add(newConversion(
+          id++,
+          null,
+          1 + random.nextInt(UNIT_COUNT),
+          1 + random.nextInt(UNIT_COUNT),
+          1 + random.nextInt(1000)
+      ));
+    }
+    return conversions;
+  }
+
+  private static QuantityUnitConversionResolved newConversion(
+      int id,
+      String productId,
+      int fromQuId,
+      int toQuId,
+      double factor
+  ) {
+    QuantityUnitConversion conversion = new QuantityUnitConversion();
+    conversion.setId(id);
+    conversion.setProductId(productId);
+    conversion.setFromQuId(fromQuId);
+    conversion.setToQuId(toQuId);
+    conversion.setFactor(factor);
+    return new QuantityUnitConversionResolved(conversion);
+  }
+
+  // linear scan of QuantityUnitConversionUtil before the index, for servers from 4.0.0 on
+  private HashMap<QuantityUnit, Double> getUnitFactorsLinearResolved(
+      List<QuantityUnitConversionResolved> unitConversions,
+      Product product
+  ) {
+    HashMap<QuantityUnit, Double> unitFactors = new HashMap<>();
+    for (QuantityUnitConversion conversion : unitConversions) {
+      if (conversion.getProductIdInt() != product.getId()) continue;
+      if (conversion.getFromQuId() != product.getQuIdStockInt()) continue;
+      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
+      if (unit == null || unitFactors.containsKey(unit)) continue;
+      unitFactors.put(unit, conversion.getFactor());
+    }
+    return unitFactors;
+  }
+
+  // linear scan of QuantityUnitConversionUtil before the index, for servers below 4.0.0
+  private HashMap<QuantityUnit, Double> getUnitFactorsLinearPlain(
+      List<QuantityUnitConversionResolved> unitConversions,
+      Product product
+  ) {
+    QuantityUnit stockUnit = quantityUnitHashMap.get(product.getQuIdStockInt());
+    QuantityUnit purchaseUnit = quantityUnitHashMap.get(product.getQuIdPurchaseInt());
+    HashMap<QuantityUnit, Double> unitFactors = new HashMap<>();
+    if (stockUnit == null || purchaseUnit == null) {
+      return unitFactors;
+    }
+    unitFactors.put(stockUnit, (double) 1);
+    if (!unitFactors.containsKey(purchaseUnit)) {
+      unitFactors.put(purchaseUnit, 1 / product.getQuFactorPurchaseToStockDouble());
+    }
+    for (QuantityUnitConversion conversion : unitConversions) {
+      if (!NumUtil.isStringInt(conversion.getProductId())
+          || product.getId() != conversion.getProductIdInt()) {
+        continue;
+      }
+      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
+      if (unit == null || unitFactors.containsKey(unit)) continue;
+      unitFactors.put(unit, conversion.getFactor());
+    }
+    for (QuantityUnitConversion conversion : unitConversions) {
+      if (NumUtil.isStringInt(conversion.getProductId())
+          || stockUnit.getId() != conversion.getFromQuId()) {
+        continue;
+      }
+      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
+      if (unit == null || unitFactors.containsKey(unit)) continue;
+      unitFactors.put(unit, conversion.getFactor());
+    }
+    return unitFactors;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.zedler.patrick.grocy.util.ArrayUtil;
+
+@State(Scope.Benchmark)
+public class ArrayUtilBenchmark {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int productCount;
+
+  private Dataset dataset;
+
+  @Setup
+  public void setup() {
+    dataset = new Dataset(productCount);
+  }
+
+  @Benchmark
+  public Object getProductsHashMap() {
+    return ArrayUtil.getProductsHashMap(dataset.products);
+  }
+
+  @Benchmark
+  public Object getProductNamesHashMap() {
+    return ArrayUtil.getProductNamesHashMap(dataset.products);
+  }
+
+  @Benchmark
+  public Object getProductBarcodesHashMap() {
+    return ArrayUtil.getProductBarcodesHashMap(dataset.barcodes);
+  }
+
+  @Benchmark
+  public Object getBarcodeHashMap() {
+    return ArrayUtil.getBarcodeHashMap(dataset.barcodes);
+  }
+
+  @Benchmark
+  public Object getQuantityUnitsHashMap() {
+    return ArrayUtil.getQuantityUnitsHashMap(dataset.quantityUnits);
+  }
+}
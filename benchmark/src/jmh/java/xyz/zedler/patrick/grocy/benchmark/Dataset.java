@@ -0,0 +1,165 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.BadDoubleTypeAdapter;
+import xyz.zedler.patrick.grocy.helper.ModelTypeAdapterFactory;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+import xyz.zedler.patrick.grocy.model.QuantityUnit;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
+
+/**
+ * Synthetic data in the shape of a Grocy server with the given number of products. The same
+ * product count always results in the same data, so runs can be compared.
+ */
+public class Dataset {
+
+  private static final long SEED = 42;
+
+  public final List<Product> products = new ArrayList<>();
+  public final List<QuantityUnit> quantityUnits = new ArrayList<>();
+  public final HashMap<Integer, QuantityUnit> quantityUnitHashMap = new HashMap<>();
+  public final List<QuantityUnitConversionResolved> conversions = new ArrayList<>();
+  public final List<ProductBarcode> barcodes = new ArrayList<>();
+  public final List<String> amounts = new ArrayList<>();
+  public final String productsJson;
+  public final String barcodesJson;
+
+  public Dataset(int productCount) {
+    Random random = new Random(SEED);
+    int unitCount = Math.max(10, productCount / 50);
+    for (int id = 1; id <= unitCount; id++) {
+      QuantityUnit unit = new QuantityUnit();
+      unit.setId(id);
+      unit.setName("Unit " + id);
+      quantityUnits.add(unit);
+      quantityUnitHashMap.put(id, unit);
+    }
+
+    StringBuilder productsBuilder = new StringBuilder("[");
+    StringBuilder barcodesBuilder = new StringBuilder("[");
+    int conversionId = 1;
+    int barcodeId = 1;
+    for (int id = 1; id <= productCount; id++) {
+      int quIdStock = 1 + random.nextInt(unitCount);
+      int quIdPurchase = random.nextBoolean() ? quIdStock : 1 + random.nextInt(unitCount);
+      double factor = 1 + random.nextInt(24);
+      String pictureFileName = random.nextInt(4) == 0 ? "picture_" + id + ".jpg" : null;
+
+      Product product = new Product();
+      product.setId(id);
+      product.setName("Product " + id);
+      product.setQuIdStock(quIdStock);
+      product.setQuIdPurchase(quIdPurchase);
+      product.setQuFactorPurchaseToStock(String.valueOf(factor));
+      product.setPictureFileName(pictureFileName);
+      products.add(product);
+
+      // stock unit to itself, to the purchase unit and back, like the resolved server table
+      conversions.add(newConversion(conversionId++, id, quIdStock, quIdStock, 1));
+      if (quIdPurchase != quIdStock) {
+        conversions.add(newConversion(conversionId++, id, quIdStock, quIdPurchase, 1 / factor));
+        conversions.add(newConversion(conversionId++, id, quIdPurchase, quIdStock, factor));
+      }
+
+      if (id > 1) productsBuilder.append(',');
+      // Grocy sends most numbers as strings, some servers as numbers
+      productsBuilder.append("{\"id\":").append(id)
+          .append(",\"name\":\"Product ").append(id)
+          .append("\",\"description\":null,\"product_group_id\":\"")
+          .append(1 + random.nextInt(20))
+          .append("\",\"active\":1,\"location_id\":\"").append(1 + random.nextInt(10))
+          .append("\",\"shopping_location_id\":null,\"qu_id_purchase\":\"").append(quIdPurchase)
+          .append("\",\"qu_id_stock\":\"").append(quIdStock)
+          .append("\",\"qu_factor_purchase_to_stock\":\"").append(factor)
+          .append("\",\"min_stock_amount\":").append(random.nextInt(5))
+          .append(",\"default_best_before_days\":\"").append(random.nextInt(30))
+          .append("\",\"picture_file_name\":")
+          .append(pictureFileName != null ? "\"" + pictureFileName + "\"" : "null")
+          .append(",\"calories\":\"").append(random.nextInt(900)).append(".5\"")
+          .append(",\"userfields\":null")
+          .append(",\"row_created_timestamp\":\"2023-05-01 12:00:00\"}");
+
+      int barcodeCount = id % 5 == 0 ? 2 : 1;
+      for (int i = 0; i < barcodeCount; i++) {
+        String code = String.format(Locale.ENGLISH, "40%011d", (long) id * 10 + i);
+        ProductBarcode barcode = new ProductBarcode();
+        barcode.setId(barcodeId);
+        barcode.setProductId(String.valueOf(id));
+        barcode.setBarcode(code);
+        barcodes.add(barcode);
+
+        if (barcodeId > 1) barcodesBuilder.append(',');
+        barcodesBuilder.append("{\"id\":").append(barcodeId)
+            .append(",\"product_id\":\"").append(id)
+            .append("\",\"barcode\":\"").append(code)
+            .append("\",\"qu_id\":\"").append(quIdPurchase)
+            .append("\",\"amount\":\"").append(factor)
+            .append("\",\"shopping_location_id\":null,\"last_price\":\"")
+            .append(random.nextInt(1000) / 100.0)
+            .append("\",\"note\":null,\"row_created_timestamp\":\"2023-05-01 12:00:00\"}");
+        barcodeId++;
+      }
+
+      amounts.add(random.nextBoolean()
+          ? String.valueOf(random.nextInt(100))
+          : String.valueOf(random.nextInt(10000) / 100.0));
+    }
+    productsJson = productsBuilder.append(']').toString();
+    barcodesJson = barcodesBuilder.append(']').toString();
+  }
+
+  /**
+   * Returns a Gson instance which is configured like the one in DownloadHelper.
+   */
+  public static Gson newGson() {
+    return new GsonBuilder()
+        .registerTypeAdapter(Double.class, new BadDoubleTypeAdapter())
+        .registerTypeAdapter(double.class, new BadDoubleTypeAdapter())
+        .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+        .create();
+  }
+
+  private static QuantityUnitConversionResolved newConversion(
+      int id,
+      int productId,
+      int fromQuId,
+      int toQuId,
+      double factor
+  ) {
+    QuantityUnitConversion conversion = new QuantityUnitConversion();
+    conversion.setId(id);
+    conversion.setProductId(String.valueOf(productId));
+    conversion.setFromQuId(fromQuId);
+    conversion.setToQuId(toQuId);
+    conversion.setFactor(factor);
+    return new QuantityUnitConversionResolved(conversion);
+  }
+}
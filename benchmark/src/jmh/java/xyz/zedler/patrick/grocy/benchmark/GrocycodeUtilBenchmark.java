@@ -0,0 +1,61 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
+
+@State(Scope.Benchmark)
+public class GrocycodeUtilBenchmark {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int productCount;
+
+  private List<String> codes;
+
+  @Setup
+  public void setup() {
+    // scanned codes are mostly product barcodes, every fourth one is a grocycode
+    List<ProductBarcode> barcodes = new Dataset(productCount).barcodes;
+    codes = new ArrayList<>(barcodes.size());
+    for (int i = 0; i < barcodes.size(); i++) {
+      ProductBarcode barcode = barcodes.get(i);
+      codes.add(i % 4 == 0
+          ? "grcy:p:" + barcode.getProductIdInt() + ":x" + barcode.getId()
+          : barcode.getBarcode());
+    }
+  }
+
+  @Benchmark
+  public void getGrocycode(Blackhole blackhole) {
+    for (String code : codes) {
+      blackhole.consume(GrocycodeUtil.getGrocycode(code));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+
+/**
+ * Parses the products and product barcodes responses, which are the largest ones of a sync.
+ */
+@State(Scope.Benchmark)
+public class GsonBenchmark {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int productCount;
+
+  private Gson gson;
+  private String productsJson;
+  private String barcodesJson;
+
+  @Setup
+  public void setup() {
+    Dataset dataset = new Dataset(productCount);
+    gson = Dataset.newGson();
+    productsJson = dataset.productsJson;
+    barcodesJson = dataset.barcodesJson;
+  }
+
+  @Benchmark
+  public Object parseProducts() {
+    return gson.fromJson(productsJson, Product.LIST_TYPE);
+  }
+
+  @Benchmark
+  public Object parseProductBarcodes() {
+    return gson.fromJson(barcodesJson, ProductBarcode.LIST_TYPE);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.zedler.patrick.grocy.util.NumUtil;
+
+@State(Scope.Benchmark)
+public class NumUtilBenchmark {
+
+  @Param({"100", "1000", "10000", "50000"})
+  public int productCount;
+
+  private List<String> amounts;
+  private double[] values;
+
+  @Setup
+  public void setup() {
+    amounts = new Dataset(productCount).amounts;
+    values = new double[amounts.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Double.parseDouble(amounts.get(i));
+    }
+  }
+
+  @Benchmark
+  public void trimAmount(Blackhole blackhole) {
+    for (double value : values) {
+      blackhole.consume(NumUtil.trimAmount(value, 2));
+    }
+  }
+
+  @Benchmark
+  public void trimPrice(Blackhole blackhole) {
+    for (double value : values) {
+      blackhole.consume(NumUtil.trimPrice(value, 2));
+    }
+  }
+
+  @Benchmark
+  public void toDouble(Blackhole blackhole) {
+    for (String amount : amounts) {
+      blackhole.consume(NumUtil.toDouble(amount));
+    }
+  }
+
+  @Benchmark
+  public void isStringDouble(Blackhole blackhole) {
+    for (String amount : amounts) {
+      blackhole.consume(NumUtil.isStringDouble(amount));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2023 by Patrick Zedler and Dominic Zedler
+ */
+
+package xyz.zedler.patrick.grocy.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xyz.zedler.patrick.grocy.model.Recipe;
+import xyz.zedler.patrick.grocy.model.RecipeNesting;
+import xyz.zedler.patrick.grocy.model.RecipeNestingResolved;
+
+/**
+ * Computes the recipe nesting closure, which is rewritten after every recipe sync once the
+ * recipe nestings are synced. The recipes are split into chains of the given depth, in which
+ * every recipe includes the previous one.
+ */
+@State(Scope.Benchmark)
+public class RecipeNestingResolvedBenchmark {
+
+  @Param({"100", "1000", "5000"})
+  public int recipeCount;
+
+  @Param({"1", "4", "16"})
+  public int depth;
+
+  private final List<Recipe> recipes = new ArrayList<>();
+  private final List<RecipeNesting> recipeNestings = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    for (int id = 1; id <= recipeCount; id++) {
+      Recipe recipe = new Recipe();
+      recipe.setId(id);
+      recipe.setName("Recipe " + id);
+      recipes.add(recipe);
+
+      if ((id - 1) % depth == 0) continue;
+      RecipeNesting nesting = new RecipeNesting();
+      nesting.setId(recipeNestings.size() + 1);
+      nesting.setRecipeId(id);
+      nesting.setIncludesRecipeId(id - 1);
+      nesting.setServings(1 + id % 3);
+      recipeNestings.add(nesting);
+    }
+  }
+
+  @Benchmark
+  public Object resolveRecipeNestings() {
+    return RecipeNestingResolved.resolveRecipeNestings(recipes, recipeNestings);
+  }
+}